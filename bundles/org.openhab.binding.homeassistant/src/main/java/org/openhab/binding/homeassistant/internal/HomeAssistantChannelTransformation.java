@@ -42,7 +42,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
-    private final Value template;
+    private final String template;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
@@ -68,7 +68,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.python = python;
         this.component = component;
         this.command = command;
-        this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
+        this.template = python.getTemplateSource(template);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
     }
@@ -21,10 +21,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
@@ -32,13 +39,21 @@ import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Centralizes all calls into python to ensure thread safety and a single cached context
+ * Centralizes all calls into python to ensure thread safety.
+ *
+ * Discovery and template creation use a primary context. Template rendering is spread over a small pool of contexts
+ * sharing one polyglot {@link Engine}, so that templates of different devices can be rendered in parallel. Python
+ * objects are bound to the context that created them, so each pooled context compiles its own copy of a template from
+ * the template source and keeps it for later renders. Further contexts are created in the background when all
+ * contexts are busy, while the render waits for the first context to become available.
  *
  * @author Cody Cutrer - Initial contribution
  */
@@ -46,113 +61,214 @@ import org.slf4j.LoggerFactory;
 @Component(service = HomeAssistantPythonBridge.class)
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    private static final String THREAD_POOL_NAME = "homeassistant-python";
+    private static final int MAX_CONTEXTS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    private static final String SETUP_SCRIPT = """
+            # we need to set up the path just like it would have been set up on Linux, even if we're
+            # on Windows
+            import os
+            import sys
+
+            try:
+                import requests
+                requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
+            except Exception:
+                pass
+
+            if os.sep != '/':
+                sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+
+            from homeassistant.helpers.template import Template
+            from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+            from homeassistant.components.mqtt.discovery import process_discovery_config
+
+            def new_raw_template(template):
+                return Template(template)
+
+            def new_command_template(template):
+                return MqttCommandTemplate(template)
+
+            def render_command_template(template, value):
+                return template.render(value=value)
+
+            def render_command_template_with_variables(template, value, variables):
+                return template.render(value=value, variables=variables)
+
+            def new_value_template(template):
+                return MqttValueTemplate(template)
+
+            def render_value_template(template, payload, default):
+                return template.render_with_possible_json_value(payload=payload, default=default)
+
+            def render_value_template_with_variables(template, payload, default, variables):
+                return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+            """;
+
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private final Engine engine;
+    private final PythonContext primary;
+    private final List<PythonContext> contexts = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<PythonContext> idleContexts = new LinkedBlockingQueue<>();
+    private final AtomicInteger contextCount = new AtomicInteger(1);
+    private boolean closed;
+
+    private long renders;
+    private long renderNanos;
+    private long maxRenderNanos;
+    private long waitNanos;
+    private long maxWaitNanos;
 
     @Activate
     public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
-
         // Set cache path if not already configured (e.g., by test environment)
         if (System.getProperty("polyglot.engine.userResourceCache") == null) {
             File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
             System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
         }
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
-
-        Value bindings = context.getBindings(PYTHON);
-
-        context.eval(PYTHON,
-                """
-                        # we need to set up the path just like it would have been set up on Linux, even if we're
-                        # on Windows
-                        import os
-                        import sys
-
-                        try:
-                            import requests
-                            requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
-                        except Exception:
-                            pass
-
-                        if os.sep != '/':
-                            sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+        engine = Engine.newBuilder().logHandler(new LogHandler(logger)).option("engine.WarnInterpreterOnly", "false")
+                .build();
+        primary = new PythonContext(engine);
+        contexts.add(primary);
+        idleContexts.add(primary);
+    }
 
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
+    @Deactivate
+    public void deactivate() {
+        logger.debug("Rendered {} templates on {} contexts, average {} µs (max {} µs), pool wait {} µs (max {} µs)",
+                getRenderCount(), contexts.size(), getAverageRenderMicros(), getMaxRenderMicros(),
+                getAveragePoolWaitMicros(), getMaxPoolWaitMicros());
+        synchronized (contexts) {
+            closed = true;
+            idleContexts.clear();
+            contexts.forEach(context -> context.context.close(true));
+            contexts.clear();
+        }
+        // also cancels a context still being created in the background
+        engine.close(true);
+    }
 
-                        def new_raw_template(template):
-                            return Template(template)
+    public Value newRawTemplate(String template) {
+        return primary.newRawTemplateMeth.execute(template);
+    }
 
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
+    /**
+     * Get the source of a template, so it can be rendered on any of the pooled contexts
+     */
+    public String getTemplateSource(Value template) {
+        Value source = template.getMember("template");
+        if (source == null || !source.isString()) {
+            throw new IllegalArgumentException("Not a template: " + template);
+        }
+        return source.asString();
+    }
 
-                        def render_command_template(template, value):
-                            return template.render(value=value)
+    public String renderCommandTemplate(String template, Object value) {
+        return render(context -> context.renderCommandTemplateMeth.execute(context.commandTemplate(template), value)
+                .asString());
+    }
 
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
+    public String renderCommandTemplate(String template, Object value, Map<String, @Nullable Object> variables) {
+        return render(context -> context.renderCommandTemplateWithVariablesMeth
+                .execute(context.commandTemplate(template), value, variables).asString());
+    }
 
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
+    public String renderValueTemplate(String template, Object payload, String defaultValue) {
+        return render(context -> context.renderValueTemplateMeth
+                .execute(context.valueTemplate(template), payload, defaultValue).asString());
+    }
 
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
+    public String renderValueTemplate(String template, Object payload, String defaultValue,
+            Map<String, @Nullable Object> variables) {
+        return render(context -> context.renderValueTemplateWithVariablesMeth
+                .execute(context.valueTemplate(template), payload, defaultValue, variables).asString());
+    }
 
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+    public synchronized long getRenderCount() {
+        return renders;
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    public synchronized long getAverageRenderMicros() {
+        return renders == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(renderNanos / renders);
     }
 
-    public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+    public synchronized long getMaxRenderMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxRenderNanos);
     }
 
-    public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+    public synchronized long getAveragePoolWaitMicros() {
+        return renders == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(waitNanos / renders);
     }
 
-    public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+    public synchronized long getMaxPoolWaitMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxWaitNanos);
     }
 
-    public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+    private String render(Function<PythonContext, String> renderer) {
+        long start = System.nanoTime();
+        PythonContext context = acquireContext();
+        long acquired = System.nanoTime();
+        try {
+            return renderer.apply(context);
+        } finally {
+            idleContexts.add(context);
+            recordRender(acquired - start, System.nanoTime() - acquired);
+        }
     }
 
-    public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+    private PythonContext acquireContext() {
+        PythonContext context = idleContexts.poll();
+        if (context != null) {
+            return context;
+        }
+        int count = contextCount.get();
+        while (count < MAX_CONTEXTS) {
+            if (contextCount.compareAndSet(count, count + 1)) {
+                logger.debug("All {} python contexts are busy, creating another one", count);
+                ThreadPoolManager.getPool(THREAD_POOL_NAME).execute(this::addContext);
+                break;
+            }
+            count = contextCount.get();
+        }
+        try {
+            return idleContexts.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a python context", e);
+        }
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+    private void addContext() {
+        PythonContext context;
+        try {
+            context = new PythonContext(engine);
+        } catch (RuntimeException e) {
+            contextCount.decrementAndGet();
+            logger.warn("Failed to create python context: {}", e.getMessage());
+            return;
+        }
+        synchronized (contexts) {
+            if (closed) {
+                context.context.close(true);
+                return;
+            }
+            contexts.add(context);
+            idleContexts.add(context);
+        }
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue,
-            Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+    private synchronized void recordRender(long waited, long rendered) {
+        renders++;
+        renderNanos += rendered;
+        maxRenderNanos = Math.max(maxRenderNanos, rendered);
+        waitNanos += waited;
+        maxWaitNanos = Math.max(maxWaitNanos, waited);
     }
 
     public List<MqttComponentConfig> processDiscoveryConfig(String topic, String payload) {
         try {
             @SuppressWarnings("unchecked")
-            List<Value> configs = (List<Value>) toJava(processDiscoveryConfigMeth.execute(topic, payload));
+            List<Value> configs = (List<Value>) toJava(primary.processDiscoveryConfigMeth.execute(topic, payload));
             if (configs == null || configs.isEmpty()) {
                 throw new ConfigurationException("Invalid configuration");
             }
@@ -191,7 +307,7 @@ public class HomeAssistantPythonBridge {
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            Value pyList = primary.listMeth.execute(value);
             @SuppressWarnings("unchecked")
             List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
@@ -205,4 +321,51 @@ public class HomeAssistantPythonBridge {
         Object r = value.as(Object.class);
         return r;
     }
+
+    /**
+     * A python context with the Home Assistant helpers loaded and a cache of the templates compiled in it. The
+     * template cache may only be used by the thread which took the context from the pool.
+     */
+    private static class PythonContext {
+        private final Context context;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth,
+                renderCommandTemplateMeth, renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth,
+                renderValueTemplateWithVariablesMeth, processDiscoveryConfigMeth, listMeth;
+        private final Map<String, Value> templates = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, Value> eldest) {
+                return size() > MAX_CACHED_TEMPLATES;
+            }
+        };
+
+        PythonContext(Engine engine) {
+            VirtualFileSystem vfs = VirtualFileSystem.newBuilder()
+                    .resourceLoadingClass(HomeAssistantPythonBridge.class).build();
+            context = GraalPyResources.contextBuilder(vfs).engine(engine).build();
+            context.eval(PYTHON, SETUP_SCRIPT);
+
+            Value bindings = context.getBindings(PYTHON);
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            listMeth = bindings.getMember("list");
+        }
+
+        Value commandTemplate(String source) {
+            return templates.computeIfAbsent("command:" + source,
+                    key -> newCommandTemplateMeth.execute(newRawTemplateMeth.execute(source)));
+        }
+
+        Value valueTemplate(String source) {
+            return templates.computeIfAbsent("value:" + source,
+                    key -> newValueTemplateMeth.execute(newRawTemplateMeth.execute(source)));
+        }
+    }
 }
@@ -17,6 +17,13 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,6 +115,28 @@ public class HomeAssistantChannelTransformationTests extends AbstractHomeAssista
                 is("off"));
     }
 
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        HomeAssistantChannelTransformation transformation = new HomeAssistantChannelTransformation(PYTHON, component,
+                PYTHON.newRawTemplate("{{ value_json.val }}-{{ value_json.val * 2 }}"), false);
+        long rendersBefore = PYTHON.getRenderCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<@Nullable String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                String payload = "{ \"val\": " + i + " }";
+                results.add(executor.submit(() -> transformation.transform(payload)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get(60, TimeUnit.SECONDS), is(i + "-" + i * 2));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(PYTHON.getRenderCount() - rendersBefore, is(40L));
+    }
+
     protected @Nullable Object transform(String template, Object value) {
         return new HomeAssistantChannelTransformation(PYTHON, component, PYTHON.newRawTemplate(template), false)
                 .transform(value);
@@ -44,6 +44,7 @@ import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.SharedUrlCacheRegistry;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
@@ -90,6 +91,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final SharedUrlCacheRegistry sharedUrlCaches;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
@@ -98,12 +100,13 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            TimeZoneProvider timeZoneProvider) {
+            TimeZoneProvider timeZoneProvider, SharedUrlCacheRegistry sharedUrlCaches) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
+        this.sharedUrlCaches = sharedUrlCaches;
     }
 
     @Override
@@ -239,7 +242,11 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
                     urlHandlerCount, thing.getUID(), config.delay, config.refresh);
         }
 
-        urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        if (config.shareRequests) {
+            sharedUrlCaches.start(this, config.refresh);
+        } else {
+            urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        }
 
         updateStatus(ThingStatus.UNKNOWN);
     }
@@ -247,7 +254,11 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     @Override
     public void dispose() {
         // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        if (config.shareRequests) {
+            sharedUrlCaches.unsubscribe(this);
+        } else {
+            urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        }
         rateLimitedHttpClient.shutdown();
 
         // clear lists
@@ -335,10 +346,17 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             // we need a key consisting of stateContent and URL, only if both are equal, we can use the same cache
             String key = channelConfig.stateContent + "$" + stateUrl;
             channelUrls.put(channelUID, key);
-            Objects.requireNonNull(urlHandlers.computeIfAbsent(key,
-                    k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config, channelConfig.stateContent,
-                            config.contentType, this, channelConfig.refreshAfterCommand)))
-                    .addConsumer(itemValueConverter::process);
+            if (config.shareRequests) {
+                // the cache is shared with other things requesting the same URL
+                urlHandlers.put(key, sharedUrlCaches.subscribe(config, stateUrl, channelConfig.stateContent,
+                        config.contentType, channelConfig.refreshAfterCommand, this, itemValueConverter::process));
+            } else {
+                Objects.requireNonNull(urlHandlers.computeIfAbsent(key,
+                        k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
+                                channelConfig.stateContent, config.contentType, this,
+                                channelConfig.refreshAfterCommand)))
+                        .addConsumer(itemValueConverter::process);
+            }
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
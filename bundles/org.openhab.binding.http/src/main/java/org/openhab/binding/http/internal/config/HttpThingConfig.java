@@ -52,6 +52,9 @@ public class HttpThingConfig {
 
     public boolean ignoreSSLErrors = false;
     public boolean strictErrorHandling = false;
+    public boolean conditionalRequests = false;
+    public boolean skipUnchanged = false;
+    public boolean shareRequests = false;
 
     // ArrayList is required as implementation because list may be modified later
     public ArrayList<String> headers = new ArrayList<>();
@@ -15,8 +15,10 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -25,11 +27,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
@@ -40,6 +47,10 @@ import org.slf4j.LoggerFactory;
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
  *
+ * With {@code conditionalRequests}, GET requests carry the {@code ETag}/{@code Last-Modified} validators of the last
+ * response, so the server can answer with 304 (Not Modified) instead of sending the same content again. With
+ * {@code skipUnchanged}, content identical to the last content is not passed to the channels again.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -59,9 +70,22 @@ public class RefreshingUrlCache {
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
     private final boolean refreshAfterCommand;
+    private final boolean conditionalRequests;
+    private final boolean skipUnchanged;
 
     private @Nullable ScheduledFuture<?> future;
     private @Nullable ChannelHandlerContent lastContent;
+    private @Nullable Validators validators;
+
+    private long notModifiedResponses;
+    private long bytesSaved;
+    private long skippedUpdates;
+
+    /**
+     * Cache validators from a response, only valid for the (formatted) URI they were received from
+     */
+    private record Validators(URI uri, @Nullable String etag, @Nullable String lastModified) {
+    }
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
@@ -82,6 +106,8 @@ public class RefreshingUrlCache {
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
         this.refreshAfterCommand = refreshAfterCommand;
+        this.conditionalRequests = thingConfig.conditionalRequests && httpMethod == HttpMethod.GET;
+        this.skipUnchanged = thingConfig.skipUnchanged;
         fallbackEncoding = thingConfig.encoding;
     }
 
@@ -94,6 +120,21 @@ public class RefreshingUrlCache {
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
     }
 
+    /**
+     * Restart the refresh task with a new interval, keeping the consumers
+     *
+     * @param executor the executor for the refresh task
+     * @param refreshTime the new refresh interval in s
+     */
+    public synchronized void restart(ScheduledExecutorService executor, int refreshTime) {
+        ScheduledFuture<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+            this.future = null;
+        }
+        start(executor, refreshTime);
+    }
+
     public void stop() {
         // clearing all listeners to prevent further updates
         consumers.clear();
@@ -102,6 +143,8 @@ public class RefreshingUrlCache {
             future.cancel(true);
             logger.trace("Stopped refresh task for URL '{}'", url);
         }
+        logger.debug("Refresh statistics for URL '{}': {} not modified responses, {} bytes saved, {} skipped updates",
+                url, getNotModifiedResponses(), getBytesSaved(), getSkippedUpdates());
     }
 
     private void refresh() {
@@ -130,6 +173,12 @@ public class RefreshingUrlCache {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
 
+                ChannelHandlerContent cachedContent = conditionalRequests ? addValidators(request, uri) : null;
+                AtomicReference<@Nullable Validators> responseValidators = new AtomicReference<>();
+                if (conditionalRequests) {
+                    request.onResponseHeaders(response -> responseValidators.set(getValidators(uri, response)));
+                }
+
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
                 responseContentFuture.exceptionally(t -> {
                     if (t instanceof HttpAuthException) {
@@ -141,14 +190,14 @@ public class RefreshingUrlCache {
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> processResult(content, cachedContent, responseValidators.get()));
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
                 request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                        httpStatusListener, cachedContent));
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -166,11 +215,55 @@ public class RefreshingUrlCache {
         consumers.add(consumer);
     }
 
+    public void removeConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
+        consumers.remove(consumer);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
     public Optional<ChannelHandlerContent> getCached() {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ChannelHandlerContent content) {
+    /**
+     * Adds the validators of the last response to a request, if they were received for the same URI
+     *
+     * @return the content a 304 (Not Modified) response refers to, or null if the request is not conditional
+     */
+    private synchronized @Nullable ChannelHandlerContent addValidators(Request request, URI uri) {
+        Validators validators = this.validators;
+        ChannelHandlerContent cachedContent = lastContent;
+        if (validators == null || cachedContent == null || !validators.uri().equals(uri)) {
+            return null;
+        }
+        String etag = validators.etag();
+        if (etag != null) {
+            request.header(HttpHeader.IF_NONE_MATCH, etag);
+        }
+        String lastModified = validators.lastModified();
+        if (lastModified != null) {
+            request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+        }
+        return cachedContent;
+    }
+
+    private @Nullable Validators getValidators(URI uri, Response response) {
+        int status = response.getStatus();
+        if (status != HttpStatus.OK_200 && status != HttpStatus.NOT_MODIFIED_304) {
+            return null;
+        }
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        String lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+        return (etag == null && lastModified == null) ? null : new Validators(uri, etag, lastModified);
+    }
+
+    private void processResult(@Nullable ChannelHandlerContent content, @Nullable ChannelHandlerContent cachedContent,
+            @Nullable Validators responseValidators) {
+        if (content != null && !updateCacheState(content, cachedContent, responseValidators)) {
+            return;
+        }
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
@@ -182,4 +275,56 @@ public class RefreshingUrlCache {
         }
         lastContent = content;
     }
+
+    /**
+     * Updates validators and counters for a received content
+     *
+     * @return false if the content is unchanged and consumers shall not be notified
+     */
+    private synchronized boolean updateCacheState(ChannelHandlerContent content,
+            @Nullable ChannelHandlerContent cachedContent, @Nullable Validators responseValidators) {
+        // the response listener passes the cached content itself on for a 304 (Not Modified) response
+        boolean notModified = content == cachedContent;
+        if (notModified) {
+            notModifiedResponses++;
+            bytesSaved += content.getRawContent().length;
+            logger.trace("Content of '{}' not modified", url);
+        }
+        if (conditionalRequests && (responseValidators != null || !notModified)) {
+            validators = responseValidators;
+        }
+
+        ChannelHandlerContent previousContent = lastContent;
+        if (skipUnchanged && previousContent != null && (notModified || isSameContent(content, previousContent))) {
+            skippedUpdates++;
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isSameContent(ChannelHandlerContent content, ChannelHandlerContent previousContent) {
+        return Arrays.equals(content.getRawContent(), previousContent.getRawContent())
+                && Objects.equals(content.getMediaType(), previousContent.getMediaType());
+    }
+
+    /**
+     * @return the number of 304 (Not Modified) responses received
+     */
+    public synchronized long getNotModifiedResponses() {
+        return notModifiedResponses;
+    }
+
+    /**
+     * @return the number of content bytes the server did not have to send due to 304 (Not Modified) responses
+     */
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * @return the number of responses that were not passed to the channels because the content was unchanged
+     */
+    public synchronized long getSkippedUpdates() {
+        return skippedUpdates;
+    }
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.http.internal.HttpClientProvider;
+import org.openhab.binding.http.internal.config.HttpAuthMode;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SharedUrlCacheRegistry} provides binding-wide {@link RefreshingUrlCache}s for things with
+ * {@code shareRequests} enabled. All things requesting the same URL with the same request and response settings
+ * share one cache, i.e. one request per refresh. The refresh interval is the shortest interval of all subscribed
+ * things, the delay between two requests to the same host is the longest delay of all subscribed things.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SharedUrlCacheRegistry {
+    private final Logger logger = LoggerFactory.getLogger(SharedUrlCacheRegistry.class);
+
+    private final HttpClientProvider httpClientProvider;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<CacheKey, SharedCache> caches = new HashMap<>();
+    private final Map<String, SharedClient> clients = new HashMap<>();
+
+    /**
+     * Everything that influences the request or the processing of the response
+     */
+    private record CacheKey(String url, HttpMethod method, String content, @Nullable String contentType,
+            Map<String, String> headers, boolean ignoreSSLErrors, HttpAuthMode authMode, String username,
+            int timeout, int bufferSize, @Nullable String encoding, boolean strictErrorHandling,
+            boolean conditionalRequests, boolean skipUnchanged, boolean refreshAfterCommand) {
+    }
+
+    private static class SharedCache {
+        private final RefreshingUrlCache cache;
+        private final SharedStatusListener statusListener;
+        private final String clientKey;
+        private final Map<HttpStatusListener, Subscription> subscriptions = new HashMap<>();
+        private int refresh;
+
+        private SharedCache(RefreshingUrlCache cache, SharedStatusListener statusListener, String clientKey) {
+            this.cache = cache;
+            this.statusListener = statusListener;
+            this.clientKey = clientKey;
+        }
+    }
+
+    private static class Subscription {
+        private final List<Consumer<@Nullable ChannelHandlerContent>> consumers = new ArrayList<>();
+        private int refresh;
+    }
+
+    private static class SharedClient {
+        private final RateLimitedHttpClient httpClient;
+        private final Map<HttpStatusListener, Integer> delays = new HashMap<>();
+        private int delay;
+
+        private SharedClient(RateLimitedHttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+    }
+
+    /**
+     * Passes the request results on to all things subscribed to a cache
+     */
+    private static class SharedStatusListener implements HttpStatusListener {
+        private final Set<HttpStatusListener> listeners = new CopyOnWriteArraySet<>();
+
+        @Override
+        public void onHttpError(@Nullable String message) {
+            listeners.forEach(listener -> listener.onHttpError(message));
+        }
+
+        @Override
+        public void onHttpSuccess() {
+            listeners.forEach(HttpStatusListener::onHttpSuccess);
+        }
+    }
+
+    public SharedUrlCacheRegistry(HttpClientProvider httpClientProvider, ScheduledExecutorService scheduler) {
+        this.httpClientProvider = httpClientProvider;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Subscribe a consumer to the shared cache for a URL. The cache is not refreshed for this thing before
+     * {@link #start} is called.
+     *
+     * @param thingConfig the configuration of the subscribing thing
+     * @param url the (unformatted) state URL
+     * @param content the state content
+     * @param contentType the content type of the state content
+     * @param refreshAfterCommand whether the cache shall be refreshed after commands
+     * @param statusListener the subscribing thing
+     * @param consumer the consumer for the content
+     * @return the shared cache
+     */
+    public synchronized RefreshingUrlCache subscribe(HttpThingConfig thingConfig, String url, String content,
+            @Nullable String contentType, boolean refreshAfterCommand, HttpStatusListener statusListener,
+            Consumer<@Nullable ChannelHandlerContent> consumer) {
+        CacheKey key = new CacheKey(url, thingConfig.stateMethod, content, contentType,
+                Map.copyOf(thingConfig.getHeaders()), thingConfig.ignoreSSLErrors, thingConfig.authMode,
+                thingConfig.username, thingConfig.timeout, thingConfig.bufferSize, thingConfig.encoding,
+                thingConfig.strictErrorHandling, thingConfig.conditionalRequests, thingConfig.skipUnchanged,
+                refreshAfterCommand);
+
+        String clientKey = clientKey(url, thingConfig.ignoreSSLErrors);
+        SharedClient client = clients.computeIfAbsent(clientKey,
+                k -> new SharedClient(new RateLimitedHttpClient(thingConfig.ignoreSSLErrors
+                        ? httpClientProvider.getInsecureClient()
+                        : httpClientProvider.getSecureClient(), scheduler)));
+        client.delays.put(statusListener, thingConfig.delay);
+        updateDelay(client);
+
+        SharedCache sharedCache = caches.get(key);
+        if (sharedCache == null) {
+            SharedStatusListener sharedStatusListener = new SharedStatusListener();
+            RefreshingUrlCache cache = new RefreshingUrlCache(client.httpClient, url, thingConfig, content,
+                    contentType, sharedStatusListener, refreshAfterCommand);
+            sharedCache = new SharedCache(cache, sharedStatusListener, clientKey);
+            caches.put(key, sharedCache);
+            logger.debug("Created shared cache for URL '{}'", url);
+        }
+
+        Subscription subscription = sharedCache.subscriptions.computeIfAbsent(statusListener,
+                k -> new Subscription());
+        subscription.consumers.add(consumer);
+        sharedCache.cache.addConsumer(consumer);
+        return sharedCache.cache;
+    }
+
+    /**
+     * Start refreshing the caches a thing is subscribed to
+     *
+     * @param statusListener the subscribing thing
+     * @param refresh the refresh interval requested by the thing in s
+     */
+    public synchronized void start(HttpStatusListener statusListener, int refresh) {
+        for (SharedCache sharedCache : caches.values()) {
+            Subscription subscription = sharedCache.subscriptions.get(statusListener);
+            if (subscription != null) {
+                subscription.refresh = refresh;
+                sharedCache.statusListener.listeners.add(statusListener);
+                updateRefresh(sharedCache);
+            }
+        }
+    }
+
+    /**
+     * Remove all subscriptions of a thing. Caches without subscriptions are stopped.
+     *
+     * @param statusListener the subscribing thing
+     */
+    public synchronized void unsubscribe(HttpStatusListener statusListener) {
+        Iterator<SharedCache> iterator = caches.values().iterator();
+        while (iterator.hasNext()) {
+            SharedCache sharedCache = iterator.next();
+            Subscription subscription = sharedCache.subscriptions.remove(statusListener);
+            if (subscription == null) {
+                continue;
+            }
+            sharedCache.statusListener.listeners.remove(statusListener);
+            subscription.consumers.forEach(sharedCache.cache::removeConsumer);
+            if (sharedCache.subscriptions.isEmpty()) {
+                sharedCache.cache.stop();
+                iterator.remove();
+                logger.debug("Removed shared cache for URL '{}'", sharedCache.cache.getUrl());
+            } else {
+                updateRefresh(sharedCache);
+            }
+        }
+
+        Iterator<SharedClient> clientIterator = clients.values().iterator();
+        while (clientIterator.hasNext()) {
+            SharedClient client = clientIterator.next();
+            if (client.delays.remove(statusListener) == null) {
+                continue;
+            }
+            if (client.delays.isEmpty()) {
+                client.httpClient.shutdown();
+                clientIterator.remove();
+            } else {
+                updateDelay(client);
+            }
+        }
+    }
+
+    /**
+     * Stop all caches and clients
+     */
+    public synchronized void dispose() {
+        caches.values().forEach(sharedCache -> sharedCache.cache.stop());
+        caches.clear();
+        clients.values().forEach(client -> client.httpClient.shutdown());
+        clients.clear();
+    }
+
+    /**
+     * @return the number of shared caches, i.e. distinct requests
+     */
+    public synchronized int getCacheCount() {
+        return caches.size();
+    }
+
+    private void updateRefresh(SharedCache sharedCache) {
+        int refresh = sharedCache.subscriptions.values().stream().mapToInt(subscription -> subscription.refresh)
+                .filter(r -> r > 0).min().orElse(0);
+        if (refresh > 0 && refresh != sharedCache.refresh) {
+            sharedCache.refresh = refresh;
+            sharedCache.cache.restart(scheduler, refresh);
+        }
+    }
+
+    private void updateDelay(SharedClient client) {
+        int delay = client.delays.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        if (delay != client.delay) {
+            client.delay = delay;
+            client.httpClient.setDelay(delay);
+        }
+    }
+
+    /**
+     * Requests to the same host share a rate limit, the key consists of protocol, host and port
+     */
+    private static String clientKey(String url, boolean ignoreSSLErrors) {
+        String[] parts = url.split("/", 4);
+        String origin = parts.length >= 3 ? parts[0] + "//" + parts[2] : url;
+        return (ignoreSSLErrors ? "insecure:" : "") + origin;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.openhab.binding.http.internal.HttpClientProvider;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpStatusListener;
+import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.SharedUrlCacheRegistry;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+/**
+ * The {@link SharedUrlCacheRegistryTest} implements tests for the {@link SharedUrlCacheRegistry}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SharedUrlCacheRegistryTest extends AbstractWireMockTest {
+    private static final String TEST_LOCATION = "/testlocation";
+    private static final String TEST_CONTENT = "TESTCONTENT";
+
+    private @NonNullByDefault({}) SharedUrlCacheRegistry registry;
+    private @NonNullByDefault({}) String url;
+
+    private final List<@Nullable ChannelHandlerContent> firstContents = new CopyOnWriteArrayList<>();
+    private final List<@Nullable ChannelHandlerContent> secondContents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void initTest() {
+        // this is usually done inside the HttpHandlerFactory when creating the clients
+        httpClient.setUserAgentField(null);
+
+        HttpClientProvider httpClientProvider = mock(HttpClientProvider.class);
+        when(httpClientProvider.getSecureClient()).thenReturn(httpClient);
+        registry = new SharedUrlCacheRegistry(httpClientProvider, scheduler);
+
+        url = "http://localhost:" + port + TEST_LOCATION;
+        WireMock.resetAllRequests();
+    }
+
+    @AfterEach
+    public void cleanUpTest() {
+        registry.dispose();
+        firstContents.clear();
+        secondContents.clear();
+        super.cleanUpTest();
+    }
+
+    @Test
+    public void testThingsShareOneRequest() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        HttpStatusListener firstThing = mock(HttpStatusListener.class);
+        HttpStatusListener secondThing = mock(HttpStatusListener.class);
+
+        RefreshingUrlCache firstCache = registry.subscribe(thingConfig(1), url, "", null, false, firstThing,
+                firstContents::add);
+        RefreshingUrlCache secondCache = registry.subscribe(thingConfig(5), url, "", null, false, secondThing,
+                secondContents::add);
+        registry.start(firstThing, 1);
+        registry.start(secondThing, 5);
+
+        // both things use the same cache, refreshed with the shorter interval
+        assertSame(firstCache, secondCache);
+        assertEquals(1, registry.getCacheCount());
+        waitForAssert(() -> assertTrue(secondContents.size() >= 3));
+
+        registry.unsubscribe(firstThing);
+        registry.unsubscribe(secondThing);
+        assertEquals(0, registry.getCacheCount());
+
+        // each request was passed on to both things (a request may still have been in flight when unsubscribing)
+        int requests = WireMock.findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size();
+        assertTrue(requests <= firstContents.size() + 1);
+        assertTrue(requests <= secondContents.size() + 1);
+        verify(firstThing, atLeastOnce()).onHttpSuccess();
+        verify(secondThing, atLeastOnce()).onHttpSuccess();
+    }
+
+    @Test
+    public void testDifferentSettingsUseSeparateCaches() {
+        HttpStatusListener firstThing = mock(HttpStatusListener.class);
+        HttpStatusListener secondThing = mock(HttpStatusListener.class);
+        HttpThingConfig secondConfig = thingConfig(1);
+        secondConfig.headers.add("X-Test=1");
+
+        RefreshingUrlCache firstCache = registry.subscribe(thingConfig(1), url, "", null, false, firstThing,
+                firstContents::add);
+        RefreshingUrlCache secondCache = registry.subscribe(secondConfig, url, "", null, false, secondThing,
+                secondContents::add);
+
+        assertNotSame(firstCache, secondCache);
+        assertEquals(2, registry.getCacheCount());
+
+        registry.unsubscribe(firstThing);
+        assertEquals(1, registry.getCacheCount());
+    }
+
+    @Test
+    public void testRefreshAfterCommandUsesSeparateCache() {
+        HttpStatusListener firstThing = mock(HttpStatusListener.class);
+        HttpStatusListener secondThing = mock(HttpStatusListener.class);
+
+        RefreshingUrlCache firstCache = registry.subscribe(thingConfig(1), url, "", null, false, firstThing,
+                firstContents::add);
+        RefreshingUrlCache secondCache = registry.subscribe(thingConfig(1), url, "", null, true, secondThing,
+                secondContents::add);
+
+        assertNotSame(firstCache, secondCache);
+        assertEquals(2, registry.getCacheCount());
+    }
+
+    @Test
+    public void testRemainingThingKeepsReceivingContent() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        HttpStatusListener firstThing = mock(HttpStatusListener.class);
+        HttpStatusListener secondThing = mock(HttpStatusListener.class);
+
+        registry.subscribe(thingConfig(1), url, "", null, false, firstThing, firstContents::add);
+        registry.subscribe(thingConfig(1), url, "", null, false, secondThing, secondContents::add);
+        registry.start(firstThing, 1);
+        registry.start(secondThing, 1);
+        waitForAssert(() -> assertTrue(firstContents.size() >= 1));
+
+        registry.unsubscribe(firstThing);
+        int firstCount = firstContents.size();
+        int secondCount = secondContents.size();
+
+        waitForAssert(() -> assertTrue(secondContents.size() >= secondCount + 2));
+        assertEquals(firstCount, firstContents.size());
+        assertEquals(1, registry.getCacheCount());
+    }
+
+    private HttpThingConfig thingConfig(int refresh) {
+        HttpThingConfig thingConfig = new HttpThingConfig();
+        thingConfig.baseURL = "http://localhost:" + port;
+        thingConfig.timeout = 500;
+        thingConfig.refresh = refresh;
+        thingConfig.shareRequests = true;
+        return thingConfig;
+    }
+}
@@ -17,8 +17,6 @@ import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 import java.time.Duration;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -107,8 +105,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressListenerIndex groupAddressListeners = new GroupAddressListenerIndex();
+    private final ReadDatapointScheduler readDatapoints;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -149,6 +147,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
+        this.readDatapoints = new ReadDatapointScheduler(readingPause);
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
@@ -312,6 +311,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (tmpLink != null) {
             tmpLink.removeLinkListener(this);
         }
+        logger.debug("Read requests: {} sent, {} failed, {} merged, average response time {} ms",
+                readDatapoints.getSentReads(), readDatapoints.getFailedReads(), readDatapoints.getMergedReads(),
+                Math.round(readDatapoints.getAverageLatencyMillis()));
         readDatapoints.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
@@ -341,13 +343,18 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
+        long start = System.nanoTime();
+        readDatapoints.telegramReceived(start);
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        boolean isHandled = !listeners.isEmpty();
+        for (GroupAddressListener listener : listeners) {
+            knxScheduler.schedule(() -> {
+                long processingStart = System.nanoTime();
+                action.apply(listener, source, destination, asdu);
+                commandExtensionData.telegramStatistics().telegramProcessed(System.nanoTime() - processingStart);
+            }, 0, TimeUnit.SECONDS);
+        }
+        commandExtensionData.telegramStatistics().telegramDispatched(System.nanoTime() - start, isHandled);
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -364,8 +371,6 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    // datapoint is null at end of the list, warning is misleading
-    @SuppressWarnings("null")
     private void readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
             return;
@@ -374,7 +379,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readDatapoints.poll(System.nanoTime());
         if (datapoint != null) {
             // TODO #8872: allow write access, currently only listening mode
             if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
@@ -384,12 +389,15 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             }
 
             datapoint.incrementRetries();
+            long start = System.nanoTime();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                readCompleted(start);
             } catch (KNXException e) {
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
+                readDatapoints.readFailed(System.nanoTime());
                 if (datapoint.getRetries() < datapoint.getLimit()) {
                     readDatapoints.add(datapoint);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
@@ -410,6 +418,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    private void readCompleted(long start) {
+        long now = System.nanoTime();
+        readDatapoints.readCompleted(now - start, now);
+        logger.trace("Read request answered after {} ms, pausing {} ms, {} initial and {} periodic reads pending",
+                TimeUnit.NANOSECONDS.toMillis(now - start), readDatapoints.getPauseMillis(now),
+                readDatapoints.getPendingInitialReads(), readDatapoints.getPendingPeriodicReads());
+    }
+
     public void dispose() {
         state = ClientState.DISPOSE;
 
@@ -509,13 +525,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, boolean periodic) {
+        readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit, periodic));
     }
 
     @Override
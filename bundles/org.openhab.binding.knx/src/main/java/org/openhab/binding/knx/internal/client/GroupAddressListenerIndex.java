@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import io.calimero.GroupAddress;
+
+/**
+ * Index of the registered {@link GroupAddressListener}s by {@link GroupAddress}, so that incoming telegrams can be
+ * dispatched without asking every listener whether it is interested in the destination.
+ *
+ * The group addresses of a listener are captured when it is registered. A listener changing its group addresses
+ * needs to be registered again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressListenerIndex {
+
+    private final Map<GroupAddress, Set<GroupAddressListener>> listenersByAddress = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> addressesByListener = new ConcurrentHashMap<>();
+
+    /**
+     * Add the given listener for all group addresses it currently listens to, replacing a previous registration.
+     *
+     * @param listener the listener
+     */
+    public synchronized void add(GroupAddressListener listener) {
+        remove(listener);
+        Set<GroupAddress> addresses = Set.copyOf(listener.getGroupAddresses());
+        addressesByListener.put(listener, addresses);
+        for (GroupAddress address : addresses) {
+            listenersByAddress.computeIfAbsent(address, k -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+    }
+
+    /**
+     * Remove the given listener from all group addresses it was registered for.
+     *
+     * @param listener the listener
+     */
+    public synchronized void remove(GroupAddressListener listener) {
+        Set<GroupAddress> addresses = addressesByListener.remove(listener);
+        if (addresses == null) {
+            return;
+        }
+        for (GroupAddress address : addresses) {
+            listenersByAddress.computeIfPresent(address, (k, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+        }
+    }
+
+    /**
+     * Get the listeners registered for the given group address.
+     *
+     * @param destination the group address
+     * @return the listeners, empty if no listener is interested in the group address
+     */
+    public Set<GroupAddressListener> get(GroupAddress destination) {
+        return listenersByAddress.getOrDefault(destination, Set.of());
+    }
+
+    /**
+     * @return the number of registered listeners
+     */
+    public int getListenerCount() {
+        return addressesByListener.size();
+    }
+
+    /**
+     * @return the number of group addresses with at least one listener
+     */
+    public int getGroupAddressCount() {
+        return listenersByAddress.size();
+    }
+}
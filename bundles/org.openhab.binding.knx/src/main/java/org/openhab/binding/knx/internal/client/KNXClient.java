@@ -61,7 +61,8 @@ public interface KNXClient {
     void restartNetworkDevice(@Nullable IndividualAddress address);
 
     /**
-     * Register the given listener to be informed on KNX bus traffic.
+     * Register the given listener to be informed on KNX bus traffic to its group addresses.
+     * Registering a listener again updates the group addresses it is informed about.
      *
      * @param listener the listener
      */
@@ -78,8 +79,9 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param periodic {@code true} for a periodic refresh, which is sent after pending initial reads
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, boolean periodic);
 
     /**
      * Write a command to the KNX bus.
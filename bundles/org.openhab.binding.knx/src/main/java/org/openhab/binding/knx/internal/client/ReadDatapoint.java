@@ -28,11 +28,17 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private final boolean periodic;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
+        this(datapoint, limit, false);
+    }
+
+    public ReadDatapoint(Datapoint datapoint, int limit, boolean periodic) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.periodic = periodic;
     }
 
     public Datapoint getDatapoint() {
@@ -51,6 +57,14 @@ public class ReadDatapoint {
         return limit;
     }
 
+    /**
+     * @return {@code true} if the read has been triggered by the read interval and not by a thing or channel
+     *         becoming active
+     */
+    public boolean isPeriodic() {
+        return periodic;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.calimero.GroupAddress;
+
+/**
+ * Queue of the data points waiting to be read from the KNX bus.
+ *
+ * Read requests are deduplicated by group address. Initial reads, i.e. reads triggered by a thing coming online or a
+ * channel being linked, are sent before periodic reads triggered by the readInterval of a device.
+ *
+ * The pause between two read requests starts at the configured reading pause and is stretched when the bus is busy
+ * or slow to answer, so reading many data points does not flood the line.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadDatapointScheduler {
+
+    /** telegrams per second above which the pause is stretched, about half of the capacity of a TP1 line */
+    static final int BUS_LOAD_THRESHOLD = 20;
+    /** response time of a read request above which the pause is stretched */
+    static final int LATENCY_THRESHOLD_MS = 200;
+    /** upper limit of the pause, as a multiple of the configured reading pause */
+    static final int MAX_PAUSE_FACTOR = 10;
+
+    private static final double LATENCY_WEIGHT = 0.2;
+    private static final long LOAD_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int readingPause;
+    private final Map<GroupAddress, ReadDatapoint> initialReads = new LinkedHashMap<>();
+    private final Map<GroupAddress, ReadDatapoint> periodicReads = new LinkedHashMap<>();
+
+    private boolean loadWindowStarted;
+    private long loadWindowStart;
+    private int loadWindowTelegrams;
+    private int busLoad;
+    private double averageLatencyMillis;
+    private boolean pausing;
+    private long nextReadNanos;
+    private long sentReads;
+    private long answeredReads;
+    private long failedReads;
+    private long mergedReads;
+
+    /**
+     * @param readingPause the minimum pause between two read requests in milliseconds
+     */
+    public ReadDatapointScheduler(int readingPause) {
+        this.readingPause = readingPause;
+    }
+
+    /**
+     * Queue a data point for reading, unless a read of its group address is already pending. A pending periodic read
+     * is promoted if an initial read for the same group address is requested.
+     *
+     * @param datapoint the data point to read
+     * @return {@code true} if the data point has been queued
+     */
+    public synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        if (initialReads.containsKey(address)) {
+            mergedReads++;
+            return false;
+        }
+        if (datapoint.isPeriodic()) {
+            if (periodicReads.putIfAbsent(address, datapoint) != null) {
+                mergedReads++;
+                return false;
+            }
+            return true;
+        }
+        if (periodicReads.remove(address) != null) {
+            mergedReads++;
+        }
+        initialReads.put(address, datapoint);
+        return true;
+    }
+
+    /**
+     * Get the next data point to read, if the pause since the last read request has elapsed.
+     *
+     * @param now the current time as given by {@link System#nanoTime()}
+     * @return the data point or {@code null} if there is nothing to read yet
+     */
+    public synchronized @Nullable ReadDatapoint poll(long now) {
+        if (pausing && now - nextReadNanos < 0) {
+            return null;
+        }
+        ReadDatapoint datapoint = removeFirst(initialReads);
+        return datapoint != null ? datapoint : removeFirst(periodicReads);
+    }
+
+    private @Nullable ReadDatapoint removeFirst(Map<GroupAddress, ReadDatapoint> reads) {
+        Iterator<ReadDatapoint> iterator = reads.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        ReadDatapoint datapoint = iterator.next();
+        iterator.remove();
+        return datapoint;
+    }
+
+    /**
+     * Record an answered read request and determine when the next one may be sent.
+     *
+     * @param latencyNanos the time until the read request has been answered
+     * @param now the current time as given by {@link System#nanoTime()}
+     */
+    public synchronized void readCompleted(long latencyNanos, long now) {
+        double latencyMillis = latencyNanos / 1_000_000.0;
+        averageLatencyMillis = answeredReads == 0 ? latencyMillis
+                : LATENCY_WEIGHT * latencyMillis + (1 - LATENCY_WEIGHT) * averageLatencyMillis;
+        answeredReads++;
+        readSent(now);
+    }
+
+    /**
+     * Record a read request which has not been answered, e.g. because it timed out, and determine when the next one
+     * may be sent. The response time of failed requests says nothing about the bus, so it does not affect the pause.
+     *
+     * @param now the current time as given by {@link System#nanoTime()}
+     */
+    public synchronized void readFailed(long now) {
+        failedReads++;
+        readSent(now);
+    }
+
+    private void readSent(long now) {
+        sentReads++;
+        pausing = true;
+        nextReadNanos = now + TimeUnit.MILLISECONDS.toNanos(getPauseMillis(now));
+    }
+
+    /**
+     * Record a telegram seen on the bus.
+     *
+     * @param now the current time as given by {@link System#nanoTime()}
+     */
+    public synchronized void telegramReceived(long now) {
+        if (!loadWindowStarted || now - loadWindowStart >= LOAD_WINDOW_NANOS) {
+            busLoad = loadWindowStarted && now - loadWindowStart < 2 * LOAD_WINDOW_NANOS ? loadWindowTelegrams : 0;
+            loadWindowStarted = true;
+            loadWindowStart = now;
+            loadWindowTelegrams = 0;
+        }
+        loadWindowTelegrams++;
+    }
+
+    /**
+     * Get the pause between two read requests for the currently observed bus load and response time.
+     *
+     * @param now the current time as given by {@link System#nanoTime()}
+     * @return the pause in milliseconds
+     */
+    public synchronized long getPauseMillis(long now) {
+        double factor = 1.0 + Math.max(0, getBusLoad(now) - BUS_LOAD_THRESHOLD) / 10.0
+                + Math.max(0, averageLatencyMillis - LATENCY_THRESHOLD_MS) / 100.0;
+        return Math.round(readingPause * Math.min(factor, MAX_PAUSE_FACTOR));
+    }
+
+    /**
+     * @param now the current time as given by {@link System#nanoTime()}
+     * @return the number of telegrams seen on the bus during the last second
+     */
+    public synchronized int getBusLoad(long now) {
+        return loadWindowStarted && now - loadWindowStart < 2 * LOAD_WINDOW_NANOS ? busLoad : 0;
+    }
+
+    public synchronized void clear() {
+        initialReads.clear();
+        periodicReads.clear();
+        pausing = false;
+    }
+
+    public synchronized int getPendingInitialReads() {
+        return initialReads.size();
+    }
+
+    public synchronized int getPendingPeriodicReads() {
+        return periodicReads.size();
+    }
+
+    public synchronized long getSentReads() {
+        return sentReads;
+    }
+
+    public synchronized long getFailedReads() {
+        return failedReads;
+    }
+
+    public synchronized long getMergedReads() {
+        return mergedReads;
+    }
+
+    public synchronized double getAverageLatencyMillis() {
+        return averageLatencyMillis;
+    }
+}
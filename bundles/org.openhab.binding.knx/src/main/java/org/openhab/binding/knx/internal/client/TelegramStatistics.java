@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Collects timing information about the telegrams received from the KNX bus. Dispatching is the lookup of the
+ * interested listeners on the receiving thread, processing is the time spent by a listener handling a telegram.
+ * Can be shown on console using knx:show-telegram-statistics.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TelegramStatistics {
+
+    private long receivedTelegrams;
+    private long unknownTelegrams;
+    private long dispatchNanos;
+    private long maxDispatchNanos;
+    private long processedTelegrams;
+    private long processingNanos;
+    private long maxProcessingNanos;
+
+    /**
+     * Record a telegram which has been dispatched to the interested listeners.
+     *
+     * @param nanos time spent to look up and schedule the listeners
+     * @param handled {@code true} if at least one listener was interested in the telegram
+     */
+    public synchronized void telegramDispatched(long nanos, boolean handled) {
+        receivedTelegrams++;
+        if (!handled) {
+            unknownTelegrams++;
+        }
+        dispatchNanos += nanos;
+        maxDispatchNanos = Math.max(maxDispatchNanos, nanos);
+    }
+
+    /**
+     * Record a telegram which has been handled by a listener.
+     *
+     * @param nanos time spent by the listener
+     */
+    public synchronized void telegramProcessed(long nanos) {
+        processedTelegrams++;
+        processingNanos += nanos;
+        maxProcessingNanos = Math.max(maxProcessingNanos, nanos);
+    }
+
+    public synchronized void reset() {
+        receivedTelegrams = 0;
+        unknownTelegrams = 0;
+        dispatchNanos = 0;
+        maxDispatchNanos = 0;
+        processedTelegrams = 0;
+        processingNanos = 0;
+        maxProcessingNanos = 0;
+    }
+
+    public synchronized long getReceivedTelegrams() {
+        return receivedTelegrams;
+    }
+
+    public synchronized long getUnknownTelegrams() {
+        return unknownTelegrams;
+    }
+
+    public synchronized long getProcessedTelegrams() {
+        return processedTelegrams;
+    }
+
+    public synchronized long getAverageDispatchMicros() {
+        return receivedTelegrams == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(dispatchNanos / receivedTelegrams);
+    }
+
+    public synchronized long getMaxDispatchMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxDispatchNanos);
+    }
+
+    public synchronized long getAverageProcessingMicros() {
+        return processedTelegrams == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(processingNanos / processedTelegrams);
+    }
+
+    public synchronized long getMaxProcessingMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxProcessingNanos);
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Map.Entry;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.TelegramStatistics;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -39,7 +40,9 @@ import org.osgi.service.component.annotations.Reference;
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_SHOW_TELEGRAM_STATISTICS = "show-telegram-statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_SHOW_TELEGRAM_STATISTICS), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -61,13 +64,30 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
             }
             return;
         }
+        if (args.length == 1 && CMD_SHOW_TELEGRAM_STATISTICS.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                TelegramStatistics statistics = bridgeHandler.getCommandExtensionData().telegramStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel()
+                        + "\": telegram statistics since last reload of binding:");
+                console.println("received telegrams:        " + statistics.getReceivedTelegrams());
+                console.println("unknown group addresses:   " + statistics.getUnknownTelegrams());
+                console.println("processed by things:       " + statistics.getProcessedTelegrams());
+                console.println("dispatch time (avg/max):   " + statistics.getAverageDispatchMicros() + "/"
+                        + statistics.getMaxDispatchMicros() + " µs");
+                console.println("processing time (avg/max): " + statistics.getAverageProcessingMicros() + "/"
+                        + statistics.getMaxProcessingMicros() + " µs");
+            }
+            return;
+        }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_SHOW_TELEGRAM_STATISTICS,
+                        "show number of received telegrams and time spent dispatching and processing them"));
     }
 
     @Override
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import io.calimero.GroupAddress;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class GroupAddressListenerIndexTest {
+
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_3 = new GroupAddress(1, 2, 5);
+
+    @Test
+    void testDispatchByGroupAddress() {
+        GroupAddressListener listener1 = mock(GroupAddressListener.class);
+        GroupAddressListener listener2 = mock(GroupAddressListener.class);
+        when(listener1.getGroupAddresses()).thenReturn(Set.of(GA_1, GA_2));
+        when(listener2.getGroupAddresses()).thenReturn(Set.of(GA_2));
+
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+        index.add(listener1);
+        index.add(listener2);
+
+        assertEquals(Set.of(listener1), index.get(GA_1));
+        assertEquals(Set.of(listener1, listener2), index.get(GA_2));
+        assertTrue(index.get(GA_3).isEmpty());
+        assertEquals(2, index.getListenerCount());
+        assertEquals(2, index.getGroupAddressCount());
+
+        index.remove(listener1);
+        assertTrue(index.get(GA_1).isEmpty());
+        assertEquals(Set.of(listener2), index.get(GA_2));
+        assertEquals(1, index.getGroupAddressCount());
+    }
+
+    @Test
+    void testAddressesCapturedOnRegistration() {
+        Set<GroupAddress> addresses = new HashSet<>(Set.of(GA_1));
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(addresses);
+
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+        index.add(listener);
+
+        // like a disposed thing handler, the listener forgets its addresses before it is unregistered
+        addresses.clear();
+        index.remove(listener);
+        assertTrue(index.get(GA_1).isEmpty());
+        assertEquals(0, index.getListenerCount());
+
+        // registering again picks up changed addresses
+        addresses.add(GA_3);
+        index.add(listener);
+        index.add(listener);
+        assertEquals(Set.of(listener), index.get(GA_3));
+        assertEquals(1, index.getGroupAddressCount());
+    }
+}
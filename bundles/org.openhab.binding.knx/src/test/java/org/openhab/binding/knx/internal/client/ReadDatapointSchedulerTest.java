@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.calimero.GroupAddress;
+import io.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ReadDatapointSchedulerTest {
+
+    private static final int READING_PAUSE = 50;
+
+    private static ReadDatapoint read(int subGroup, boolean periodic) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(1, 1, subGroup), "test"), 3, periodic);
+    }
+
+    private static int subGroup(ReadDatapoint datapoint) {
+        return datapoint.getDatapoint().getMainAddress().getSubGroup8();
+    }
+
+    @Test
+    void testDeduplicationAndPriority() {
+        ReadDatapointScheduler scheduler = new ReadDatapointScheduler(READING_PAUSE);
+
+        assertTrue(scheduler.add(read(1, true)));
+        assertTrue(scheduler.add(read(2, true)));
+        assertFalse(scheduler.add(read(1, true)));
+        assertTrue(scheduler.add(read(3, false)));
+        // promotes the pending periodic read
+        assertTrue(scheduler.add(read(2, false)));
+        assertFalse(scheduler.add(read(3, true)));
+        assertEquals(2, scheduler.getPendingInitialReads());
+        assertEquals(1, scheduler.getPendingPeriodicReads());
+        assertEquals(3, scheduler.getMergedReads());
+
+        ReadDatapoint first = scheduler.poll(0);
+        ReadDatapoint second = scheduler.poll(0);
+        ReadDatapoint third = scheduler.poll(0);
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotNull(third);
+        assertEquals(3, subGroup(first));
+        assertEquals(2, subGroup(second));
+        assertEquals(1, subGroup(third));
+        assertTrue(third.isPeriodic());
+        assertNull(scheduler.poll(0));
+    }
+
+    @Test
+    void testPauseBetweenReads() {
+        ReadDatapointScheduler scheduler = new ReadDatapointScheduler(READING_PAUSE);
+        scheduler.add(read(1, false));
+        scheduler.add(read(2, false));
+
+        long now = 1000;
+        assertNotNull(scheduler.poll(now));
+        scheduler.readCompleted(TimeUnit.MILLISECONDS.toNanos(20), now);
+        assertEquals(READING_PAUSE, scheduler.getPauseMillis(now));
+        assertNull(scheduler.poll(now + TimeUnit.MILLISECONDS.toNanos(READING_PAUSE - 1)));
+        assertNotNull(scheduler.poll(now + TimeUnit.MILLISECONDS.toNanos(READING_PAUSE)));
+    }
+
+    @Test
+    void testPauseAdaptsToBusLoad() {
+        ReadDatapointScheduler scheduler = new ReadDatapointScheduler(READING_PAUSE);
+        long second = TimeUnit.SECONDS.toNanos(1);
+        // 40 telegrams during the first second
+        for (int i = 0; i < 40; i++) {
+            scheduler.telegramReceived(i * second / 40);
+        }
+        scheduler.telegramReceived(second);
+        assertEquals(40, scheduler.getBusLoad(second));
+        assertEquals(3 * READING_PAUSE, scheduler.getPauseMillis(second));
+
+        // quiet bus
+        assertEquals(0, scheduler.getBusLoad(3 * second));
+        assertEquals(READING_PAUSE, scheduler.getPauseMillis(3 * second));
+    }
+
+    @Test
+    void testPauseAdaptsToLatency() {
+        ReadDatapointScheduler scheduler = new ReadDatapointScheduler(READING_PAUSE);
+        scheduler.readCompleted(TimeUnit.MILLISECONDS.toNanos(400), 0);
+        assertEquals(3 * READING_PAUSE, scheduler.getPauseMillis(0));
+
+        // a very slow answer is limited to the maximum pause
+        scheduler.readCompleted(TimeUnit.SECONDS.toNanos(60), 0);
+        assertEquals(ReadDatapointScheduler.MAX_PAUSE_FACTOR * READING_PAUSE, scheduler.getPauseMillis(0));
+    }
+
+    @Test
+    void testFailedReadsDoNotStretchPause() {
+        ReadDatapointScheduler scheduler = new ReadDatapointScheduler(READING_PAUSE);
+        scheduler.add(read(1, false));
+        scheduler.add(read(2, false));
+
+        long now = 1000;
+        assertNotNull(scheduler.poll(now));
+        scheduler.readFailed(now);
+        assertEquals(READING_PAUSE, scheduler.getPauseMillis(now));
+        assertEquals(0.0, scheduler.getAverageLatencyMillis());
+        assertNull(scheduler.poll(now + TimeUnit.MILLISECONDS.toNanos(READING_PAUSE - 1)));
+        assertNotNull(scheduler.poll(now + TimeUnit.MILLISECONDS.toNanos(READING_PAUSE)));
+
+        // the first answered read initialises the average
+        scheduler.readCompleted(TimeUnit.MILLISECONDS.toNanos(20), now);
+        assertEquals(20, scheduler.getAverageLatencyMillis(), 0.001);
+        assertEquals(2, scheduler.getSentReads());
+        assertEquals(1, scheduler.getFailedReads());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.bridge;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link AttributeStateCoalescer} collects attribute states for bridged endpoints over a short window and sends
+ * them as one batch per endpoint. If an attribute is updated again before the window closes only the last value is
+ * sent, which keeps dimmer ramps and fast reporting meters from flooding the Matter bridge with intermediate values.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class AttributeStateCoalescer {
+
+    private final ScheduledExecutorService scheduler;
+    private final BiFunction<String, List<AttributeState>, CompletableFuture<Void>> sender;
+
+    /** pending states per endpoint, keyed by cluster and attribute name, in the order they were first updated */
+    private Map<String, Map<String, PendingState>> pending = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> flushFuture;
+    private int windowMillis;
+
+    private long statesReceived;
+    private long statesSuppressed;
+    private long batchesSent;
+
+    AttributeStateCoalescer(ScheduledExecutorService scheduler,
+            BiFunction<String, List<AttributeState>, CompletableFuture<Void>> sender) {
+        this.scheduler = scheduler;
+        this.sender = sender;
+    }
+
+    /**
+     * Set the coalescing window, 0 or less sends every update immediately
+     *
+     * @param windowMillis the window in milliseconds
+     */
+    synchronized void setWindow(int windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Queue the states of an endpoint, replacing any pending value for the same cluster attribute.
+     *
+     * @param endpointId the endpoint id
+     * @param states the states to set
+     * @return a future that completes when the batch containing these states has been set
+     */
+    CompletableFuture<Void> submit(String endpointId, List<AttributeState> states) {
+        synchronized (this) {
+            statesReceived += states.size();
+            if (windowMillis > 0) {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                Map<String, PendingState> endpointStates = pending.computeIfAbsent(endpointId,
+                        id -> new LinkedHashMap<>());
+                for (AttributeState state : states) {
+                    String key = state.clusterName + "." + state.attributeName;
+                    PendingState previous = endpointStates.get(key);
+                    if (previous != null) {
+                        statesSuppressed++;
+                        previous.state = state;
+                        previous.futures.add(future);
+                    } else {
+                        endpointStates.put(key, new PendingState(state, future));
+                    }
+                }
+                if (flushFuture == null) {
+                    flushFuture = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return future;
+            }
+            batchesSent++;
+        }
+        return sender.apply(endpointId, states);
+    }
+
+    /**
+     * Send all pending states now
+     */
+    void flush() {
+        Map<String, Map<String, PendingState>> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            flushFuture = null;
+            batchesSent += batch.size();
+        }
+        batch.forEach((endpointId, endpointStates) -> {
+            List<AttributeState> states = new ArrayList<>(endpointStates.size());
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (PendingState pendingState : endpointStates.values()) {
+                states.add(pendingState.state);
+                futures.addAll(pendingState.futures);
+            }
+            sender.apply(endpointId, states).whenComplete((result, error) -> {
+                for (CompletableFuture<Void> future : futures) {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(null);
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * Drop all pending states, failing their futures
+     */
+    void clear() {
+        Map<String, Map<String, PendingState>> dropped;
+        synchronized (this) {
+            dropped = pending;
+            pending = new LinkedHashMap<>();
+            ScheduledFuture<?> flushFuture = this.flushFuture;
+            if (flushFuture != null) {
+                flushFuture.cancel(false);
+                this.flushFuture = null;
+            }
+        }
+        dropped.values().forEach(endpointStates -> endpointStates.values().forEach(pendingState -> pendingState.futures
+                .forEach(future -> future.completeExceptionally(new IllegalStateException("Bridge disconnected")))));
+    }
+
+    synchronized long getStatesReceived() {
+        return statesReceived;
+    }
+
+    synchronized long getStatesSuppressed() {
+        return statesSuppressed;
+    }
+
+    synchronized long getBatchesSent() {
+        return batchesSent;
+    }
+
+    private static class PendingState {
+        private AttributeState state;
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>(1);
+
+        PendingState(AttributeState state, CompletableFuture<Void> future) {
+            this.state = state;
+            futures.add(future);
+        }
+    }
+}
@@ -187,6 +187,7 @@ public class MatterBridge implements MatterClientListener {
         // if this returns true, we will wait for @Modified to be called after the config is persisted
         if (!parseInitialConfig(properties)) {
             this.settings = (new Configuration(properties)).as(MatterBridgeSettings.class);
+            client.setStateCoalescingWindow(this.settings.stateCoalescingWindow);
             if (this.settings.enableBridge) {
                 scheduleConnect();
             }
@@ -228,6 +229,7 @@ public class MatterBridge implements MatterClientListener {
         }
 
         this.settings = settings;
+        client.setStateCoalescingWindow(settings.stateCoalescingWindow);
 
         if (!settings.enableBridge) {
             stopClient();
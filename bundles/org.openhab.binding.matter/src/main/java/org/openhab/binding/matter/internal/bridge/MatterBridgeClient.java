@@ -18,6 +18,7 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.matter.internal.client.MatterWebsocketClient;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeCommissionState;
+import org.openhab.core.common.ThreadPoolManager;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
@@ -32,6 +33,48 @@ import com.google.gson.JsonParseException;
 @NonNullByDefault
 public class MatterBridgeClient extends MatterWebsocketClient {
 
+    private final AttributeStateCoalescer stateCoalescer = new AttributeStateCoalescer(
+            ThreadPoolManager.getScheduledPool("matter.MatterBridge"), this::sendEndpointStates);
+
+    @Override
+    public void disconnect() {
+        logger.debug("Endpoint states received: {}, suppressed: {}, batches sent: {}", getStatesReceived(),
+                getStatesSuppressed(), getStateBatchesSent());
+        stateCoalescer.clear();
+        super.disconnect();
+    }
+
+    /**
+     * Set the window in which endpoint state updates are coalesced before being sent to the bridge. Within the window
+     * only the last value of each cluster attribute is sent, 0 sends every update immediately.
+     *
+     * @param windowMillis the window in milliseconds
+     */
+    public void setStateCoalescingWindow(int windowMillis) {
+        stateCoalescer.setWindow(windowMillis);
+    }
+
+    /**
+     * Get the number of attribute states that have been set on endpoints
+     */
+    public long getStatesReceived() {
+        return stateCoalescer.getStatesReceived();
+    }
+
+    /**
+     * Get the number of attribute states that were replaced by a newer value before being sent
+     */
+    public long getStatesSuppressed() {
+        return stateCoalescer.getStatesSuppressed();
+    }
+
+    /**
+     * Get the number of setEndpointStates messages sent to the bridge
+     */
+    public long getStateBatchesSent() {
+        return stateCoalescer.getBatchesSent();
+    }
+
     /**
      * Add an endpoint to the bridge.
      * 
@@ -59,13 +102,18 @@ public class MatterBridgeClient extends MatterWebsocketClient {
     }
 
     /**
-     * Set the states of the endpoint in a single transaction.
+     * Set the states of the endpoint in a single transaction. States may be coalesced with other updates of the same
+     * endpoint, see {@link #setStateCoalescingWindow(int)}.
      * 
      * @param endpointId the endpoint id
      * @param states the states to set
      * @return a future that completes when the states are set
      */
     public CompletableFuture<Void> setEndpointStates(String endpointId, List<AttributeState> states) {
+        return stateCoalescer.submit(endpointId, states);
+    }
+
+    private CompletableFuture<Void> sendEndpointStates(String endpointId, List<AttributeState> states) {
         CompletableFuture<JsonElement> future = sendMessage("bridge", "setEndpointStates",
                 new Object[] { endpointId, states });
         return future.thenAccept(obj -> {
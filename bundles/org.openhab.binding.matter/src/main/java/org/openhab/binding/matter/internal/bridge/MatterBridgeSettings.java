@@ -31,10 +31,12 @@ public class MatterBridgeSettings {
     public String manualPairingCode = "";
     public boolean resetBridge = false;
     public boolean openCommissioningWindow = false;
+    public int stateCoalescingWindow = 100;
 
     public String toString() {
         return "MatterBridgeSettings [name=" + bridgeName + ", port=" + port + ", passcode=" + passcode
                 + ", discriminator=" + discriminator + ", qrCode=" + qrCode + ", manualPairingCode=" + manualPairingCode
-                + ", resetBridge=" + resetBridge + ", openCommissioningWindow=" + openCommissioningWindow + "]";
+                + ", resetBridge=" + resetBridge + ", openCommissioningWindow=" + openCommissioningWindow
+                + ", stateCoalescingWindow=" + stateCoalescingWindow + "]";
     }
 }
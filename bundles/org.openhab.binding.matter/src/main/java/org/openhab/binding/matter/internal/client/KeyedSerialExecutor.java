@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks on a shared {@link Executor} while keeping tasks submitted with the same key in submission order. Tasks
+ * for different keys may run concurrently. Used to preserve the order of events coming from a single Matter node
+ * without serializing the whole fabric behind one thread.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class KeyedSerialExecutor {
+
+    private final Logger logger = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+
+    private final Executor executor;
+    private final Map<Object, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Queue a task behind any task previously submitted with the same key
+     *
+     * @param key the ordering key, for example a node id
+     * @param task the task to run
+     */
+    void execute(Object key, Runnable task) {
+        CompletableFuture<Void> tail = tails.compute(key,
+                (k, previous) -> (previous == null ? CompletableFuture.<Void> completedFuture(null) : previous)
+                        .handleAsync((result, error) -> runSafely(k, task), executor));
+        // drop the entry once the queue for this key has drained so idle nodes do not accumulate
+        tail.whenComplete((result, error) -> tails.remove(key, tail));
+    }
+
+    /**
+     * Get the number of keys which currently have queued or running tasks
+     */
+    int getActiveKeyCount() {
+        return tails.size();
+    }
+
+    private @Nullable Void runSafely(Object key, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // a failing task must not break the chain for later tasks of the same key
+            logger.debug("Error processing task for {}", key, e);
+        }
+        return null;
+    }
+}
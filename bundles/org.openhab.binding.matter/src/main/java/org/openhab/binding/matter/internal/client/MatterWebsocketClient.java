@@ -32,6 +32,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -50,9 +52,7 @@ import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventTriggered;
-import org.openhab.binding.matter.internal.client.dto.ws.Event;
 import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.Message;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeStateMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.OtaUpdateAvailableMessage;
@@ -73,6 +73,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
@@ -91,9 +92,12 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
 
     private static final int BUFFER_SIZE = 1048576 * 2; // 2 Mb
     private static final int REQUEST_TIMEOUT_SECONDS = 60 * 3; // 3 minutes
+    private static final String CLIENT_ORDERING_KEY = "client";
+    private static final String BRIDGE_ORDERING_KEY = "bridge";
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool("matter.MatterWebsocketClient");
+    private final KeyedSerialExecutor eventExecutor = new KeyedSerialExecutor(scheduler);
 
     protected final Gson gson = new GsonBuilder().serializeNulls()
             .registerTypeAdapter(Node.class, new NodeDeserializer())
@@ -109,6 +113,22 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     protected final ConcurrentHashMap<String, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
     protected final CopyOnWriteArrayList<MatterClientListener> clientListeners = new CopyOnWriteArrayList<>();
 
+    private final Map<String, Consumer<JsonElement>> eventHandlers = Map.of( //
+            "attributeChanged",
+            data -> notifyListeners(data, AttributeChangedMessage.class, MatterClientListener::onEvent), //
+            "eventTriggered",
+            data -> notifyListeners(data, EventTriggeredMessage.class, MatterClientListener::onEvent), //
+            "nodeStateInformation",
+            data -> notifyListeners(data, NodeStateMessage.class, MatterClientListener::onEvent), //
+            "nodeData",
+            data -> notifyListeners(data, Node.class, (listener, node) -> listener.onEvent(new NodeDataMessage(node))),
+            "bridgeEvent", this::handleBridgeEvent, //
+            "updateAvailable",
+            data -> notifyListeners(data, OtaUpdateAvailableMessage.class, MatterClientListener::onEvent));
+
+    private long messagesProcessed;
+    private long processingNanos;
+
     @Nullable
     private Session session;
     @Nullable
@@ -136,6 +156,8 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
      */
     public void disconnect() {
         Session session = this.session;
+        logger.debug("Disconnecting after processing {} messages, average processing time {} µs",
+                getMessagesProcessed(), getAverageProcessingMicros());
         try {
             pendingRequests.forEach((id, future) -> {
                 if (!future.isDone()) {
@@ -246,156 +268,160 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     @Override
     public void onWebSocketText(@Nullable String msg) {
         logger.debug("onWebSocketText {}", msg);
-        scheduler.submit(() -> {
-            Message message = gson.fromJson(msg, Message.class);
-            if (message == null) {
-                logger.debug("invalid Message");
-                return;
+        if (msg == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        // parse the frame once into a tree, every typed decode below reads from this tree
+        JsonObject message;
+        JsonObject payload;
+        try {
+            message = JsonParser.parseString(msg).getAsJsonObject();
+            payload = message.getAsJsonObject("message");
+        } catch (JsonParseException | IllegalStateException | ClassCastException e) {
+            logger.debug("invalid Message", e);
+            return;
+        }
+        if (payload == null) {
+            logger.debug("invalid Message");
+            return;
+        }
+        String type = getString(message, "type");
+        if ("response".equals(type)) {
+            scheduler.execute(() -> {
+                handleResponse(payload);
+                recordMessage(start);
+            });
+        } else if ("event".equals(type)) {
+            String eventType = getString(payload, "type");
+            JsonElement data = payload.get("data");
+            eventExecutor.execute(getOrderingKey(eventType, data), () -> {
+                handleEvent(eventType, data);
+                recordMessage(start);
+            });
+        }
+    }
+
+    /**
+     * Get the number of messages received from the controller that have been decoded and dispatched
+     */
+    public synchronized long getMessagesProcessed() {
+        return messagesProcessed;
+    }
+
+    /**
+     * Get the average time in microseconds between receiving a message and having dispatched it to all listeners
+     */
+    public synchronized long getAverageProcessingMicros() {
+        return messagesProcessed == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(processingNanos / messagesProcessed);
+    }
+
+    private synchronized void recordMessage(long start) {
+        messagesProcessed++;
+        processingNanos += System.nanoTime() - start;
+    }
+
+    private void handleResponse(JsonObject payload) {
+        Response response = gson.fromJson(payload, Response.class);
+        if (response == null) {
+            logger.debug("invalid response Message");
+            return;
+        }
+        CompletableFuture<JsonElement> future = pendingRequests.remove(response.id);
+        if (future == null) {
+            logger.debug("no future for response id {}, type {} , did the request timeout?", response.id,
+                    response.type);
+            return;
+        }
+        logger.debug("result type: {} ", response.type);
+        if (response.type != ResponseType.RESULT_SUCCESS) {
+            future.completeExceptionally(
+                    new MatterRequestException(response.error, MatterErrorCode.fromErrorId(response.errorId)));
+        } else {
+            future.complete(response.result);
+        }
+    }
+
+    private void handleEvent(@Nullable String eventType, @Nullable JsonElement data) {
+        if (eventType == null) {
+            logger.debug("invalid Event");
+            return;
+        }
+        if ("ready".equals(eventType)) {
+            for (MatterClientListener listener : clientListeners) {
+                listener.onReady();
             }
-            if ("response".equals(message.type)) {
-                Response response = gson.fromJson(message.message, Response.class);
-                if (response == null) {
-                    logger.debug("invalid response Message");
-                    return;
-                }
-                CompletableFuture<JsonElement> future = pendingRequests.remove(response.id);
-                if (future == null) {
-                    logger.debug("no future for response id {}, type {} , did the request timeout?", response.id,
-                            response.type);
-                    return;
-                }
-                logger.debug("result type: {} ", response.type);
-                if (response.type != ResponseType.RESULT_SUCCESS) {
-                    future.completeExceptionally(
-                            new MatterRequestException(response.error, MatterErrorCode.fromErrorId(response.errorId)));
-                } else {
-                    future.complete(response.result);
-                }
-            } else if ("event".equals(message.type)) {
-                Event event = gson.fromJson(message.message, Event.class);
-                if (event == null) {
-                    logger.debug("invalid Event");
-                    return;
-                }
-                switch (event.type) {
-                    case "attributeChanged":
-                        logger.debug("attributeChanged message {}", event.data);
-                        AttributeChangedMessage changedMessage = gson.fromJson(event.data,
-                                AttributeChangedMessage.class);
-                        if (changedMessage == null) {
-                            logger.debug("invalid AttributeChangedMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(changedMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "eventTriggered":
-                        logger.debug("eventTriggered message {}", event.data);
-                        EventTriggeredMessage triggeredMessage = gson.fromJson(event.data, EventTriggeredMessage.class);
-                        if (triggeredMessage == null) {
-                            logger.debug("invalid EventTriggeredMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(triggeredMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeStateInformation":
-                        logger.debug("nodeStateInformation message {}", event.data);
-                        NodeStateMessage nodeStateMessage = gson.fromJson(event.data, NodeStateMessage.class);
-                        if (nodeStateMessage == null) {
-                            logger.debug("invalid NodeStateMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(nodeStateMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeData":
-                        logger.debug("nodeData message {}", event.data);
-                        Node node = gson.fromJson(event.data, Node.class);
-                        if (node == null) {
-                            logger.debug("invalid nodeData");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(new NodeDataMessage(node));
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "bridgeEvent":
-                        logger.debug("bridgeEvent message {}", event.data);
-                        BridgeEventMessage bridgeEventMessage = gson.fromJson(event.data, BridgeEventMessage.class);
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent");
-                            return;
-                        }
-
-                        switch (bridgeEventMessage.type) {
-                            case "attributeChanged":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventAttributeChanged.class);
-                                break;
-                            case "eventTriggered":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventTriggered.class);
-                                break;
-                        }
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent subtype");
-                            return;
-                        }
-
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(bridgeEventMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "updateAvailable":
-                        logger.debug("updateAvailable message {}", event.data);
-                        OtaUpdateAvailableMessage otaMessage = gson.fromJson(event.data,
-                                OtaUpdateAvailableMessage.class);
-                        if (otaMessage == null) {
-                            logger.debug("invalid OtaUpdateAvailableMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(otaMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "ready":
-                        for (MatterClientListener listener : clientListeners) {
-                            listener.onReady();
-                        }
-                        break;
-                    default:
-                        break;
-                }
+            return;
+        }
+        Consumer<JsonElement> handler = eventHandlers.get(eventType);
+        if (handler == null) {
+            return;
+        }
+        logger.debug("{} message {}", eventType, data);
+        if (data == null || data.isJsonNull()) {
+            logger.debug("invalid {} message", eventType);
+            return;
+        }
+        handler.accept(data);
+    }
+
+    private void handleBridgeEvent(JsonElement data) {
+        // decode the concrete subtype directly instead of decoding the base type first and then again
+        String bridgeEventType = data.isJsonObject() ? getString(data.getAsJsonObject(), "type") : null;
+        Class<? extends BridgeEventMessage> bridgeEventClass = switch (bridgeEventType == null ? "" : bridgeEventType) {
+            case "attributeChanged" -> BridgeEventAttributeChanged.class;
+            case "eventTriggered" -> BridgeEventTriggered.class;
+            default -> BridgeEventMessage.class;
+        };
+        notifyListeners(data, bridgeEventClass, MatterClientListener::onEvent);
+    }
+
+    private <T> void notifyListeners(JsonElement data, Class<T> type,
+            BiConsumer<MatterClientListener, ? super T> notifier) {
+        T message;
+        try {
+            message = gson.fromJson(data, type);
+        } catch (JsonParseException e) {
+            logger.debug("invalid {}", type.getSimpleName(), e);
+            return;
+        }
+        if (message == null) {
+            logger.debug("invalid {}", type.getSimpleName());
+            return;
+        }
+        for (MatterClientListener listener : clientListeners) {
+            try {
+                notifier.accept(listener, message);
+            } catch (Exception e) {
+                logger.debug("Error notifying listener", e);
             }
-        });
+        }
+    }
+
+    /**
+     * Events for the same node are dispatched in the order they were received, events for different nodes may be
+     * dispatched concurrently. Events which do not belong to a node share a single queue.
+     */
+    private Object getOrderingKey(@Nullable String eventType, @Nullable JsonElement data) {
+        if (eventType == null || data == null || !data.isJsonObject()) {
+            return CLIENT_ORDERING_KEY;
+        }
+        JsonObject object = data.getAsJsonObject();
+        String nodeId = switch (eventType) {
+            case "attributeChanged", "eventTriggered" -> object.get("path") instanceof JsonObject path
+                    ? getString(path, "nodeId")
+                    : null;
+            case "nodeStateInformation", "updateAvailable" -> getString(object, "nodeId");
+            case "nodeData" -> getString(object, "id");
+            case "bridgeEvent" -> BRIDGE_ORDERING_KEY;
+            default -> null;
+        };
+        return nodeId != null ? nodeId : CLIENT_ORDERING_KEY;
+    }
+
+    private static @Nullable String getString(JsonObject object, String member) {
+        JsonElement element = object.get(member);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
     }
 
     @Override
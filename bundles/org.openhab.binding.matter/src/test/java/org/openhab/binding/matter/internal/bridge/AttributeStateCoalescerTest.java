@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.bridge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for AttributeStateCoalescer
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class AttributeStateCoalescerTest {
+
+    private final List<Map.Entry<String, List<AttributeState>>> sent = new ArrayList<>();
+
+    @NonNullByDefault({})
+    private ScheduledExecutorService scheduler;
+    @NonNullByDefault({})
+    private AttributeStateCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        coalescer = new AttributeStateCoalescer(scheduler, (endpointId, states) -> {
+            sent.add(Map.entry(endpointId, states));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @Test
+    void testSendsImmediatelyWithoutWindow() {
+        CompletableFuture<Void> future = coalescer.submit("item1",
+                List.of(new AttributeState("levelControl", "currentLevel", 10)));
+
+        assertTrue(future.isDone());
+        assertEquals(1, sent.size());
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void testLastValueWinsWithinWindow() {
+        coalescer.setWindow(100);
+
+        CompletableFuture<Void> first = coalescer.submit("item1",
+                List.of(new AttributeState("levelControl", "currentLevel", 10)));
+        CompletableFuture<Void> second = coalescer.submit("item1",
+                List.of(new AttributeState("onOff", "onOff", true)));
+        CompletableFuture<Void> third = coalescer.submit("item1",
+                List.of(new AttributeState("levelControl", "currentLevel", 20)));
+        coalescer.submit("item2", List.of(new AttributeState("onOff", "onOff", false)));
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        assertTrue(sent.isEmpty());
+        assertFalse(first.isDone());
+
+        coalescer.flush();
+
+        assertEquals(2, sent.size());
+        assertEquals("item1", sent.get(0).getKey());
+        assertEquals(List.of(new AttributeState("levelControl", "currentLevel", 20),
+                new AttributeState("onOff", "onOff", true)), sent.get(0).getValue());
+        assertEquals("item2", sent.get(1).getKey());
+        assertTrue(first.isDone() && second.isDone() && third.isDone());
+
+        assertEquals(4, coalescer.getStatesReceived());
+        assertEquals(1, coalescer.getStatesSuppressed());
+        assertEquals(2, coalescer.getBatchesSent());
+    }
+
+    @Test
+    void testClearFailsPendingStates() {
+        coalescer.setWindow(100);
+        CompletableFuture<Void> future = coalescer.submit("item1",
+                List.of(new AttributeState("levelControl", "currentLevel", 10)));
+
+        coalescer.clear();
+        coalescer.flush();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertTrue(sent.isEmpty());
+    }
+}
@@ -21,7 +21,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -39,8 +45,13 @@ import org.openhab.binding.matter.internal.client.dto.cluster.gen.LevelControlCl
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.OccupancySensingCluster;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.OnOffCluster;
 import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.Message;
+import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.NodeStateMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.OtaUpdateAvailableMessage;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -357,6 +368,64 @@ class MatterWebsocketClientTest {
         assertThrows(TimeoutException.class, () -> future.get(2, TimeUnit.SECONDS));
     }
 
+    @Test
+    void testResponseCompletesPendingRequest() throws Exception {
+        CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        client.pendingRequests.put("1", future);
+        client.onWebSocketText("""
+                {"type": "response", "message": {"type": "resultSuccess", "id": "1", "result": {"ok": true}}}
+                """);
+        JsonElement result = future.get(5, TimeUnit.SECONDS);
+        assertTrue(result.getAsJsonObject().get("ok").getAsBoolean());
+    }
+
+    /**
+     * Feeds a burst of attribute changes for several nodes through the client and checks every node sees its updates
+     * in the order they were received. Also reports the achieved messages/sec, which is useful when comparing
+     * decoding changes on large fabrics.
+     */
+    @Test
+    void testAttributeChangedEventsAreOrderedPerNode() throws Exception {
+        final int nodes = 20;
+        final int messagesPerNode = 2500;
+        Map<BigInteger, List<Long>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(nodes * messagesPerNode);
+        client.addListener(new TestListener() {
+            @Override
+            public void onEvent(AttributeChangedMessage message) {
+                received.computeIfAbsent(message.path.nodeId,
+                        id -> Collections.synchronizedList(new ArrayList<>())).add(message.version);
+                latch.countDown();
+            }
+        });
+
+        List<String> messages = new ArrayList<>();
+        for (int version = 0; version < messagesPerNode; version++) {
+            for (int node = 0; node < nodes; node++) {
+                messages.add("""
+                        {"type": "event", "message": {"type": "attributeChanged", "data": {"path": {"nodeId": "%d",
+                        "endpointId": 1, "clusterId": 6, "clusterName": "OnOff", "attributeId": 0,
+                        "attributeName": "onOff"}, "version": %d, "value": %b}}}
+                        """.formatted(node, version, version % 2 == 0));
+            }
+        }
+
+        long start = System.nanoTime();
+        messages.forEach(client::onWebSocketText);
+        assertTrue(latch.await(60, TimeUnit.SECONDS));
+        long elapsedNanos = System.nanoTime() - start;
+        LoggerFactory.getLogger(MatterWebsocketClientTest.class).info("Processed {} messages at {} messages/sec",
+                messages.size(), messages.size() * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos));
+
+        assertEquals(nodes, received.size());
+        for (List<Long> versions : received.values()) {
+            assertEquals(messagesPerNode, versions.size());
+            for (int i = 0; i < versions.size(); i++) {
+                assertEquals(i, versions.get(i).intValue());
+            }
+        }
+    }
+
     /**
      * Installs a mocked WebSocket session on the client so sendMessage reaches the request-scheduling path (instead of
      * failing early with "No valid session"). The remote endpoint is stubbed so the outgoing message is silently
@@ -369,4 +438,42 @@ class MatterWebsocketClientTest {
         when(session.getRemote()).thenReturn(remote);
         client.onWebSocketConnect(session);
     }
+
+    private abstract static class TestListener implements MatterClientListener {
+        @Override
+        public void onDisconnect(String reason) {
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onReady() {
+        }
+
+        @Override
+        public void onEvent(NodeStateMessage message) {
+        }
+
+        @Override
+        public void onEvent(AttributeChangedMessage message) {
+        }
+
+        @Override
+        public void onEvent(EventTriggeredMessage message) {
+        }
+
+        @Override
+        public void onEvent(BridgeEventMessage message) {
+        }
+
+        @Override
+        public void onEvent(NodeDataMessage message) {
+        }
+
+        @Override
+        public void onEvent(OtaUpdateAvailableMessage message) {
+        }
+    }
 }
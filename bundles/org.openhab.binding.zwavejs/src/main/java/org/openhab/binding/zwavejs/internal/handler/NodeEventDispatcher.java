@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.handler;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link NodeEventDispatcher} hands node events from the websocket thread to the {@link ZwaveNodeListener}
+ * registered for the node. Events of one node are delivered one after the other in the order they were received,
+ * events of different nodes are delivered in parallel on the given executor.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NodeEventDispatcher {
+
+    /** queue depth of a node which is logged, as it indicates a handler not keeping up with its events */
+    static final int QUEUE_DEPTH_WARNING = 100;
+
+    /**
+     * Delivery of an event to a node listener.
+     */
+    @FunctionalInterface
+    public interface NodeEventTask {
+        void deliver(ZwaveNodeListener listener);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(NodeEventDispatcher.class);
+    private final Map<Integer, ZwaveNodeListener> nodeListeners;
+    private final Executor executor;
+    private final Map<Integer, NodeQueue> nodeQueues = new ConcurrentHashMap<>();
+
+    private long dispatchedEvents;
+    private long deliveredEvents;
+    private long handlerNanos;
+    private long maxHandlerNanos;
+    private int maxQueueDepth;
+
+    /**
+     * @param nodeListeners the routing table of the node listeners by node id, looked up when an event is delivered
+     * @param executor the executor delivering the events
+     */
+    public NodeEventDispatcher(Map<Integer, ZwaveNodeListener> nodeListeners, Executor executor) {
+        this.nodeListeners = nodeListeners;
+        this.executor = executor;
+    }
+
+    /**
+     * Queue an event for the listener of the given node. Events for nodes without listener are dropped.
+     *
+     * @param nodeId the id of the node
+     * @param task the delivery of the event
+     */
+    public void dispatch(int nodeId, NodeEventTask task) {
+        if (!nodeListeners.containsKey(nodeId)) {
+            return;
+        }
+        NodeQueue queue = nodeQueues.computeIfAbsent(nodeId, NodeQueue::new);
+        int depth = queue.add(task);
+        synchronized (this) {
+            dispatchedEvents++;
+            maxQueueDepth = Math.max(maxQueueDepth, depth);
+        }
+        if (depth == QUEUE_DEPTH_WARNING) {
+            logger.debug("Node {}. {} events waiting for the handler", nodeId, depth);
+        }
+    }
+
+    /**
+     * Drop all queued events.
+     */
+    public void clear() {
+        nodeQueues.values().forEach(NodeQueue::clear);
+        nodeQueues.clear();
+    }
+
+    /**
+     * @return the number of events waiting to be delivered
+     */
+    public int getQueuedEvents() {
+        return nodeQueues.values().stream().mapToInt(NodeQueue::size).sum();
+    }
+
+    public synchronized int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public synchronized long getDispatchedEvents() {
+        return dispatchedEvents;
+    }
+
+    public synchronized long getDeliveredEvents() {
+        return deliveredEvents;
+    }
+
+    public synchronized long getAverageHandlerMillis() {
+        return deliveredEvents == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(handlerNanos / deliveredEvents);
+    }
+
+    public synchronized long getMaxHandlerMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxHandlerNanos);
+    }
+
+    private synchronized void delivered(long nanos) {
+        deliveredEvents++;
+        handlerNanos += nanos;
+        maxHandlerNanos = Math.max(maxHandlerNanos, nanos);
+    }
+
+    /**
+     * Events of one node. At most one drain of the queue is running on the executor at any time.
+     */
+    private class NodeQueue implements Runnable {
+        private final int nodeId;
+        private final Queue<NodeEventTask> tasks = new ArrayDeque<>();
+        private boolean running;
+
+        NodeQueue(int nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        int add(NodeEventTask task) {
+            boolean start;
+            int depth;
+            synchronized (this) {
+                tasks.add(task);
+                depth = tasks.size();
+                start = !running;
+                running = true;
+            }
+            if (start) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    logger.debug("Node {}. Event dropped, executor rejected it: {}", nodeId, e.getMessage());
+                    clear();
+                }
+            }
+            return depth;
+        }
+
+        synchronized void clear() {
+            tasks.clear();
+            running = false;
+        }
+
+        synchronized int size() {
+            return tasks.size();
+        }
+
+        private synchronized @Nullable NodeEventTask next() {
+            NodeEventTask task = tasks.poll();
+            if (task == null) {
+                running = false;
+            }
+            return task;
+        }
+
+        @Override
+        public void run() {
+            NodeEventTask task;
+            while ((task = next()) != null) {
+                ZwaveNodeListener listener = nodeListeners.get(nodeId);
+                if (listener == null) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                try {
+                    task.deliver(listener);
+                } catch (RuntimeException e) {
+                    logger.warn("Node {}. Error handling event: {}", nodeId, e.getMessage(), e);
+                }
+                delivered(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.openhab.binding.zwavejs.internal.api.dto.Args;
 import org.openhab.binding.zwavejs.internal.api.dto.Event;
 import org.openhab.binding.zwavejs.internal.api.dto.Node;
 import org.openhab.binding.zwavejs.internal.api.dto.State;
+import org.openhab.binding.zwavejs.internal.api.dto.Statistics;
 import org.openhab.binding.zwavejs.internal.api.dto.Status;
 import org.openhab.binding.zwavejs.internal.api.dto.commands.BaseCommand;
 import org.openhab.binding.zwavejs.internal.api.dto.commands.ControllerExclusionCommand;
@@ -75,6 +76,8 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
     private final Map<Integer, Node> lastNodeStates = new ConcurrentHashMap<>();
 
     protected ScheduledExecutorService executorService = scheduler;
+    private final NodeEventDispatcher eventDispatcher = new NodeEventDispatcher(nodeListeners,
+            command -> executorService.execute(command));
     private @Nullable NodeDiscoveryService discoveryService;
     private @Nullable ScheduledFuture<?> initialConnection;
     private ZWaveJSClient client;
@@ -149,10 +152,7 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
                     return;
                 }
 
-                ZwaveNodeListener nodeListener = nodeListeners.get(event.nodeId);
-                if (nodeListener != null) {
-                    nodeListener.onNodeStateChanged(event);
-                }
+                eventDispatcher.dispatch(event.nodeId, nodeListener -> nodeListener.onNodeStateChanged(event));
                 return;
             }
             if (result.result == null || result.result.state == null) {
@@ -164,38 +164,26 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
             return;
         }
 
-        ZwaveNodeListener nodeListener;
-
         if (message instanceof EventMessage eventMsg && eventMsg.event != null) {
             String eventType = eventMsg.event.event;
-            nodeListener = nodeListeners.get(eventMsg.event.nodeId);
+            Event event = eventMsg.event;
             switch (eventType) {
                 case "notification":
-                    if (nodeListener != null) {
-                        Event event = normalizeNotificationEvent(eventMsg.event);
-                        nodeListener.onNodeStateChanged(event);
-                    }
+                    eventDispatcher.dispatch(event.nodeId,
+                            nodeListener -> nodeListener.onNodeStateChanged(normalizeNotificationEvent(event)));
                     break;
                 case "value updated":
                 case "value notification":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeStateChanged(eventMsg.event);
-                    }
+                    eventDispatcher.dispatch(event.nodeId, nodeListener -> nodeListener.onNodeStateChanged(event));
                     break;
                 case "alive":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeAlive(eventMsg.event);
-                    }
+                    eventDispatcher.dispatch(event.nodeId, nodeListener -> nodeListener.onNodeAlive(event));
                     break;
                 case "dead":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeDead(eventMsg.event);
-                    }
+                    eventDispatcher.dispatch(event.nodeId, nodeListener -> nodeListener.onNodeDead(event));
                     break;
                 case "node removed":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeRemoved(eventMsg.event);
-                    }
+                    eventDispatcher.dispatch(event.nodeId, nodeListener -> nodeListener.onNodeRemoved(event));
                     break;
                 case "node added":
                     final NodeDiscoveryService discovery = discoveryService;
@@ -204,8 +192,10 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
                     }
                     break;
                 case "statistics updated":
-                    if (nodeListener != null && eventMsg.event.statistics != null) {
-                        nodeListener.onStatisticsUpdated(eventMsg.event.statistics);
+                    Statistics statistics = event.statistics;
+                    if (statistics != null) {
+                        eventDispatcher.dispatch(event.nodeId,
+                                nodeListener -> nodeListener.onStatisticsUpdated(statistics));
                     }
                     break;
                 default:
@@ -286,13 +276,10 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
             logger.trace("Node {}. Removed state is missing update", nodeId);
             lastNodeStates.remove(nodeId);
 
-            final ZwaveNodeListener nodeListener = nodeListeners.get(nodeId);
-            if (nodeListener != null) {
-                Event event = new Event();
-                event.nodeId = nodeId;
-                event.event = "node removed";
-                nodeListener.onNodeRemoved(event);
-            }
+            Event event = new Event();
+            event.nodeId = nodeId;
+            event.event = "node removed";
+            eventDispatcher.dispatch(nodeId, nodeListener -> nodeListener.onNodeRemoved(event));
 
             if (discovery != null) {
                 discovery.removeNodeDiscovery(nodeId);
@@ -316,6 +303,13 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
         }
     }
 
+    /**
+     * @return the dispatcher delivering events to the node handlers, giving access to its queue and latency metrics
+     */
+    public NodeEventDispatcher getEventDispatcher() {
+        return eventDispatcher;
+    }
+
     public @Nullable Node requestNodeDetails(int nodeId) {
         Node node = lastNodeStates.get(nodeId);
         logger.debug("Node {}. Details requested, provided: {}", nodeId, node != null);
@@ -368,6 +362,11 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
     public void dispose() {
         stopInitialConnectionJob();
         client.stop();
+        logger.debug("Delivered {} of {} node events, max queue depth {}, handler time avg {} ms, max {} ms",
+                eventDispatcher.getDeliveredEvents(), eventDispatcher.getDispatchedEvents(),
+                eventDispatcher.getMaxQueueDepth(), eventDispatcher.getAverageHandlerMillis(),
+                eventDispatcher.getMaxHandlerMillis());
+        eventDispatcher.clear();
         super.dispose();
     }
 
@@ -18,6 +18,7 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.zwavejs.internal.type.ZwaveJSNodeMetadataCache;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSTypeGenerator;
 import org.openhab.core.io.net.http.WebSocketFactory;
 import org.openhab.core.thing.Bridge;
@@ -44,12 +45,15 @@ public class ZwaveJSHandlerFactory extends BaseThingHandlerFactory {
 
     private WebSocketFactory webSocketFactory;
     private ZwaveJSTypeGenerator typeGenerator;
+    private ZwaveJSNodeMetadataCache metadataCache;
 
     @Activate
     public ZwaveJSHandlerFactory(final @Reference WebSocketFactory webSocketFactory,
-            final @Reference ZwaveJSTypeGenerator typeGenerator) {
+            final @Reference ZwaveJSTypeGenerator typeGenerator,
+            final @Reference ZwaveJSNodeMetadataCache metadataCache) {
         this.webSocketFactory = webSocketFactory;
         this.typeGenerator = typeGenerator;
+        this.metadataCache = metadataCache;
     }
 
     @Override
@@ -64,7 +68,7 @@ public class ZwaveJSHandlerFactory extends BaseThingHandlerFactory {
         if (THING_TYPE_GATEWAY.equals(thingTypeUID)) {
             return new ZwaveJSBridgeHandler((Bridge) thing, webSocketFactory);
         } else if (THING_TYPE_NODE.equals(thingTypeUID)) {
-            return new ZwaveJSNodeHandler(thing, typeGenerator);
+            return new ZwaveJSNodeHandler(thing, typeGenerator, metadataCache);
         }
 
         return null;
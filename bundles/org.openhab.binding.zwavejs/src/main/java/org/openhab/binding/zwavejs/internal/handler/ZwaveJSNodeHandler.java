@@ -42,6 +42,7 @@ import org.openhab.binding.zwavejs.internal.config.ZwaveJSChannelConfiguration;
 import org.openhab.binding.zwavejs.internal.config.ZwaveJSNodeConfiguration;
 import org.openhab.binding.zwavejs.internal.conversion.ChannelMetadata;
 import org.openhab.binding.zwavejs.internal.conversion.ConfigMetadata;
+import org.openhab.binding.zwavejs.internal.type.ZwaveJSNodeMetadataCache;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSTypeGenerator;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSTypeGeneratorResult;
 import org.openhab.binding.zwavejs.internal.type.capabilities.ColorCapability;
@@ -95,6 +96,7 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
 
     private final Logger logger = LoggerFactory.getLogger(ZwaveJSNodeHandler.class);
     private final ZwaveJSTypeGenerator typeGenerator;
+    private final ZwaveJSNodeMetadataCache metadataCache;
     private ZwaveJSNodeConfiguration config = new ZwaveJSNodeConfiguration();
     private boolean configurationAsChannels = false;
     protected ScheduledExecutorService executorService = scheduler;
@@ -103,9 +105,15 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
     private Map<Integer, ColorCapability> colorCapabilities = new HashMap<>();
     protected Map<Integer, RollerShutterCapability> rollerShutterCapabilities = new HashMap<>();
 
-    public ZwaveJSNodeHandler(final Thing thing, final ZwaveJSTypeGenerator typeGenerator) {
+    // metadata fingerprint and type information of the last successful setup, reused on reconnect
+    private @Nullable String setupFingerprint;
+    private @Nullable ZwaveJSTypeGeneratorResult setupResult;
+
+    public ZwaveJSNodeHandler(final Thing thing, final ZwaveJSTypeGenerator typeGenerator,
+            final ZwaveJSNodeMetadataCache metadataCache) {
         super(thing);
         this.typeGenerator = typeGenerator;
+        this.metadataCache = metadataCache;
     }
 
     protected ZwaveJSChannelConfiguration getChannelConfiguration(@Nullable Channel channel) {
@@ -750,24 +758,31 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
         configurationAsChannels = Objects.requireNonNull(getBridge()).getConfiguration()
                 .as(ZwaveJSBridgeConfiguration.class).configurationChannels;
 
-        ZwaveJSTypeGeneratorResult result;
+        String fingerprint = metadataCache.fingerprint(node, configurationAsChannels);
+        ZwaveJSTypeGeneratorResult result = setupResult;
+        boolean restored = false;
         try {
-            result = typeGenerator.generate(thing.getUID(), node, configurationAsChannels);
+            if (result != null && fingerprint.equals(setupFingerprint)) {
+                logger.debug("Node {}. Metadata unchanged, reusing generated type information", node.nodeId);
+                typeGenerator.updateValues(result, node, configurationAsChannels);
+                restored = true;
+            } else {
+                result = new ZwaveJSTypeGeneratorResult();
+                if (!thing.getChannels().isEmpty()
+                        && metadataCache.restoreCapabilities(thing.getUID(), fingerprint, result)) {
+                    logger.debug("Node {}. Metadata unchanged since the Thing was built, restoring type information",
+                            node.nodeId);
+                    typeGenerator.restore(result, thing.getUID(), node, configurationAsChannels, thing.getChannels());
+                    restored = true;
+                } else {
+                    result = typeGenerator.generate(thing.getUID(), node, configurationAsChannels);
+                }
+            }
         } catch (Exception e) {
             logger.warn("Node {}. Error generating type information", node.nodeId, e);
             return false;
         }
 
-        ThingBuilder builder = editThing();
-
-        // Update location if needed
-        if (!result.location.equals(getThing().getLocation()) && !result.location.isBlank()) {
-            builder.withLocation(result.location);
-        }
-
-        // Update channels
-        builder = updateChannels(builder, result);
-
         colorCapabilities = result.colorCapabilities;
         if (logger.isDebugEnabled()) {
             colorCapabilities.forEach((e, c) -> logger.debug("Node {}. Endpoint {}, {}", node.nodeId, e, c));
@@ -776,7 +791,30 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
         if (logger.isDebugEnabled()) {
             rollerShutterCapabilities.forEach((e, c) -> logger.debug("Node {}. Endpoint {}, {}", node.nodeId, e, c));
         }
-        updateThing(builder.build());
+
+        Set<String> channelIds = thing.getChannels().stream().map(c -> c.getUID().getId())
+                .collect(Collectors.toSet());
+        boolean unchanged = restored || (metadataCache.isUnchanged(thing.getUID(), fingerprint)
+                && channelIds.equals(result.channels.keySet()));
+        if (unchanged) {
+            logger.debug("Node {}. Metadata unchanged since the Thing was built, skipping Thing update", node.nodeId);
+        } else {
+            ThingBuilder builder = editThing();
+
+            // Update location if needed
+            if (!result.location.equals(getThing().getLocation()) && !result.location.isBlank()) {
+                builder.withLocation(result.location);
+            }
+
+            // Update channels
+            builder = updateChannels(builder, result);
+            updateThing(builder.build());
+        }
+        if (!restored) {
+            metadataCache.put(thing.getUID(), fingerprint, result);
+        }
+        setupFingerprint = fingerprint;
+        setupResult = result;
 
         // Initialize state for channels and configuration
         initializeChannelAndConfigState(node, result);
@@ -905,6 +943,12 @@ public class ZwaveJSNodeHandler extends BaseThingHandler implements ZwaveNodeLis
         }
     }
 
+    @Override
+    public void handleRemoval() {
+        metadataCache.remove(thing.getUID());
+        super.handleRemoval();
+    }
+
     @Override
     public void dispose() {
         Bridge bridge = getBridge();
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.type;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.zwavejs.internal.api.dto.Node;
+import org.openhab.binding.zwavejs.internal.api.dto.Value;
+import org.openhab.binding.zwavejs.internal.type.capabilities.ColorCapability;
+import org.openhab.binding.zwavejs.internal.type.capabilities.RollerShutterCapability;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.storage.StorageService;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+
+/**
+ * The {@link ZwaveJSNodeMetadataCache} persists a fingerprint of the metadata a node Thing has been built from.
+ * The fingerprint covers the node id, firmware, device configuration and the metadata of all values, but not the
+ * values themselves. A node whose fingerprint did not change since its channels were last built does not need its
+ * Thing to be updated again.
+ * <p>
+ * Along with the fingerprint, the channels making up the color and roller shutter capabilities are persisted. Together
+ * with the channels of the Thing they allow to restore the generated type information after a restart without
+ * generating the channels again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ZwaveJSNodeMetadataCache.class)
+public class ZwaveJSNodeMetadataCache {
+
+    // must be changed whenever the channel generation changes, to rebuild the Things of all nodes
+    private static final String METADATA_VERSION = "2";
+
+    private static class ColorCapabilityEntry {
+        Set<String> colorChannels = new HashSet<>();
+        @Nullable
+        String dimmerChannel;
+        @Nullable
+        String colorTempChannel;
+        @Nullable
+        String warmWhiteChannel;
+        @Nullable
+        String coldWhiteChannel;
+    }
+
+    private static class RollerShutterCapabilityEntry {
+        String dimmerChannel = "";
+        String upChannel = "";
+        String downChannel = "";
+    }
+
+    private static class Entry {
+        String fingerprint = "";
+        Map<Integer, ColorCapabilityEntry> colorCapabilities = new HashMap<>();
+        Map<Integer, RollerShutterCapabilityEntry> rollerShutterCapabilities = new HashMap<>();
+    }
+
+    private final Gson gson = new Gson();
+    private final Storage<String> storage;
+
+    @Activate
+    public ZwaveJSNodeMetadataCache(@Reference StorageService storageService) {
+        this.storage = storageService.getStorage(ZwaveJSNodeMetadataCache.class.getName(),
+                ZwaveJSNodeMetadataCache.class.getClassLoader());
+    }
+
+    /**
+     * Calculates the fingerprint of the metadata of the given node.
+     *
+     * @param node the node
+     * @param configurationAsChannels flag indicating whether configuration is treated as channels
+     * @return the fingerprint
+     */
+    public String fingerprint(Node node, boolean configurationAsChannels) {
+        JsonArray values = new JsonArray();
+        if (node.values != null) {
+            for (Value value : node.values) {
+                JsonElement element = gson.toJsonTree(value);
+                if (element.isJsonObject()) {
+                    element.getAsJsonObject().remove("value");
+                }
+                values.add(element);
+            }
+        }
+        return String.join("|", METADATA_VERSION, String.valueOf(node.nodeId), String.valueOf(node.firmwareVersion),
+                hash(String.valueOf(node.label) + gson.toJson(node.deviceConfig)), hash(values.toString()),
+                String.valueOf(configurationAsChannels));
+    }
+
+    /**
+     * Checks whether the Thing has been built from metadata with the given fingerprint.
+     *
+     * @param thingUID the UID of the Thing
+     * @param fingerprint the fingerprint of the current metadata of the node
+     * @return {@code true} if the metadata did not change
+     */
+    public boolean isUnchanged(ThingUID thingUID, String fingerprint) {
+        return get(thingUID, fingerprint) != null;
+    }
+
+    /**
+     * Restores the color and roller shutter capabilities of a Thing built from metadata with the given fingerprint.
+     *
+     * @param thingUID the UID of the Thing
+     * @param fingerprint the fingerprint of the current metadata of the node
+     * @param result the result the capabilities are restored into
+     * @return {@code true} if the metadata did not change and the capabilities have been restored
+     */
+    public boolean restoreCapabilities(ThingUID thingUID, String fingerprint, ZwaveJSTypeGeneratorResult result) {
+        Entry entry = get(thingUID, fingerprint);
+        if (entry == null) {
+            return false;
+        }
+        entry.colorCapabilities.forEach((endpoint, color) -> {
+            ColorCapability capability = new ColorCapability();
+            color.colorChannels.forEach(channel -> capability.colorChannels.add(new ChannelUID(channel)));
+            capability.dimmerChannel = toChannelUID(color.dimmerChannel);
+            capability.colorTempChannel = toChannelUID(color.colorTempChannel);
+            capability.warmWhiteChannel = toChannelUID(color.warmWhiteChannel);
+            capability.coldWhiteChannel = toChannelUID(color.coldWhiteChannel);
+            result.colorCapabilities.put(endpoint, capability);
+        });
+        entry.rollerShutterCapabilities.forEach((endpoint, rollerShutter) -> result.rollerShutterCapabilities
+                .put(endpoint, new RollerShutterCapability(endpoint, new ChannelUID(rollerShutter.dimmerChannel),
+                        new ChannelUID(rollerShutter.upChannel), new ChannelUID(rollerShutter.downChannel))));
+        return true;
+    }
+
+    /**
+     * Records the fingerprint of the metadata the Thing has been built from, and the capabilities generated from it.
+     *
+     * @param thingUID the UID of the Thing
+     * @param fingerprint the fingerprint of the metadata
+     * @param result the type information generated from the metadata
+     */
+    public void put(ThingUID thingUID, String fingerprint, ZwaveJSTypeGeneratorResult result) {
+        Entry entry = new Entry();
+        entry.fingerprint = fingerprint;
+        result.colorCapabilities.forEach((endpoint, capability) -> {
+            ColorCapabilityEntry color = new ColorCapabilityEntry();
+            capability.colorChannels.forEach(channel -> color.colorChannels.add(channel.getAsString()));
+            color.dimmerChannel = asString(capability.dimmerChannel);
+            color.colorTempChannel = asString(capability.colorTempChannel);
+            color.warmWhiteChannel = asString(capability.warmWhiteChannel);
+            color.coldWhiteChannel = asString(capability.coldWhiteChannel);
+            entry.colorCapabilities.put(endpoint, color);
+        });
+        result.rollerShutterCapabilities.forEach((endpoint, capability) -> {
+            RollerShutterCapabilityEntry rollerShutter = new RollerShutterCapabilityEntry();
+            rollerShutter.dimmerChannel = capability.dimmerChannel.getAsString();
+            rollerShutter.upChannel = capability.upChannel.getAsString();
+            rollerShutter.downChannel = capability.downChannel.getAsString();
+            entry.rollerShutterCapabilities.put(endpoint, rollerShutter);
+        });
+        storage.put(thingUID.getAsString(), gson.toJson(entry));
+    }
+
+    /**
+     * Removes the fingerprint of a removed Thing.
+     *
+     * @param thingUID the UID of the Thing
+     */
+    public void remove(ThingUID thingUID) {
+        storage.remove(thingUID.getAsString());
+    }
+
+    private @Nullable Entry get(ThingUID thingUID, String fingerprint) {
+        String json = storage.get(thingUID.getAsString());
+        if (json == null) {
+            return null;
+        }
+        try {
+            Entry entry = gson.fromJson(json, Entry.class);
+            return entry != null && fingerprint.equals(entry.fingerprint) ? entry : null;
+        } catch (JsonParseException e) {
+            // stored by an older version
+            return null;
+        }
+    }
+
+    private static @Nullable ChannelUID toChannelUID(@Nullable String channelUID) {
+        return channelUID != null ? new ChannelUID(channelUID) : null;
+    }
+
+    private static @Nullable String asString(@Nullable ChannelUID channelUID) {
+        return channelUID != null ? channelUID.getAsString() : null;
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -12,8 +12,11 @@
  */
 package org.openhab.binding.zwavejs.internal.type;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.zwavejs.internal.api.dto.Node;
+import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ThingUID;
 
 /**
@@ -36,4 +39,34 @@ public interface ZwaveJSTypeGenerator {
      * @return a ZwaveJSTypeGeneratorResult containing the generated type information
      */
     ZwaveJSTypeGeneratorResult generate(ThingUID thingUID, Node node, boolean configurationAsChannels);
+
+    /*
+     * Replaces the values of a ZwaveJSTypeGeneratorResult previously generated for the node by the current values of
+     * the node, without generating the channels and configuration descriptions again.
+     *
+     * @param result the result previously generated for the node
+     * 
+     * @param node the node providing the current values
+     * 
+     * @param configurationAsChannels a flag indicating whether the configuration should be treated as channels
+     */
+    void updateValues(ZwaveJSTypeGeneratorResult result, Node node, boolean configurationAsChannels);
+
+    /*
+     * Restores a ZwaveJSTypeGeneratorResult for a node whose Thing has been built from unchanged metadata, e.g. after
+     * a restart. The channels are taken from the Thing instead of being generated again; only the configuration
+     * description and the values are built from the node.
+     *
+     * @param result the result holding the restored capabilities of the node
+     * 
+     * @param thingUID the unique identifier of the thing
+     * 
+     * @param node the node providing the configuration and the current values
+     * 
+     * @param configurationAsChannels a flag indicating whether the configuration should be treated as channels
+     * 
+     * @param channels the channels of the Thing
+     */
+    void restore(ZwaveJSTypeGeneratorResult result, ThingUID thingUID, Node node, boolean configurationAsChannels,
+            List<Channel> channels);
 }
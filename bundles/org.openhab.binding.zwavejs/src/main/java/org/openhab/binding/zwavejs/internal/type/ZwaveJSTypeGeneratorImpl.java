@@ -139,26 +139,16 @@ public class ZwaveJSTypeGeneratorImpl implements ZwaveJSTypeGenerator {
     @Override
     public ZwaveJSTypeGeneratorResult generate(ThingUID thingUID, Node node, boolean configurationAsChannels) {
         ZwaveJSTypeGeneratorResult result = new ZwaveJSTypeGeneratorResult();
-        List<ConfigDescriptionParameter> configDescriptions = new ArrayList<>();
         URI uri = Objects.requireNonNull(getConfigDescriptionURI(thingUID, node));
+        List<ConfigDescriptionParameter> configDescriptions = createConfigDescriptions(node, configurationAsChannels);
 
         for (Value value : node.values) {
-            if (!configurationAsChannels && CONFIGURATION_COMMAND_CLASSES.contains(value.commandClass)) {
-                ConfigMetadata metadata = new ConfigMetadata(node.nodeId, value);
-                configDescriptions.add(createConfigDescription(metadata));
-                if (!result.values.containsKey(metadata.id) && value.value != null) {
-                    result.values.put(metadata.id, value.value);
-                }
-            }
-            ChannelMetadata metadata = new ChannelMetadata(node.nodeId, value);
             if (configurationAsChannels || !CONFIGURATION_COMMAND_CLASSES.contains(value.commandClass)) {
+                ChannelMetadata metadata = new ChannelMetadata(node.nodeId, value);
                 result.channels = createChannel(thingUID, result, metadata, configDescriptionProvider);
-                if (!metadata.isIgnoredCommandClass(value.commandClassName) && !result.values.containsKey(metadata.id)
-                        && value.value != null) {
-                    result.values.put(metadata.id, value.value);
-                }
             }
         }
+        result.values = getValues(node, configurationAsChannels);
 
         // Skip adding RollerShutter channels for devices with color capabilities.
         // This prevents creating unnecessary RollerShutter channels for each color.
@@ -196,6 +186,62 @@ public class ZwaveJSTypeGeneratorImpl implements ZwaveJSTypeGenerator {
         return result;
     }
 
+    @Override
+    public void restore(ZwaveJSTypeGeneratorResult result, ThingUID thingUID, Node node,
+            boolean configurationAsChannels, List<Channel> channels) {
+        URI uri = Objects.requireNonNull(getConfigDescriptionURI(thingUID, node));
+        List<ConfigDescriptionParameter> configDescriptions = createConfigDescriptions(node, configurationAsChannels);
+        channels.forEach(channel -> result.channels.put(channel.getUID().getId(), channel));
+        updateValues(result, node, configurationAsChannels);
+
+        logger.debug("Node {}. Restored {} channels and {} configDescriptions with URI {}", node.nodeId,
+                result.channels.size(), configDescriptions.size(), uri);
+
+        configDescriptionProvider
+                .addConfigDescription(ConfigDescriptionBuilder.create(uri).withParameters(configDescriptions).build());
+    }
+
+    private List<ConfigDescriptionParameter> createConfigDescriptions(Node node, boolean configurationAsChannels) {
+        List<ConfigDescriptionParameter> configDescriptions = new ArrayList<>();
+        if (!configurationAsChannels) {
+            for (Value value : node.values) {
+                if (CONFIGURATION_COMMAND_CLASSES.contains(value.commandClass)) {
+                    configDescriptions.add(createConfigDescription(new ConfigMetadata(node.nodeId, value)));
+                }
+            }
+        }
+        return configDescriptions;
+    }
+
+    @Override
+    public void updateValues(ZwaveJSTypeGeneratorResult result, Node node, boolean configurationAsChannels) {
+        result.values = getValues(node, configurationAsChannels);
+        result.rollerShutterCapabilities.values().forEach(cap -> {
+            Object dimmerValue = result.values.get(cap.dimmerChannel.getId());
+            if (dimmerValue != null && result.channels.containsKey(cap.rollerShutterChannelId)) {
+                result.values.put(cap.rollerShutterChannelId, dimmerValue);
+            }
+        });
+    }
+
+    private Map<String, Object> getValues(Node node, boolean configurationAsChannels) {
+        Map<String, Object> values = new HashMap<>();
+        for (Value value : node.values) {
+            if (value.value == null) {
+                continue;
+            }
+            if (!configurationAsChannels && CONFIGURATION_COMMAND_CLASSES.contains(value.commandClass)) {
+                values.putIfAbsent(new ConfigMetadata(node.nodeId, value).id, value.value);
+            } else {
+                ChannelMetadata metadata = new ChannelMetadata(node.nodeId, value);
+                if (!metadata.isIgnoredCommandClass(value.commandClassName)) {
+                    values.putIfAbsent(metadata.id, value.value);
+                }
+            }
+        }
+        return values;
+    }
+
     private void addRawNotificationChannel(ThingUID thingUID, Node node, ZwaveJSTypeGeneratorResult result) {
         // loop all channels to find endpoints with a notification CC or a door lock CC
         Map<Integer, List<Integer>> grouped = result.channels.values().stream()
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NodeEventDispatcherTest {
+
+    private static ZwaveNodeListener listener(int nodeId) {
+        ZwaveNodeListener listener = mock(ZwaveNodeListener.class);
+        when(listener.getId()).thenReturn(nodeId);
+        return listener;
+    }
+
+    @Test
+    public void testOrderedPerNodeAndParallelAcrossNodes() throws InterruptedException {
+        Map<Integer, ZwaveNodeListener> listeners = new ConcurrentHashMap<>();
+        listeners.put(1, listener(1));
+        listeners.put(2, listener(2));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            NodeEventDispatcher dispatcher = new NodeEventDispatcher(listeners, executor);
+            CountDownLatch blocked = new CountDownLatch(1);
+            CountDownLatch node2Done = new CountDownLatch(1);
+            List<Integer> node1Events = Collections.synchronizedList(new ArrayList<>());
+
+            // a slow handler of node 1 does not hold back node 2
+            dispatcher.dispatch(1, listener -> {
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                node1Events.add(0);
+            });
+            for (int i = 1; i < 50; i++) {
+                int value = i;
+                dispatcher.dispatch(1, listener -> node1Events.add(value));
+            }
+            dispatcher.dispatch(2, listener -> node2Done.countDown());
+            assertTrue(node2Done.await(5, TimeUnit.SECONDS));
+            assertEquals(49, dispatcher.getQueuedEvents());
+            blocked.countDown();
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                expected.add(i);
+            }
+            assertEquals(expected, node1Events);
+            assertEquals(51, dispatcher.getDispatchedEvents());
+            assertEquals(51, dispatcher.getDeliveredEvents());
+            assertTrue(dispatcher.getMaxQueueDepth() >= 49);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEventsWithoutListenerAreDropped() {
+        Map<Integer, ZwaveNodeListener> listeners = new ConcurrentHashMap<>();
+        NodeEventDispatcher dispatcher = new NodeEventDispatcher(listeners, Runnable::run);
+        List<Integer> events = new ArrayList<>();
+
+        dispatcher.dispatch(3, listener -> events.add(3));
+        listeners.put(3, listener(3));
+        dispatcher.dispatch(3, listener -> events.add(4));
+
+        assertEquals(List.of(4), events);
+        assertEquals(1, dispatcher.getDispatchedEvents());
+        assertEquals(0, dispatcher.getQueuedEvents());
+    }
+}
@@ -33,10 +33,12 @@ import org.openhab.binding.zwavejs.internal.handler.ZwaveJSNodeHandler;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSChannelTypeProvider;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSConfigDescriptionProvider;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSConfigDescriptionProviderImpl;
+import org.openhab.binding.zwavejs.internal.type.ZwaveJSNodeMetadataCache;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSTypeGenerator;
 import org.openhab.binding.zwavejs.internal.type.ZwaveJSTypeGeneratorImpl;
 import org.openhab.binding.zwavejs.internal.type.capabilities.RollerShutterCapability;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.test.storage.VolatileStorageService;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -109,7 +111,7 @@ public class ZwaveJSNodeHandlerMock extends ZwaveJSNodeHandler {
 
     public ZwaveJSNodeHandlerMock(Thing thing, ZwaveJSTypeGenerator typeGenerator, String filename,
             boolean configAsChannel) {
-        super(thing, typeGenerator);
+        super(thing, typeGenerator, new ZwaveJSNodeMetadataCache(new VolatileStorageService()));
         this.filename = filename;
         this.configAsChannel = configAsChannel;
         executorService = Mockito.mock(ScheduledExecutorService.class);
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.type;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.zwavejs.internal.BindingConstants.BINDING_ID;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.binding.zwavejs.internal.DataUtil;
+import org.openhab.binding.zwavejs.internal.api.dto.Node;
+import org.openhab.binding.zwavejs.internal.api.dto.Value;
+import org.openhab.binding.zwavejs.internal.handler.mock.ZwaveJSChannelTypeInMemmoryProvider;
+import org.openhab.core.test.storage.VolatileStorageService;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ZwaveJSNodeMetadataCacheTest {
+
+    private static final ThingUID THING_UID = new ThingUID(BINDING_ID, "test-bridge", "test-thing");
+
+    @Test
+    public void testFingerprintIgnoresValues() throws IOException {
+        ZwaveJSNodeMetadataCache cache = new ZwaveJSNodeMetadataCache(new VolatileStorageService());
+        Node node = DataUtil.getNodeFromStore("store_4.json", 7);
+        String fingerprint = cache.fingerprint(node, false);
+
+        assertEquals(fingerprint, cache.fingerprint(DataUtil.getNodeFromStore("store_4.json", 7), false));
+        assertNotEquals(fingerprint, cache.fingerprint(node, true));
+
+        for (Value value : node.values) {
+            value.value = 42;
+        }
+        assertEquals(fingerprint, cache.fingerprint(node, false));
+
+        node.values.get(0).metadata.label = "changed label";
+        assertNotEquals(fingerprint, cache.fingerprint(node, false));
+
+        Node updatedNode = DataUtil.getNodeFromStore("store_4.json", 7);
+        updatedNode.firmwareVersion = "99.0";
+        assertNotEquals(fingerprint, cache.fingerprint(updatedNode, false));
+    }
+
+    @Test
+    public void testFingerprintIsPersisted() throws IOException {
+        VolatileStorageService storageService = new VolatileStorageService();
+        ZwaveJSNodeMetadataCache cache = new ZwaveJSNodeMetadataCache(storageService);
+        String fingerprint = cache.fingerprint(DataUtil.getNodeFromStore("store_4.json", 7), false);
+
+        assertFalse(cache.isUnchanged(THING_UID, fingerprint));
+        cache.put(THING_UID, fingerprint, new ZwaveJSTypeGeneratorResult());
+
+        // e.g. after a restart of openHAB
+        ZwaveJSNodeMetadataCache restartedCache = new ZwaveJSNodeMetadataCache(storageService);
+        assertTrue(restartedCache.isUnchanged(THING_UID, fingerprint));
+        assertFalse(restartedCache.isUnchanged(THING_UID,
+                restartedCache.fingerprint(DataUtil.getNodeFromStore("store_4.json", 5), false)));
+
+        restartedCache.remove(THING_UID);
+        assertFalse(restartedCache.isUnchanged(THING_UID, fingerprint));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 21, 44 })
+    public void testRestoreMatchesGenerate(int nodeId) throws IOException {
+        VolatileStorageService storageService = new VolatileStorageService();
+        ZwaveJSNodeMetadataCache cache = new ZwaveJSNodeMetadataCache(storageService);
+        ZwaveJSConfigDescriptionProviderImpl configDescriptionProvider = new ZwaveJSConfigDescriptionProviderImpl();
+        ZwaveJSTypeGenerator generator = createGenerator(configDescriptionProvider);
+        Node node = DataUtil.getNodeFromStore("store_4.json", nodeId);
+        String fingerprint = cache.fingerprint(node, false);
+        ZwaveJSTypeGeneratorResult generated = generator.generate(THING_UID, node, false);
+        cache.put(THING_UID, fingerprint, generated);
+
+        // e.g. after a restart of openHAB, the channels are taken from the Thing
+        ZwaveJSConfigDescriptionProviderImpl restartedProvider = new ZwaveJSConfigDescriptionProviderImpl();
+        ZwaveJSTypeGeneratorResult restored = new ZwaveJSTypeGeneratorResult();
+        assertTrue(new ZwaveJSNodeMetadataCache(storageService).restoreCapabilities(THING_UID, fingerprint, restored));
+        createGenerator(restartedProvider).restore(restored, THING_UID, node, false,
+                List.copyOf(generated.channels.values()));
+
+        assertEquals(generated.channels.keySet(), restored.channels.keySet());
+        assertEquals(generated.values, restored.values);
+        assertEquals(generated.colorCapabilities.toString(), restored.colorCapabilities.toString());
+        assertEquals(generated.rollerShutterCapabilities.toString(), restored.rollerShutterCapabilities.toString());
+        assertEquals(configDescriptionProvider.getConfigDescriptions(null).toString(),
+                restartedProvider.getConfigDescriptions(null).toString());
+    }
+
+    private ZwaveJSTypeGenerator createGenerator(ZwaveJSConfigDescriptionProviderImpl configDescriptionProvider) {
+        ThingRegistry thingRegistry = mock(ThingRegistry.class);
+        Thing thing = mock(Thing.class);
+        when(thing.getUID()).thenReturn(THING_UID);
+        when(thing.getBridgeUID()).thenReturn(new ThingUID(BINDING_ID, "test-bridge"));
+        when(thingRegistry.get(any())).thenReturn(thing);
+        return new ZwaveJSTypeGeneratorImpl(new ZwaveJSChannelTypeInMemmoryProvider(), configDescriptionProvider,
+                thingRegistry);
+    }
+
+    @Test
+    public void testUpdateValuesMatchesGenerate() throws IOException {
+        ZwaveJSTypeGenerator generator = createGenerator(new ZwaveJSConfigDescriptionProviderImpl());
+        ZwaveJSTypeGeneratorResult result = generator.generate(THING_UID,
+                DataUtil.getNodeFromStore("store_4.json", 7), false);
+
+        Node node = DataUtil.getNodeFromStore("store_4.json", 7);
+        for (Value value : node.values) {
+            if (value.value instanceof Number) {
+                value.value = 42L;
+            }
+        }
+        generator.updateValues(result, node, false);
+
+        assertEquals(generator.generate(THING_UID, node, false).values, result.values);
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Write buffer coalescing stored items into BatchWriteItem requests.
+ *
+ * Items are collected for the configured interval and written in batches of at most {@value #MAX_BATCH_SIZE} items,
+ * the DynamoDB limit for one BatchWriteItem request. Only one request is in flight at a time.
+ *
+ * Throttling is handled adaptively: UnprocessedItems and ProvisionedThroughputExceeded responses put the items back
+ * at the head of the queue and double the pause between requests (up to {@link #MAX_BACKOFF}). Each fully
+ * processed batch halves the pause again.
+ *
+ * Writes to a table that does not exist yet fall back to {@link TableCreatingPutItem}, which creates the table.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+    static final int MAX_BATCH_SIZE = 25;
+    static final Duration MIN_BACKOFF = Duration.ofMillis(100);
+    static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private record Pending<T extends DynamoDBItem<?>>(T dto, DynamoDbAsyncTable<T> table) {
+        /**
+         * Primary key of the item as stored. The sort key has millisecond precision, so writes within the same
+         * millisecond address the same item.
+         */
+        String key() {
+            return DynamoDBBatchWriter.key(table.tableName(), dto);
+        }
+    }
+
+    private final DynamoDBPersistenceService service;
+    private final DynamoDbEnhancedAsyncClient client;
+    private final ScheduledExecutorService scheduler;
+    private final Duration interval;
+    private final int maxPendingItems;
+
+    private final Deque<Pending<?>> pending = new ArrayDeque<>();
+    private Duration backoff = Duration.ZERO;
+    private @Nullable ScheduledFuture<?> scheduledFlush;
+    private boolean stopped;
+
+    private long batchesWritten;
+    private long itemsWritten;
+    private long itemsRetried;
+    private long itemsDropped;
+    private long throttledRequests;
+
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, DynamoDbEnhancedAsyncClient client,
+            ScheduledExecutorService scheduler, Duration interval, int maxPendingItems) {
+        this.service = service;
+        this.client = client;
+        this.scheduler = scheduler;
+        this.interval = interval;
+        this.maxPendingItems = Math.max(MAX_BATCH_SIZE, maxPendingItems);
+    }
+
+    /**
+     * Queue an item for writing.
+     *
+     * @param dto item to write
+     * @param table table to write to
+     */
+    public <T extends DynamoDBItem<?>> void add(T dto, DynamoDbAsyncTable<T> table) {
+        synchronized (pending) {
+            if (stopped) {
+                logger.debug("Batch writer stopped, not storing item {}", dto.getName());
+                return;
+            }
+            if (pending.size() >= maxPendingItems) {
+                itemsDropped++;
+                logger.warn("Write buffer full ({} items), dropping item {}. Consider increasing write capacity.",
+                        maxPendingItems, dto.getName());
+                return;
+            }
+            pending.addLast(new Pending<>(dto, table));
+            if (scheduledFlush == null) {
+                scheduleFlush(pending.size() >= MAX_BATCH_SIZE ? backoff : interval);
+            }
+        }
+    }
+
+    /**
+     * Stop accepting items and write the remaining ones, waiting at most {@link #STOP_TIMEOUT}.
+     */
+    public void stop() {
+        ScheduledFuture<?> localScheduledFlush;
+        synchronized (pending) {
+            stopped = true;
+            localScheduledFlush = scheduledFlush;
+            scheduledFlush = null;
+        }
+        if (localScheduledFlush != null) {
+            localScheduledFlush.cancel(false);
+        }
+        Instant deadline = Instant.now().plus(STOP_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            List<Pending<?>> batch = takeBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                long backoffMillis = getBackoff().toMillis();
+                if (backoffMillis > 0) {
+                    Thread.sleep(backoffMillis);
+                }
+                writeBatch(batch).get(Duration.between(Instant.now(), deadline).toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                break;
+            }
+        }
+        synchronized (pending) {
+            if (!pending.isEmpty()) {
+                logger.warn("Discarding {} unwritten items on shutdown", pending.size());
+                itemsDropped += pending.size();
+                pending.clear();
+            }
+        }
+    }
+
+    private void scheduleFlush(Duration delay) {
+        // caller holds the pending lock
+        scheduledFlush = scheduler.schedule(this::flush, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        List<Pending<?>> batch = takeBatch();
+        if (batch.isEmpty()) {
+            synchronized (pending) {
+                scheduledFlush = null;
+            }
+            return;
+        }
+        writeBatch(batch).whenComplete((result, exception) -> {
+            synchronized (pending) {
+                if (stopped) {
+                    return;
+                }
+                if (pending.isEmpty()) {
+                    scheduledFlush = null;
+                } else {
+                    // keep draining full batches, wait for more items otherwise
+                    Duration delay = pending.size() >= MAX_BATCH_SIZE ? backoff : interval;
+                    scheduleFlush(delay.compareTo(backoff) < 0 ? backoff : delay);
+                }
+            }
+        });
+    }
+
+    /**
+     * Take up to {@value #MAX_BATCH_SIZE} items from the queue. BatchWriteItem rejects requests containing the same
+     * key twice, so a later write for an already taken key replaces the earlier one.
+     */
+    private List<Pending<?>> takeBatch() {
+        synchronized (pending) {
+            Map<String, Pending<?>> batch = new LinkedHashMap<>();
+            while (batch.size() < MAX_BATCH_SIZE && !pending.isEmpty()) {
+                Pending<?> next = pending.pollFirst();
+                batch.put(next.key(), next);
+            }
+            return new ArrayList<>(batch.values());
+        }
+    }
+
+    private CompletableFuture<Void> writeBatch(List<Pending<?>> batch) {
+        Map<DynamoDbAsyncTable<?>, List<Pending<?>>> byTable = new LinkedHashMap<>();
+        for (Pending<?> item : batch) {
+            byTable.computeIfAbsent(item.table(), t -> new ArrayList<>()).add(item);
+        }
+        BatchWriteItemEnhancedRequest.Builder request = BatchWriteItemEnhancedRequest.builder();
+        byTable.values().forEach(items -> request.addWriteBatch(toWriteBatch(items)));
+
+        Instant start = Instant.now();
+        return client.batchWriteItem(request.build()).handle((result, exception) -> {
+            if (exception == null) {
+                List<Pending<?>> unprocessed = collectUnprocessed(result, batch);
+                onBatchCompleted(batch.size(), unprocessed);
+                logger.trace("BatchWriteItem: {} items written, {} unprocessed in {} ms",
+                        batch.size() - unprocessed.size(), unprocessed.size(),
+                        Duration.between(start, Instant.now()).toMillis());
+            } else {
+                onBatchFailed(batch, exception);
+            }
+            return null;
+        });
+    }
+
+    private static <T extends DynamoDBItem<?>> WriteBatch toWriteBatch(List<Pending<?>> items) {
+        @SuppressWarnings("unchecked") // all items of the list share the same table
+        DynamoDbAsyncTable<T> table = (DynamoDbAsyncTable<T>) items.getFirst().table();
+        Class<T> itemClass = table.tableSchema().itemType().rawClass();
+        WriteBatch.Builder<T> builder = WriteBatch.builder(itemClass).mappedTableResource(table);
+        items.forEach(item -> builder.addPutItem(itemClass.cast(item.dto())));
+        return builder.build();
+    }
+
+    /**
+     * Find the items of the batch DynamoDB did not process. Unprocessed items are reported per table name, and with
+     * the new table schema number and string items share one table. The returned items are only decoded to get their
+     * key, which is the same for every DTO schema of a table, and mapped back to the queued items.
+     */
+    private List<Pending<?>> collectUnprocessed(BatchWriteResult result, List<Pending<?>> batch) {
+        Map<String, Pending<?>> byKey = new HashMap<>();
+        Map<String, Pending<?>> byTableName = new LinkedHashMap<>();
+        for (Pending<?> item : batch) {
+            byKey.put(item.key(), item);
+            byTableName.putIfAbsent(item.table().tableName(), item);
+        }
+        List<Pending<?>> unprocessed = new ArrayList<>();
+        byTableName.values().forEach(sample -> collectUnprocessed(result, sample, byKey, unprocessed));
+        return unprocessed;
+    }
+
+    private <T extends DynamoDBItem<?>> void collectUnprocessed(BatchWriteResult result, Pending<T> sample,
+            Map<String, Pending<?>> byKey, List<Pending<?>> unprocessed) {
+        String tableName = sample.table().tableName();
+        for (T dto : result.unprocessedPutItemsForTable(sample.table())) {
+            Pending<?> item = byKey.get(key(tableName, dto));
+            if (item != null) {
+                unprocessed.add(item);
+            } else {
+                logger.warn("BatchWriteItem: unprocessed item {} is not part of the batch", dto.getName());
+            }
+        }
+    }
+
+    private static String key(String tableName, DynamoDBItem<?> dto) {
+        return tableName + "/" + dto.getName() + "/" + dto.getTime().toInstant().toEpochMilli();
+    }
+
+    private void onBatchCompleted(int size, List<Pending<?>> unprocessed) {
+        synchronized (pending) {
+            batchesWritten++;
+            itemsWritten += size - unprocessed.size();
+            if (unprocessed.isEmpty()) {
+                backoff = backoff.dividedBy(2);
+                if (backoff.compareTo(MIN_BACKOFF) < 0) {
+                    backoff = Duration.ZERO;
+                }
+            } else {
+                throttledRequests++;
+                increaseBackoff();
+                requeue(unprocessed);
+                logger.debug("BatchWriteItem: {} unprocessed items, retrying in {} ms", unprocessed.size(),
+                        backoff.toMillis());
+            }
+        }
+    }
+
+    private void onBatchFailed(List<Pending<?>> batch, Throwable exception) {
+        Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                ? exception.getCause()
+                : exception;
+        if (cause instanceof ProvisionedThroughputExceededException
+                || cause instanceof RequestLimitExceededException) {
+            synchronized (pending) {
+                throttledRequests++;
+                increaseBackoff();
+                requeue(batch);
+            }
+            logger.debug("BatchWriteItem throttled ({}), retrying {} items in {} ms", cause.getClass().getSimpleName(),
+                    batch.size(), backoff.toMillis());
+        } else if (cause instanceof ResourceNotFoundException) {
+            // Table does not exist yet. TableCreatingPutItem creates it, and copes with concurrent creation attempts
+            logger.trace("BatchWriteItem: table not found, falling back to PutItem with table creation");
+            batch.forEach(this::putItem);
+        } else {
+            synchronized (pending) {
+                itemsDropped += batch.size();
+            }
+            logger.warn("BatchWriteItem: failed (final) with {} {}. {} items were not stored.",
+                    cause.getClass().getSimpleName(), cause.getMessage(), batch.size());
+        }
+    }
+
+    private <T extends DynamoDBItem<?>> void putItem(Pending<T> item) {
+        new TableCreatingPutItem<>(service, item.dto(), item.table()).putItemAsync();
+    }
+
+    private void increaseBackoff() {
+        backoff = backoff.isZero() ? MIN_BACKOFF : backoff.multipliedBy(2);
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+    }
+
+    private void requeue(List<Pending<?>> items) {
+        // caller holds the pending lock; retried items are older than anything queued meanwhile
+        for (int i = items.size() - 1; i >= 0; i--) {
+            if (pending.size() >= maxPendingItems) {
+                itemsDropped += i + 1;
+                logger.warn("Write buffer full ({} items), dropping {} unprocessed items", maxPendingItems, i + 1);
+                break;
+            }
+            pending.addFirst(items.get(i));
+            itemsRetried++;
+        }
+    }
+
+    public int getPendingItems() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    public long getBatchesWritten() {
+        synchronized (pending) {
+            return batchesWritten;
+        }
+    }
+
+    public long getItemsWritten() {
+        synchronized (pending) {
+            return itemsWritten;
+        }
+    }
+
+    public long getItemsRetried() {
+        synchronized (pending) {
+            return itemsRetried;
+        }
+    }
+
+    public long getItemsDropped() {
+        synchronized (pending) {
+            return itemsDropped;
+        }
+    }
+
+    public long getThrottledRequests() {
+        synchronized (pending) {
+            return throttledRequests;
+        }
+    }
+
+    Duration getBackoff() {
+        synchronized (pending) {
+            return backoff;
+        }
+    }
+}
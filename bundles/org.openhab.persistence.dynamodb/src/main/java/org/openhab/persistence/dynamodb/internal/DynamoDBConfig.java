@@ -49,6 +49,7 @@ public class DynamoDBConfig {
     public static final String DEFAULT_TABLE_NAME = "openhab";
     public static final long DEFAULT_READ_CAPACITY_UNITS = 1;
     public static final long DEFAULT_WRITE_CAPACITY_UNITS = 1;
+    public static final long DEFAULT_BATCH_WRITE_INTERVAL_MILLIS = 0;
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBConfig.class);
 
     private long readCapacityUnits;
@@ -60,6 +61,7 @@ public class DynamoDBConfig {
     private String table;
     private String tablePrefixLegacy;
     private @Nullable Integer expireDays;
+    private long batchWriteIntervalMillis = DEFAULT_BATCH_WRITE_INTERVAL_MILLIS;
 
     /**
      *
@@ -168,22 +170,36 @@ public class DynamoDBConfig {
                 }
             }
 
+            final long batchWriteIntervalMillis;
+            Object batchWriteIntervalParam = config.get("batchWriteInterval");
+            if (batchWriteIntervalParam == null || batchWriteIntervalParam.toString().isBlank()) {
+                batchWriteIntervalMillis = DEFAULT_BATCH_WRITE_INTERVAL_MILLIS;
+            } else {
+                batchWriteIntervalMillis = Long.parseLong(batchWriteIntervalParam.toString());
+                if (batchWriteIntervalMillis < 0) {
+                    LOGGER.error("batchWriteInterval should be zero or positive integer");
+                    return null;
+                }
+            }
+
             switch (tableRevision) {
                 case NEW:
                     LOGGER.debug("Using new DynamoDB table schema");
                     return DynamoDBConfig.newSchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            table, readCapacityUnits, writeCapacityUnits, expireDays);
+                            table, readCapacityUnits, writeCapacityUnits, expireDays)
+                            .withBatchWriteInterval(batchWriteIntervalMillis);
                 case LEGACY:
                     LOGGER.warn(
                             "Using legacy DynamoDB table schema. It is recommended to transition to new schema by defining 'table' parameter and not configuring 'tablePrefix'");
                     return DynamoDBConfig.legacySchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits);
+                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits)
+                            .withBatchWriteInterval(batchWriteIntervalMillis);
                 case MAYBE_LEGACY:
                     LOGGER.debug(
                             "Unclear whether we should use new legacy DynamoDB table schema. It is recommended to explicitly define new 'table' parameter. The correct table schema will be detected at runtime.");
                     return DynamoDBConfig.maybeLegacySchema(region, credentials,
                             retryMode.map(AwsRetryPolicy::forRetryMode), table, tablePrefixLegacy, readCapacityUnits,
-                            writeCapacityUnits, expireDays);
+                            writeCapacityUnits, expireDays).withBatchWriteInterval(batchWriteIntervalMillis);
                 default:
                     throw new IllegalStateException("Unhandled enum. Bug");
             }
@@ -228,6 +244,11 @@ public class DynamoDBConfig {
         this.expireDays = expireDays;
     }
 
+    private DynamoDBConfig withBatchWriteInterval(long batchWriteIntervalMillis) {
+        this.batchWriteIntervalMillis = batchWriteIntervalMillis;
+        return this;
+    }
+
     public AwsCredentials getCredentials() {
         return credentials;
     }
@@ -263,4 +284,11 @@ public class DynamoDBConfig {
     public @Nullable Integer getExpireDays() {
         return expireDays;
     }
+
+    /**
+     * @return interval in milliseconds for coalescing writes into BatchWriteItem requests. 0 disables batching.
+     */
+    public long getBatchWriteIntervalMillis() {
+        return batchWriteIntervalMillis;
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+
+/**
+ * Integration test for writes coalesced into BatchWriteItem requests
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BatchWriteIntegrationTest extends BaseIntegrationTest {
+
+    public static final boolean LEGACY_MODE = false;
+
+    private static final int ITEM_COUNT = 60;
+
+    @BeforeAll
+    public static void initService(TestInfo testInfo) {
+        service = newService(isLegacyTest(testInfo), true, null, null, null, Map.of("batchWriteInterval", "100"));
+        clearData();
+    }
+
+    @SuppressWarnings("null")
+    private static DynamoDBBatchWriter getBatchWriter() {
+        DynamoDBBatchWriter batchWriter = service.getBatchWriter();
+        assertNotNull(batchWriter);
+        return batchWriter;
+    }
+
+    @SuppressWarnings("null")
+    private static int count(String itemName) {
+        FilterCriteria criteria = new FilterCriteria();
+        criteria.setItemName(itemName);
+        int count = 0;
+        for (HistoricItem ignored : service.query(criteria)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    public void testStoreManyItemsInBatches() {
+        // The first write falls back to PutItem, creating the tables
+        NumberItem firstNumber = new NumberItem("batchNumberFirst");
+        firstNumber.setState(new DecimalType(1));
+        ITEMS.put(firstNumber.getName(), firstNumber);
+        StringItem firstString = new StringItem("batchStringFirst");
+        firstString.setState(new StringType("first"));
+        ITEMS.put(firstString.getName(), firstString);
+        service.store(firstNumber);
+        service.store(firstString);
+        waitForAssert(() -> {
+            assertEquals(1, count(firstNumber.getName()));
+            assertEquals(1, count(firstString.getName()));
+        });
+
+        long batchesBefore = getBatchWriter().getBatchesWritten();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            if (i % 2 == 0) {
+                NumberItem item = new NumberItem("batchNumber" + i);
+                item.setState(new DecimalType(i));
+                ITEMS.put(item.getName(), item);
+                service.store(item);
+            } else {
+                StringItem item = new StringItem("batchString" + i);
+                item.setState(new StringType("value" + i));
+                ITEMS.put(item.getName(), item);
+                service.store(item);
+            }
+        }
+
+        waitForAssert(() -> {
+            for (int i = 0; i < ITEM_COUNT; i++) {
+                String name = (i % 2 == 0 ? "batchNumber" : "batchString") + i;
+                assertEquals(1, count(name), name);
+            }
+        });
+        assertEquals(0, getBatchWriter().getPendingItems());
+        long batches = getBatchWriter().getBatchesWritten() - batchesBefore;
+        assertTrue(batches >= ITEM_COUNT / DynamoDBBatchWriter.MAX_BATCH_SIZE, "batches: " + batches);
+        assertTrue(batches < ITEM_COUNT, "writes were not coalesced, batches: " + batches);
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    public void testWritesWithinSameMillisecondKeepLastValue() {
+        NumberItem item = new NumberItem("batchNumberSameMillis");
+        item.setState(new DecimalType(0));
+        ITEMS.put(item.getName(), item);
+        // Creates the table
+        service.store(item);
+        waitForAssert(() -> assertEquals(1, count(item.getName())));
+
+        DynamoDBBatchWriter batchWriter = getBatchWriter();
+        long droppedBefore = batchWriter.getItemsDropped();
+        ZonedDateTime time = ZonedDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MILLIS);
+        DynamoDbAsyncTable<DynamoDBBigDecimalItem> table = service.getTable(DynamoDBBigDecimalItem.class);
+        // Both writes have the same sort key, which BatchWriteItem rejects when sent in one request
+        String name = item.getName();
+        batchWriter.add(new DynamoDBBigDecimalItem(name, BigDecimal.ONE, time.plusNanos(100_000), null), table);
+        batchWriter.add(new DynamoDBBigDecimalItem(name, BigDecimal.TWO, time.plusNanos(600_000), null), table);
+
+        waitForAssert(() -> {
+            assertEquals(0, batchWriter.getPendingItems());
+            assertEquals(2, count(item.getName()));
+        });
+        assertEquals(droppedBefore, batchWriter.getItemsDropped());
+
+        FilterCriteria criteria = new FilterCriteria();
+        criteria.setItemName(item.getName());
+        criteria.setEndDate(time.plusSeconds(1));
+        Iterator<HistoricItem> iterator = service.query(criteria).iterator();
+        assertTrue(iterator.hasNext());
+        HistoricItem historicItem = iterator.next();
+        assertEquals(time.toInstant(), historicItem.getTimestamp().toInstant());
+        assertEquals(new DecimalType(2), historicItem.getState());
+        assertFalse(iterator.hasNext());
+    }
+}
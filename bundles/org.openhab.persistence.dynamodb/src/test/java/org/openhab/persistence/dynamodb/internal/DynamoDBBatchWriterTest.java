@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Tests for the handling of unprocessed items in the {@link DynamoDBBatchWriter}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriterTest {
+
+    private static final String TABLE_NAME = "openhab";
+
+    private static List<WriteRequest> writeRequests(BatchWriteItemEnhancedRequest request) {
+        List<WriteRequest> writeRequests = new ArrayList<>();
+        for (WriteBatch writeBatch : request.writeBatches()) {
+            assertEquals(TABLE_NAME, writeBatch.tableName());
+            writeRequests.addAll(writeBatch.writeRequests());
+        }
+        return writeRequests;
+    }
+
+    private static List<Map<String, AttributeValue>> putItems(List<WriteRequest> writeRequests) {
+        return writeRequests.stream().map(writeRequest -> writeRequest.putRequest().item()).toList();
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    public void testUnprocessedItemsOfSharedTableAreRetriedOnceWithTheirState() {
+        // with the new table schema number and string items are stored in the same table
+        DynamoDbEnhancedAsyncClient tableClient = DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(mock(DynamoDbAsyncClient.class)).build();
+        DynamoDbAsyncTable<DynamoDBBigDecimalItem> numberTable = tableClient.table(TABLE_NAME,
+                DynamoDBBigDecimalItem.TABLE_SCHEMA_NEW);
+        DynamoDbAsyncTable<DynamoDBStringItem> stringTable = tableClient.table(TABLE_NAME,
+                DynamoDBStringItem.TABLE_SCHEMA_NEW);
+
+        List<BatchWriteItemEnhancedRequest> requests = new ArrayList<>();
+        DynamoDbEnhancedAsyncClient client = mock(DynamoDbEnhancedAsyncClient.class);
+        when(client.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemEnhancedRequest request = invocation.getArgument(0);
+            requests.add(request);
+            // throttle the first request completely, accept the retry
+            Map<String, List<WriteRequest>> unprocessed = requests.size() == 1
+                    ? Map.of(TABLE_NAME, writeRequests(request))
+                    : Map.of();
+            return CompletableFuture
+                    .completedFuture(BatchWriteResult.builder().unprocessedRequests(unprocessed).build());
+        });
+
+        DynamoDBBatchWriter batchWriter = new DynamoDBBatchWriter(mock(DynamoDBPersistenceService.class), client,
+                mock(ScheduledExecutorService.class), Duration.ofMillis(100), 100);
+        ZonedDateTime time = ZonedDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        batchWriter.add(new DynamoDBBigDecimalItem("number", BigDecimal.TEN, time, null), numberTable);
+        batchWriter.add(new DynamoDBStringItem("string", "value", time, null), stringTable);
+        batchWriter.stop();
+
+        assertEquals(2, requests.size());
+        List<Map<String, AttributeValue>> written = putItems(writeRequests(requests.get(0)));
+        List<Map<String, AttributeValue>> retried = putItems(writeRequests(requests.get(1)));
+        assertEquals(2, retried.size());
+        assertEquals(written, retried);
+        assertTrue(retried.stream().anyMatch(item -> item.containsKey(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_NUMBER)
+                && "10".equals(item.get(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_NUMBER).n())));
+        assertTrue(retried.stream().anyMatch(item -> item.containsKey(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_STRING)
+                && "value".equals(item.get(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_STRING).s())));
+        assertEquals(2, batchWriter.getItemsRetried());
+        assertEquals(2, batchWriter.getItemsWritten());
+        assertEquals(0, batchWriter.getItemsDropped());
+    }
+}
@@ -255,4 +255,27 @@ public class DynamoDBConfigTest {
         assertEquals(Optional.empty(), fromConfig.getRetryPolicy().map(RetryPolicy::retryMode));
         assertEquals(ExpectedTableSchema.MAYBE_LEGACY, fromConfig.getTableRevision());
     }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWriteInterval() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1",
+                "secretKey", "secret1", "table", "mytable", "batchWriteInterval", "250"));
+        assertEquals(ExpectedTableSchema.NEW, fromConfig.getTableRevision());
+        assertEquals(250, fromConfig.getBatchWriteIntervalMillis());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWriteIntervalDefaultsToDisabled() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig
+                .fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1"));
+        assertEquals(0, fromConfig.getBatchWriteIntervalMillis());
+    }
+
+    @Test
+    public void testNegativeBatchWriteInterval() throws Exception {
+        assertNull(DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "batchWriteInterval", "-1")));
+    }
 }
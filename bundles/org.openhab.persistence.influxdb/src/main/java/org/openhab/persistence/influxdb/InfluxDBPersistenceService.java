@@ -14,9 +14,10 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,15 +25,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -55,6 +55,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
+import org.openhab.persistence.influxdb.internal.InfluxDBWriteBuffer;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
@@ -98,6 +99,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int SPOOL_SEGMENT_SIZE = 5000; // points per spool segment and replayed chunk
+    private static final int MAX_REPLAYED_SEGMENTS = 10; // per commit
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -110,7 +113,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final InfluxDBWriteBuffer writeBuffer;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -123,6 +126,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
         if (configuration.isValid()) {
+            Path spoolDirectory = configuration.getSpoolSize() > 0 ? Path.of(OpenHAB.getUserDataFolder(),
+                    "persistence", SERVICE_NAME, "spool") : null;
+            this.writeBuffer = new InfluxDBWriteBuffer(spoolDirectory, configuration.getBufferSize(),
+                    SPOOL_SEGMENT_SIZE, configuration.getSpoolSize() * 1024L * 1024L);
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
@@ -154,8 +161,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         storeJob.cancel(false);
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+        int bufferedPoints = writeBuffer.getBufferedPoints();
+        if (bufferedPoints > 0) {
+            if (writeBuffer.spoolMemory()) {
+                logger.info("InfluxDB is not available, spooled {} points to disk.", bufferedPoints);
+            } else {
+                logger.warn("InfluxDB failed to finally store {} points.", bufferedPoints);
+            }
         }
 
         influxDBRepository.disconnect();
@@ -209,11 +221,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
-                logger.trace("Queued {} for item {}", point, item);
-            } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
-            }
+            writeBuffer.add(point);
+            logger.trace("Queued {} for item {}", point, item);
         });
     }
 
@@ -280,17 +289,57 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
+    /**
+     * Get the number of points that have not been written to the database yet, in memory and spooled to disk
+     *
+     * @return the number of points
+     */
+    public long getBacklogSize() {
+        return writeBuffer.getBacklogSize();
+    }
+
+    /**
+     * Get the time since the oldest point that has not been written to the database was queued
+     *
+     * @return the age of the backlog, {@link Duration#ZERO} if there is no backlog
+     */
+    public Duration getBacklogAge() {
+        return writeBuffer.getBacklogAge();
+    }
+
     private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
+        if (writeBuffer.isEmpty() || !checkConnection()) {
+            return;
+        }
+
+        // replay spooled points first, in chunks to keep the requests small
+        for (int i = 0; i < MAX_REPLAYED_SEGMENTS && writeBuffer.hasSpooledPoints(); i++) {
+            List<InfluxPoint> points = writeBuffer.readOldestSegment();
+            if (points == null) {
+                break;
+            }
             if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
+                logger.warn("Failed to write {} spooled elements, backlog is {} elements.", points.size(),
+                        writeBuffer.getBacklogSize());
                 influxDBRepository.disconnect();
-            } else {
-                logger.trace("Wrote {} elements to database", points.size());
+                return;
             }
+            writeBuffer.removeOldestSegment();
+            logger.debug("Wrote {} spooled elements to database, {} remaining", points.size(),
+                    writeBuffer.getSpooledPoints());
+        }
+
+        List<InfluxPoint> points = writeBuffer.drain();
+        if (points.isEmpty()) {
+            return;
+        }
+        if (!influxDBRepository.write(points)) {
+            writeBuffer.requeue(points);
+            logger.warn("Re-queuing {} elements, failed to write batch. Backlog is {} elements, oldest queued {}s ago.",
+                    points.size(), writeBuffer.getBacklogSize(), writeBuffer.getBacklogAge().toSeconds());
+            influxDBRepository.disconnect();
+        } else {
+            logger.trace("Wrote {} elements to database", points.size());
         }
     }
 
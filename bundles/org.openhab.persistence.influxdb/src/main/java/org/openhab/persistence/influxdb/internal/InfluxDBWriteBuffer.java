@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers points until they are written to InfluxDB. Up to a configurable number of points is kept in memory. When
+ * this limit is reached, the buffered points are appended to segment files in a spool directory, so that an outage of
+ * the database neither exhausts the heap nor loses data on a restart. Spooled segments are replayed oldest first, one
+ * segment per write.
+ * <p>
+ * The spool is bounded as well: if it grows beyond its maximum size, the oldest segments are dropped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteBuffer {
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final int SEGMENT_MAGIC = 0x494E4631; // "INF1"
+
+    private static final long SPOOL_RETRY_DELAY_MS = Duration.ofMinutes(1).toMillis();
+
+    private static final byte VALUE_STRING = 0;
+    private static final byte VALUE_DECIMAL = 1;
+    private static final byte VALUE_INTEGER = 2;
+    private static final byte VALUE_LONG = 3;
+    private static final byte VALUE_DOUBLE = 4;
+    private static final byte VALUE_BOOLEAN = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBWriteBuffer.class);
+
+    private final @Nullable Path spoolDirectory;
+    private final int maxBufferedPoints;
+    private final int segmentSize;
+    private final long maxSpoolBytes;
+
+    private final Deque<InfluxPoint> memory = new ArrayDeque<>();
+    private long memorySince;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSegmentId;
+    private long droppedPoints;
+    private long spoolRetryAfter;
+
+    /**
+     * Create a new buffer
+     *
+     * @param spoolDirectory the directory for spooled segments or {@code null} to disable spooling
+     * @param maxBufferedPoints the maximum number of points in memory
+     * @param segmentSize the maximum number of points in one segment, also the size of a replayed chunk
+     * @param maxSpoolBytes the maximum size of all spooled segments
+     */
+    public InfluxDBWriteBuffer(@Nullable Path spoolDirectory, int maxBufferedPoints, int segmentSize,
+            long maxSpoolBytes) {
+        this.spoolDirectory = spoolDirectory;
+        this.maxBufferedPoints = Math.max(1, maxBufferedPoints);
+        this.segmentSize = Math.max(1, segmentSize);
+        this.maxSpoolBytes = maxSpoolBytes;
+        if (spoolDirectory != null) {
+            loadSegments(spoolDirectory);
+        }
+    }
+
+    /**
+     * Add a point. If the memory buffer is full, its content is spooled to disk, or the oldest point is dropped if
+     * spooling is disabled or fails. After a failure, spooling is only retried after a delay.
+     */
+    public synchronized void add(InfluxPoint point) {
+        if (memory.size() >= maxBufferedPoints) {
+            spillMemory();
+        }
+        if (memory.isEmpty()) {
+            memorySince = System.currentTimeMillis();
+        }
+        memory.add(point);
+    }
+
+    /**
+     * Take all points from the memory buffer
+     *
+     * @return the points, in the order they were added
+     */
+    public synchronized List<InfluxPoint> drain() {
+        List<InfluxPoint> points = new ArrayList<>(memory);
+        memory.clear();
+        return points;
+    }
+
+    /**
+     * Put points back that could not be written. They are kept in memory if there is enough space, otherwise they are
+     * spooled.
+     *
+     * @param points the points that have been returned by {@link #drain()}
+     */
+    public synchronized void requeue(List<InfluxPoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        long since = System.currentTimeMillis();
+        if (memory.size() + points.size() > maxBufferedPoints && isSpoolAvailable()) {
+            if (!memory.isEmpty()) {
+                since = memorySince;
+            }
+            List<InfluxPoint> all = new ArrayList<>(points);
+            all.addAll(memory);
+            memory.clear();
+            if (spool(all, since)) {
+                return;
+            }
+            memory.addAll(all);
+        } else {
+            if (!memory.isEmpty()) {
+                since = Math.min(since, memorySince);
+            }
+            List<InfluxPoint> current = new ArrayList<>(memory);
+            memory.clear();
+            memory.addAll(points);
+            memory.addAll(current);
+        }
+        memorySince = since;
+        while (memory.size() > maxBufferedPoints) {
+            memory.removeFirst();
+            droppedPoints++;
+        }
+    }
+
+    /**
+     * Read the points of the oldest spooled segment. Call {@link #removeOldestSegment()} after they have been written.
+     *
+     * @return the points or {@code null} if nothing is spooled
+     */
+    public synchronized @Nullable List<InfluxPoint> readOldestSegment() {
+        while (!segments.isEmpty()) {
+            Segment segment = segments.getFirst();
+            try (DataInputStream in = openSegment(segment.file())) {
+                List<InfluxPoint> points = new ArrayList<>(segment.count());
+                for (int i = 0; i < segment.count(); i++) {
+                    points.add(readPoint(in));
+                }
+                return points;
+            } catch (IOException e) {
+                logger.warn("Dropping unreadable spool segment '{}': {}", segment.file(), e.getMessage());
+                removeOldestSegment();
+                droppedPoints += segment.count();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Delete the oldest spooled segment after its points have been written
+     */
+    public synchronized void removeOldestSegment() {
+        Segment segment = segments.pollFirst();
+        if (segment != null) {
+            deleteSegmentFile(segment.file());
+        }
+    }
+
+    /**
+     * Move all points from memory to the spool, e.g. before shutting down
+     *
+     * @return {@code true} if the memory buffer is empty afterwards
+     */
+    public synchronized boolean spoolMemory() {
+        if (memory.isEmpty()) {
+            return true;
+        }
+        List<InfluxPoint> points = new ArrayList<>(memory);
+        if (spool(points, memorySince)) {
+            memory.clear();
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized int getBufferedPoints() {
+        return memory.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return memory.isEmpty() && segments.isEmpty();
+    }
+
+    public synchronized boolean hasSpooledPoints() {
+        return !segments.isEmpty();
+    }
+
+    /**
+     * @return the number of points in memory and in the spool
+     */
+    public synchronized long getBacklogSize() {
+        return memory.size() + getSpooledPoints();
+    }
+
+    public synchronized long getSpooledPoints() {
+        return segments.stream().mapToLong(Segment::count).sum();
+    }
+
+    /**
+     * @return the time since the oldest point that has not been written was added
+     */
+    public synchronized Duration getBacklogAge() {
+        long since = Long.MAX_VALUE;
+        Segment oldest = segments.peekFirst();
+        if (oldest != null) {
+            since = oldest.since();
+        }
+        if (!memory.isEmpty()) {
+            since = Math.min(since, memorySince);
+        }
+        return since == Long.MAX_VALUE ? Duration.ZERO
+                : Duration.ofMillis(Math.max(0, System.currentTimeMillis() - since));
+    }
+
+    /**
+     * @return the number of points that have been dropped because the buffer was full
+     */
+    public synchronized long getDroppedPoints() {
+        return droppedPoints;
+    }
+
+    private void spillMemory() {
+        if (isSpoolAvailable() && spool(new ArrayList<>(memory), memorySince)) {
+            memory.clear();
+            return;
+        }
+        // keep the newest points
+        memory.removeFirst();
+        droppedPoints++;
+    }
+
+    private boolean isSpoolAvailable() {
+        return spoolDirectory != null && System.currentTimeMillis() >= spoolRetryAfter;
+    }
+
+    private boolean spool(List<InfluxPoint> points, long since) {
+        Path directory = spoolDirectory;
+        if (directory == null) {
+            return false;
+        }
+        int added = 0;
+        try {
+            Files.createDirectories(directory);
+            for (int from = 0; from < points.size(); from += segmentSize) {
+                List<InfluxPoint> chunk = points.subList(from, Math.min(points.size(), from + segmentSize));
+                Path file = directory.resolve(String.format("%019d%s", nextSegmentId++, SEGMENT_SUFFIX));
+                writeSegment(file, chunk, since);
+                segments.add(new Segment(file, chunk.size(), since, Files.size(file)));
+                added++;
+            }
+            logger.debug("Spooled {} points to '{}'", points.size(), directory);
+        } catch (IOException e) {
+            logger.warn("Failed to spool {} points to '{}', dropping the oldest points for {} s: {}", points.size(),
+                    directory, SPOOL_RETRY_DELAY_MS / 1000, e.getMessage());
+            spoolRetryAfter = System.currentTimeMillis() + SPOOL_RETRY_DELAY_MS;
+            // the caller keeps all points in memory, so remove what has been spooled already to not write it twice
+            for (int i = 0; i < added; i++) {
+                deleteSegmentFile(segments.removeLast().file());
+            }
+            return false;
+        }
+        enforceSpoolLimit();
+        return true;
+    }
+
+    private void enforceSpoolLimit() {
+        long total = segments.stream().mapToLong(Segment::bytes).sum();
+        while (total > maxSpoolBytes && segments.size() > 1) {
+            Segment oldest = segments.getFirst();
+            removeOldestSegment();
+            total -= oldest.bytes();
+            droppedPoints += oldest.count();
+            logger.warn("InfluxDB spool exceeds {} bytes, dropped {} points of segment '{}'", maxSpoolBytes,
+                    oldest.count(), oldest.file());
+        }
+    }
+
+    private void writeSegment(Path file, List<InfluxPoint> points, long since) throws IOException {
+        OutputStream os = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+            out.writeInt(SEGMENT_MAGIC);
+            out.writeLong(since);
+            out.writeInt(points.size());
+            for (InfluxPoint point : points) {
+                writePoint(out, point);
+            }
+        } catch (IOException e) {
+            // do not leave a truncated segment behind
+            deleteSegmentFile(file);
+            throw e;
+        }
+    }
+
+    private void deleteSegmentFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete spool segment '{}': {}", file, e.getMessage());
+        }
+    }
+
+    private DataInputStream openSegment(Path file) throws IOException {
+        InputStream is = Files.newInputStream(file);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+        try {
+            if (in.readInt() != SEGMENT_MAGIC) {
+                throw new IOException("invalid segment header");
+            }
+            in.readLong();
+            in.readInt();
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return in;
+    }
+
+    private void loadSegments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            logger.warn("Failed to read spool directory '{}': {}", directory, e.getMessage());
+            return;
+        }
+        files.sort(null);
+        for (Path file : files) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != SEGMENT_MAGIC) {
+                    throw new IOException("invalid segment header");
+                }
+                long since = in.readLong();
+                int count = in.readInt();
+                segments.add(new Segment(file, count, since, Files.size(file)));
+                String name = file.getFileName().toString();
+                nextSegmentId = Math.max(nextSegmentId,
+                        Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())) + 1);
+            } catch (IOException | NumberFormatException e) {
+                logger.warn("Ignoring invalid spool segment '{}': {}", file, e.getMessage());
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        if (!segments.isEmpty()) {
+            logger.info("Found {} spooled points in '{}', they will be written when InfluxDB is available",
+                    getSpooledPoints(), directory);
+        }
+    }
+
+    static void writePoint(DataOutputStream out, InfluxPoint point) throws IOException {
+        out.writeUTF(point.getMeasurementName());
+        out.writeLong(point.getTime().getEpochSecond());
+        out.writeInt(point.getTime().getNano());
+        Object value = point.getValue();
+        if (value instanceof BigDecimal decimal) {
+            out.writeByte(VALUE_DECIMAL);
+            out.writeUTF(decimal.toString());
+        } else if (value instanceof Integer integer) {
+            out.writeByte(VALUE_INTEGER);
+            out.writeInt(integer);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else {
+            byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(VALUE_STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeShort(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            out.writeUTF(tag.getKey());
+            out.writeUTF(tag.getValue());
+        }
+    }
+
+    static InfluxPoint readPoint(DataInputStream in) throws IOException {
+        try {
+            InfluxPoint.Builder builder = InfluxPoint.newBuilder(in.readUTF())
+                    .withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            byte type = in.readByte();
+            Object value = switch (type) {
+                case VALUE_DECIMAL -> new BigDecimal(in.readUTF());
+                case VALUE_INTEGER -> in.readInt();
+                case VALUE_LONG -> in.readLong();
+                case VALUE_DOUBLE -> in.readDouble();
+                case VALUE_BOOLEAN -> in.readBoolean();
+                case VALUE_STRING -> {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    yield new String(bytes, StandardCharsets.UTF_8);
+                }
+                default -> throw new IOException("unknown value type " + type);
+            };
+            builder.withValue(value);
+            int tags = in.readUnsignedShort();
+            for (int i = 0; i < tags; i++) {
+                builder.withTag(in.readUTF(), in.readUTF());
+            }
+            return builder.build();
+        } catch (EOFException e) {
+            throw new IOException("segment is truncated", e);
+        }
+    }
+
+    private record Segment(Path file, int count, long since, long bytes) {
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serializes {@link InfluxPoint}s directly into InfluxDB line protocol.
+ *
+ * The escaped "measurement,tag=value,..." prefix of a series only changes when the item's metadata changes, so it is
+ * built once and cached per measurement and item. The output buffer is reused between batches, which keeps the
+ * allocations per point down to the final batch string.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxLineProtocolWriter {
+    private static final int MAX_CACHED_PREFIXES = 1024;
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxLineProtocolWriter.class);
+    private final String escapedFieldName;
+    private final @Nullable String nullValue;
+    private final Map<SeriesKey, SeriesPrefix> prefixCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SeriesKey, SeriesPrefix> eldest) {
+            return size() > MAX_CACHED_PREFIXES;
+        }
+    };
+    private StringBuilder buffer = new StringBuilder(4096);
+
+    private record SeriesKey(String measurement, @Nullable String itemName) {
+    }
+
+    private record SeriesPrefix(Map<String, String> tags, String prefix) {
+    }
+
+    /**
+     * Create a new writer
+     *
+     * @param fieldName the name of the field holding the value
+     * @param nullValue the string written for <code>null</code> values, or <code>null</code> to discard such points
+     */
+    public InfluxLineProtocolWriter(String fieldName, @Nullable String nullValue) {
+        StringBuilder sb = new StringBuilder();
+        escapeKey(sb, fieldName, true);
+        this.escapedFieldName = sb.toString();
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * Serialize a batch of points with millisecond precision timestamps
+     *
+     * @param points the points to serialize
+     * @return the newline separated records, or <code>null</code> if none of the points could be serialized
+     */
+    public synchronized @Nullable String write(List<InfluxPoint> points) {
+        StringBuilder sb = buffer;
+        sb.setLength(0);
+        for (InfluxPoint point : points) {
+            int start = sb.length();
+            if (start > 0) {
+                sb.append('\n');
+            }
+            if (!append(sb, point)) {
+                sb.setLength(start);
+            }
+        }
+        String records = sb.isEmpty() ? null : sb.toString();
+        if (sb.capacity() > MAX_RETAINED_BUFFER) {
+            buffer = new StringBuilder(4096);
+        }
+        return records;
+    }
+
+    private boolean append(StringBuilder sb, InfluxPoint point) {
+        sb.append(getPrefix(point)).append(' ').append(escapedFieldName).append('=');
+        Object value = point.getValue();
+        if (value instanceof String string) {
+            appendString(sb, string);
+        } else if (value instanceof BigDecimal decimal) {
+            sb.append(decimal.toPlainString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (!Double.isFinite(d)) {
+                logger.warn("Could not convert {}, discarding this datapoint", point);
+                return false;
+            }
+            sb.append(d);
+        } else if (value instanceof Number number) {
+            sb.append(number.longValue()).append('i');
+        } else if (value instanceof Boolean bool) {
+            sb.append(bool.booleanValue());
+        } else if (value == null) {
+            String nullValue = this.nullValue;
+            if (nullValue == null) {
+                return false;
+            }
+            appendString(sb, nullValue);
+        } else {
+            logger.warn("Could not convert {}, discarding this datapoint", point);
+            return false;
+        }
+        sb.append(' ').append(point.getTime().toEpochMilli());
+        return true;
+    }
+
+    private String getPrefix(InfluxPoint point) {
+        String measurement = point.getMeasurementName();
+        Map<String, String> tags = point.getTags();
+        SeriesKey seriesKey = new SeriesKey(measurement, tags.get(TAG_ITEM_NAME));
+        synchronized (prefixCache) {
+            SeriesPrefix cached = prefixCache.get(seriesKey);
+            if (cached != null && cached.tags().equals(tags)) {
+                return cached.prefix();
+            }
+        }
+        StringBuilder sb = new StringBuilder(64);
+        escapeKey(sb, measurement, false);
+        // line protocol recommends tags sorted by key, empty keys and values are not allowed
+        new TreeMap<>(tags).forEach((key, value) -> {
+            if (!key.isEmpty() && !value.isEmpty()) {
+                sb.append(',');
+                escapeKey(sb, key, true);
+                sb.append('=');
+                escapeKey(sb, value, true);
+            }
+        });
+        String prefix = sb.toString();
+        synchronized (prefixCache) {
+            prefixCache.put(seriesKey, new SeriesPrefix(Map.copyOf(tags), prefix));
+        }
+        return prefix;
+    }
+
+    /**
+     * Get the number of cached series prefixes
+     *
+     * @return the number of cached prefixes
+     */
+    public int getCachedPrefixCount() {
+        synchronized (prefixCache) {
+            return prefixCache.size();
+        }
+    }
+
+    static void escapeKey(StringBuilder sb, String key, boolean escapeEquals) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            switch (c) {
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case ' ', ',' -> sb.append('\\').append(c);
+                case '=' -> {
+                    if (escapeEquals) {
+                        sb.append('\\');
+                    }
+                    sb.append(c);
+                }
+                default -> sb.append(c);
+            }
+        }
+    }
+
+    static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+}
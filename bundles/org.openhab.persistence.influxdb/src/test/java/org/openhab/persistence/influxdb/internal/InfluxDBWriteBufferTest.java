@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link InfluxDBWriteBuffer}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteBufferTest {
+    private @TempDir @NonNullByDefault({}) Path spoolDirectory;
+
+    private static InfluxPoint point(int i) {
+        return InfluxPoint.newBuilder("measurement" + i).withTime(Instant.ofEpochSecond(1700000000L + i, 123))
+                .withValue(new BigDecimal(i + ".5")).withTag("item", "item" + i).build();
+    }
+
+    @Test
+    public void pointsStayInMemoryUntilBufferIsFull() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(spoolDirectory, 3, 2, 1024 * 1024);
+        buffer.add(point(1));
+        buffer.add(point(2));
+
+        assertThat(buffer.getBacklogSize(), is(2L));
+        assertThat(buffer.hasSpooledPoints(), is(false));
+        assertThat(buffer.drain(), hasSize(2));
+        assertThat(buffer.isEmpty(), is(true));
+    }
+
+    @Test
+    public void fullBufferIsSpooledAndReplayedInChunks() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(spoolDirectory, 3, 2, 1024 * 1024);
+        for (int i = 0; i < 4; i++) {
+            buffer.add(point(i));
+        }
+
+        assertThat(buffer.getBufferedPoints(), is(1));
+        assertThat(buffer.getSpooledPoints(), is(3L));
+        assertThat(buffer.getBacklogSize(), is(4L));
+
+        List<InfluxPoint> chunk = Objects.requireNonNull(buffer.readOldestSegment());
+        assertThat(chunk, hasSize(2));
+        assertThat(chunk.get(0).getMeasurementName(), is("measurement0"));
+        assertThat(chunk.get(0).getTime(), is(Instant.ofEpochSecond(1700000000L, 123)));
+        assertThat(chunk.get(0).getValue(), is(new BigDecimal("0.5")));
+        assertThat(chunk.get(0).getTags(), is(point(0).getTags()));
+        buffer.removeOldestSegment();
+
+        chunk = Objects.requireNonNull(buffer.readOldestSegment());
+        assertThat(chunk, hasSize(1));
+        buffer.removeOldestSegment();
+
+        assertThat(buffer.readOldestSegment(), is(nullValue()));
+        assertThat(buffer.getBacklogSize(), is(1L));
+    }
+
+    @Test
+    public void spooledPointsSurviveRestart() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(spoolDirectory, 10, 10, 1024 * 1024);
+        buffer.add(point(1));
+        buffer.add(point(2));
+        assertThat(buffer.spoolMemory(), is(true));
+
+        InfluxDBWriteBuffer restarted = new InfluxDBWriteBuffer(spoolDirectory, 10, 10, 1024 * 1024);
+        assertThat(restarted.getSpooledPoints(), is(2L));
+        List<InfluxPoint> chunk = Objects.requireNonNull(restarted.readOldestSegment());
+        assertThat(chunk.get(1).getMeasurementName(), is("measurement2"));
+
+        // new segments are added after the existing ones
+        restarted.add(point(3));
+        restarted.spoolMemory();
+        restarted.removeOldestSegment();
+        chunk = Objects.requireNonNull(restarted.readOldestSegment());
+        assertThat(chunk.get(0).getMeasurementName(), is("measurement3"));
+    }
+
+    @Test
+    public void requeuedPointsAreKeptBeforeNewPoints() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(spoolDirectory, 10, 10, 1024 * 1024);
+        buffer.add(point(1));
+        List<InfluxPoint> failed = buffer.drain();
+        buffer.add(point(2));
+        buffer.requeue(failed);
+
+        List<InfluxPoint> points = buffer.drain();
+        assertThat(points.get(0).getMeasurementName(), is("measurement1"));
+        assertThat(points.get(1).getMeasurementName(), is("measurement2"));
+    }
+
+    @Test
+    public void oldestPointsAreDroppedWithoutSpool() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(null, 2, 2, 0);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(point(i));
+        }
+
+        assertThat(buffer.getBacklogSize(), is(2L));
+        assertThat(buffer.getDroppedPoints(), is(3L));
+        assertThat(buffer.drain().get(0).getMeasurementName(), is("measurement3"));
+    }
+
+    @Test
+    public void failedSpoolIsRolledBack() throws IOException {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(spoolDirectory, 2, 2, 1024 * 1024);
+        // the second segment cannot be created
+        Files.createDirectories(spoolDirectory.resolve(String.format("%019d.spool", 1)));
+
+        buffer.requeue(List.of(point(0), point(1), point(2), point(3), point(4)));
+
+        assertThat(buffer.getSpooledPoints(), is(0L));
+        assertThat(buffer.readOldestSegment(), is(nullValue()));
+        assertThat(Files.exists(spoolDirectory.resolve(String.format("%019d.spool", 0))), is(false));
+        assertThat(buffer.getBacklogSize(), is(2L));
+        assertThat(buffer.getDroppedPoints(), is(3L));
+        List<InfluxPoint> points = buffer.drain();
+        assertThat(points.get(0).getMeasurementName(), is("measurement3"));
+        assertThat(points.get(1).getMeasurementName(), is("measurement4"));
+    }
+
+    @Test
+    public void failedSpoolIsNotRetriedForEveryPoint() throws IOException {
+        Path blocked = Files.createFile(spoolDirectory.resolve("blocked"));
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(blocked, 2, 2, 1024 * 1024);
+        for (int i = 0; i < 3; i++) {
+            buffer.add(point(i));
+        }
+        Files.delete(blocked);
+        for (int i = 3; i < 5; i++) {
+            buffer.add(point(i));
+        }
+
+        // the spool is available again, but only retried after a delay
+        assertThat(buffer.getSpooledPoints(), is(0L));
+        assertThat(Files.exists(blocked), is(false));
+        assertThat(buffer.getDroppedPoints(), is(3L));
+        List<InfluxPoint> points = buffer.drain();
+        assertThat(points.get(0).getMeasurementName(), is("measurement3"));
+        assertThat(points.get(1).getMeasurementName(), is("measurement4"));
+    }
+
+    @Test
+    public void spoolIsBounded() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(spoolDirectory, 1, 1, 1);
+        for (int i = 0; i < 4; i++) {
+            buffer.add(point(i));
+        }
+
+        // only the newest segment is kept on disk
+        assertThat(buffer.getSpooledPoints(), is(1L));
+        assertThat(buffer.getDroppedPoints(), is(2L));
+        List<InfluxPoint> chunk = Objects.requireNonNull(buffer.readOldestSegment());
+        assertThat(chunk.get(0).getMeasurementName(), is("measurement2"));
+    }
+}
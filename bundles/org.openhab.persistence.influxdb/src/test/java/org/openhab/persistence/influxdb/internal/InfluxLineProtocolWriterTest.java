@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link InfluxLineProtocolWriter}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxLineProtocolWriterTest {
+    private static final Instant TIME = Instant.ofEpochMilli(1700000000123L);
+
+    private final InfluxLineProtocolWriter writer = new InfluxLineProtocolWriter("value", "null");
+
+    @Test
+    public void valuesAreFormattedByType() {
+        String records = writer.write(List.of(
+                InfluxPoint.newBuilder("decimal").withTime(TIME).withValue(new BigDecimal("21.50")).build(),
+                InfluxPoint.newBuilder("integer").withTime(TIME).withValue(1).build(),
+                InfluxPoint.newBuilder("double").withTime(TIME).withValue(0.25).build(),
+                InfluxPoint.newBuilder("bool").withTime(TIME).withValue(true).build(),
+                InfluxPoint.newBuilder("string").withTime(TIME).withValue("say \"hi\" \\o/").build(),
+                InfluxPoint.newBuilder("null").withTime(TIME).build()));
+
+        assertThat(records, is("""
+                decimal value=21.50 1700000000123
+                integer value=1i 1700000000123
+                double value=0.25 1700000000123
+                bool value=true 1700000000123
+                string value="say \\"hi\\" \\\\o/" 1700000000123
+                null value="null" 1700000000123"""));
+    }
+
+    @Test
+    public void measurementAndTagsAreEscapedAndSorted() {
+        String records = writer.write(List.of(InfluxPoint.newBuilder("my measurement,x=1").withTime(TIME)
+                .withValue(1).withTag("label", "Living room, a=b").withTag("item", "Temp").withTag("empty", "")
+                .build()));
+
+        assertThat(records,
+                is("my\\ measurement\\,x=1,item=Temp,label=Living\\ room\\,\\ a\\=b value=1i 1700000000123"));
+    }
+
+    @Test
+    public void prefixIsCachedPerItemAndRefreshedWhenTagsChange() {
+        writer.write(List.of(InfluxPoint.newBuilder("m").withTime(TIME).withValue(1).withTag("item", "a").build()));
+        writer.write(List.of(InfluxPoint.newBuilder("m").withTime(TIME).withValue(2).withTag("item", "a").build()));
+        String records = writer
+                .write(List.of(InfluxPoint.newBuilder("m").withTime(TIME).withValue(3).withTag("item", "b").build()));
+
+        assertThat(records, is("m,item=b value=3i 1700000000123"));
+        assertThat(writer.getCachedPrefixCount(), is(2));
+
+        records = writer.write(List.of(InfluxPoint.newBuilder("m").withTime(TIME).withValue(4).withTag("item", "a")
+                .withTag("label", "A").build()));
+
+        assertThat(records, is("m,item=a,label=A value=4i 1700000000123"));
+        assertThat(writer.getCachedPrefixCount(), is(2));
+    }
+
+    @Test
+    public void itemsSharingMeasurementKeepTheirCachedPrefixes() {
+        InfluxPoint a = InfluxPoint.newBuilder("temperature").withTime(TIME).withValue(1).withTag("item", "a").build();
+        InfluxPoint b = InfluxPoint.newBuilder("temperature").withTime(TIME).withValue(2).withTag("item", "b").build();
+
+        writer.write(List.of(a, b));
+        String records = writer.write(List.of(a, b));
+
+        assertThat(records, is("temperature,item=a value=1i 1700000000123\ntemperature,item=b value=2i 1700000000123"));
+        assertThat(writer.getCachedPrefixCount(), is(2));
+    }
+
+    @Test
+    public void unsupportedPointsAreSkipped() {
+        InfluxLineProtocolWriter discardingWriter = new InfluxLineProtocolWriter("value", null);
+
+        assertThat(discardingWriter.write(List.of(InfluxPoint.newBuilder("m").withTime(TIME).build())),
+                is(nullValue()));
+        assertThat(discardingWriter.write(List.of(InfluxPoint.newBuilder("a").withTime(TIME).build(),
+                InfluxPoint.newBuilder("b").withTime(TIME).withValue(Double.NaN).build(),
+                InfluxPoint.newBuilder("c").withTime(TIME).withValue(1).build())), is("c value=1i 1700000000123"));
+    }
+}
@@ -13,7 +13,9 @@
 package org.openhab.persistence.inmemory.internal;
 
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -66,11 +68,13 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     protected static final String CONFIG_URI = "persistence:inmemory";
     private final String MAX_ENTRIES_CONFIG = "maxEntries";
     private final long MAX_ENTRIES_DEFAULT = 512;
+    private final String COMPACT_NUMERIC_STORAGE_CONFIG = "compactNumericStorage";
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
     private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
+    private boolean compactNumericStorage = false;
 
     @Activate
     public void activate(Map<String, Object> config) {
@@ -81,13 +85,22 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     @Modified
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
+        compactNumericStorage = ConfigParser.valueAsOrElse(config.get(COMPACT_NUMERIC_STORAGE_CONFIG), Boolean.class,
+                false);
 
         persistMap.values().forEach(persistItem -> {
             Lock lock = persistItem.lock();
             lock.lock();
             try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
+                NumericTimeSeries series = persistItem.series;
+                if (series != null && !compactNumericStorage) {
+                    moveToDatabase(persistItem, series);
+                    series = null;
+                }
+                if (series != null) {
+                    series.setMaxSize(maxEntries);
+                } else {
+                    trimDatabase(persistItem);
                 }
             } finally {
                 lock.unlock();
@@ -161,6 +174,11 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         Lock lock = persistItem.lock();
         lock.lock();
         try {
+            NumericTimeSeries series = persistItem.series;
+            if (series != null) {
+                removeFromSeries(series, filter);
+                return true;
+            }
             List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
             toRemove.forEach(persistItem.database()::remove);
         } finally {
@@ -189,6 +207,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
                 : Comparator.comparing(PersistEntry::timestamp).reversed();
 
         try {
+            NumericTimeSeries series = persistItem.series;
+            if (series != null) {
+                return querySeries(itemName, series, filter);
+            }
             return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
                     .map(e -> toHistoricItem(itemName, e)).toList();
         } finally {
@@ -207,9 +229,26 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         lock.lock();
         try {
             String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            PersistItem persistItem = itemEntry.getValue();
+            NumericTimeSeries series = persistItem.series;
+            Integer count;
+            Instant earliest = null;
+            Instant latest = null;
+            if (series != null) {
+                count = series.size();
+                if (count > 0) {
+                    earliest = NumericTimeSeries.toInstant(series.timestampAt(0));
+                    latest = NumericTimeSeries.toInstant(series.timestampAt(count - 1));
+                }
+            } else {
+                count = persistItem.database().size();
+                if (count > 0) {
+                    earliest = persistItem.database().first().timestamp().toInstant();
+                    latest = persistItem.database().last().timestamp().toInstant();
+                }
+            }
+            Instant finalEarliest = earliest;
+            Instant finalLatest = latest;
             return new PersistenceItemInfo() {
 
                 @Override
@@ -224,12 +263,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
                 @Override
                 public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
+                    return finalEarliest == null ? null : Date.from(finalEarliest);
                 }
 
                 @Override
                 public @Nullable Date getLatest() {
-                    return Date.from(latest);
+                    return finalLatest == null ? null : Date.from(finalLatest);
                 }
             };
         } finally {
@@ -261,24 +300,83 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
+        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName, k -> new PersistItem()));
 
         Lock lock = persistItem.lock();
         lock.lock();
         try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
+            NumericTimeSeries series = persistItem.series;
+            if (series != null && !series.accepts(state)) {
+                // type or unit changed, continue with the generic storage
+                moveToDatabase(persistItem, series);
+                series = null;
+            } else if (series == null && compactNumericStorage && persistItem.database().isEmpty()) {
+                series = NumericTimeSeries.forState(state, maxEntries);
+                persistItem.series = series;
+            }
 
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
+            if (series != null) {
+                series.add(NumericTimeSeries.toEpochNanos(timestamp.toInstant()), state);
+            } else {
+                persistItem.database().add(new PersistEntry(timestamp, state));
+                trimDatabase(persistItem);
             }
         } finally {
             lock.unlock();
         }
     }
 
-    @SuppressWarnings("unchecked")
+    private void trimDatabase(PersistItem persistItem) {
+        if (maxEntries > 0) {
+            while (persistItem.database().size() > maxEntries) {
+                persistItem.database().pollFirst();
+            }
+        }
+    }
+
+    private void moveToDatabase(PersistItem persistItem, NumericTimeSeries series) {
+        for (int i = 0; i < series.size(); i++) {
+            persistItem.database().add(new PersistEntry(toZonedDateTime(series.timestampAt(i)), series.stateAt(i)));
+        }
+        persistItem.series = null;
+    }
+
+    private void removeFromSeries(NumericTimeSeries series, FilterCriteria filter) {
+        int from = lowerBound(series, filter);
+        int to = upperBound(series, filter);
+        series.removeIf(from, to, i -> appliesToState(series.stateAt(i), filter));
+    }
+
+    private List<HistoricItem> querySeries(String itemName, NumericTimeSeries series, FilterCriteria filter) {
+        int from = lowerBound(series, filter);
+        int to = upperBound(series, filter);
+        List<HistoricItem> result = new ArrayList<>(Math.max(0, to - from));
+        boolean ascending = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING;
+        for (int n = 0; n < to - from; n++) {
+            int i = ascending ? from + n : to - 1 - n;
+            State state = series.stateAt(i);
+            if (appliesToState(state, filter)) {
+                result.add(toHistoricItem(itemName, new PersistEntry(toZonedDateTime(series.timestampAt(i)), state)));
+            }
+        }
+        return result;
+    }
+
+    private int lowerBound(NumericTimeSeries series, FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        return beginDate == null ? 0 : series.lowerBound(NumericTimeSeries.toEpochNanos(beginDate.toInstant()));
+    }
+
+    private int upperBound(NumericTimeSeries series, FilterCriteria filter) {
+        ZonedDateTime endDate = filter.getEndDate();
+        return endDate == null ? series.size()
+                : series.upperBound(NumericTimeSeries.toEpochNanos(endDate.toInstant()));
+    }
+
+    private ZonedDateTime toZonedDateTime(long epochNanos) {
+        return ZonedDateTime.ofInstant(NumericTimeSeries.toInstant(epochNanos), ZoneId.systemDefault());
+    }
+
     private boolean applies(PersistEntry entry, FilterCriteria filter) {
         ZonedDateTime beginDate = filter.getBeginDate();
         if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
@@ -288,7 +386,11 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         if (endDate != null && endDate.isBefore(entry.timestamp())) {
             return false;
         }
+        return appliesToState(entry.state(), filter);
+    }
 
+    @SuppressWarnings("unchecked")
+    private boolean appliesToState(State state, FilterCriteria filter) {
         State refState = filter.getState();
         FilterCriteria.Operator operator = filter.getOperator();
         if (refState == null) {
@@ -297,14 +399,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
 
         if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
+            return state.equals(refState);
         }
 
         if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
+            return !state.equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+        if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
             if (operator == FilterCriteria.Operator.GT) {
                 return comparableState.compareTo(refState) > 0;
             }
@@ -326,6 +428,18 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     private record PersistEntry(ZonedDateTime timestamp, State state) {
     }
 
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+    private static class PersistItem {
+        private final TreeSet<PersistEntry> database = new TreeSet<>(Comparator.comparing(PersistEntry::timestamp));
+        private final Lock lock = new ReentrantLock();
+        // if set, the values are stored here and the database is empty
+        private @Nullable NumericTimeSeries series;
+
+        private TreeSet<PersistEntry> database() {
+            return database;
+        }
+
+        private Lock lock() {
+            return lock;
+        }
     }
 }
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.function.IntPredicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumericTimeSeries} stores the values of a numeric item in two primitive ring buffers (timestamps as
+ * epoch nanoseconds and values as double) which are kept sorted by timestamp. Compared to one object per value this
+ * needs only 16 bytes per value, allows range lookups by binary search and removes the oldest value in constant time.
+ * <p>
+ * All values of a series have the same type: either plain {@link DecimalType}s or {@link QuantityType}s with the same
+ * unit. Only states which pass {@link #accepts(State)} may be added. This class is not thread-safe.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class NumericTimeSeries {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MAX_EPOCH_SECOND = Long.MAX_VALUE / NANOS_PER_SECOND;
+    private static final long MIN_EPOCH_SECOND = Long.MIN_VALUE / NANOS_PER_SECOND;
+
+    private final @Nullable Unit<?> unit;
+    private long maxSize;
+
+    private long[] timestamps = new long[0];
+    private double[] values = new double[0];
+    private int head;
+    private int size;
+
+    private NumericTimeSeries(@Nullable Unit<?> unit, long maxSize) {
+        this.unit = unit;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Create a series for the type of the given state
+     *
+     * @param state the first state that shall be stored
+     * @param maxSize the maximum number of values (0 = unlimited)
+     * @return the series or {@code null} if the state can't be stored compactly
+     */
+    static @Nullable NumericTimeSeries forState(State state, long maxSize) {
+        if (state.getClass() == DecimalType.class && isExact(((DecimalType) state).toBigDecimal())) {
+            return new NumericTimeSeries(null, maxSize);
+        }
+        if (state.getClass() == QuantityType.class && isExact(((QuantityType<?>) state).toBigDecimal())) {
+            return new NumericTimeSeries(((QuantityType<?>) state).getUnit(), maxSize);
+        }
+        return null;
+    }
+
+    /**
+     * Check if a state has the type of this series and its value can be restored without loss
+     *
+     * @param state the state to check
+     * @return {@code true} if the state can be added to this series
+     */
+    boolean accepts(State state) {
+        Unit<?> unit = this.unit;
+        if (unit == null) {
+            return state.getClass() == DecimalType.class && isExact(((DecimalType) state).toBigDecimal());
+        }
+        return state.getClass() == QuantityType.class && state instanceof QuantityType<?> quantity
+                && unit.equals(quantity.getUnit()) && isExact(quantity.toBigDecimal());
+    }
+
+    private static boolean isExact(BigDecimal value) {
+        double doubleValue = value.doubleValue();
+        return Double.isFinite(doubleValue) && BigDecimal.valueOf(doubleValue).compareTo(value) == 0;
+    }
+
+    /**
+     * Add a state to the series. If a value with the same timestamp already exists, it is kept. If the series is full,
+     * the oldest value is removed.
+     *
+     * @param timestamp the timestamp in epoch nanoseconds
+     * @param state the state, must be accepted by this series
+     * @return {@code true} if the value was added
+     */
+    boolean add(long timestamp, State state) {
+        double value = ((Number) state).doubleValue();
+        int index = lowerBound(timestamp);
+        if (index < size && timestampAt(index) == timestamp) {
+            return false;
+        }
+        if (maxSize > 0 && size >= maxSize) {
+            if (index == 0) {
+                // older than all values we keep
+                return false;
+            }
+            removeFirst();
+            index--;
+        } else if (size == timestamps.length) {
+            grow();
+        }
+        insert(index, timestamp, value);
+        return true;
+    }
+
+    /**
+     * Set the maximum number of values and remove the oldest values if there are more
+     *
+     * @param maxSize the maximum number of values (0 = unlimited)
+     */
+    void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            while (size > maxSize) {
+                removeFirst();
+            }
+            if (timestamps.length > maxSize) {
+                resize(size);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long timestampAt(int index) {
+        return timestamps[physical(index)];
+    }
+
+    State stateAt(int index) {
+        return toState(values[physical(index)]);
+    }
+
+    /**
+     * @return the index of the first value with a timestamp equal to or after the given one
+     */
+    int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first value with a timestamp after the given one
+     */
+    int upperBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Remove all values in the given index range that match a predicate
+     *
+     * @param from the first index to check (inclusive)
+     * @param to the last index to check (exclusive)
+     * @param predicate tests the index of a value, called before any value is moved
+     * @return the number of removed values
+     */
+    int removeIf(int from, int to, IntPredicate predicate) {
+        int kept = from;
+        for (int i = from; i < size; i++) {
+            if (i >= to || !predicate.test(i)) {
+                if (kept != i) {
+                    int source = physical(i);
+                    int target = physical(kept);
+                    timestamps[target] = timestamps[source];
+                    values[target] = values[source];
+                }
+                kept++;
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        if (size == 0) {
+            head = 0;
+        }
+        return removed;
+    }
+
+    /**
+     * Convert an instant to epoch nanoseconds, values outside the supported range are clamped
+     */
+    static long toEpochNanos(Instant instant) {
+        long seconds = instant.getEpochSecond();
+        if (seconds >= MAX_EPOCH_SECOND) {
+            return Long.MAX_VALUE;
+        } else if (seconds < MIN_EPOCH_SECOND) {
+            return Long.MIN_VALUE;
+        }
+        return seconds * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private State toState(double value) {
+        BigDecimal decimal = BigDecimal.valueOf(value);
+        Unit unit = this.unit;
+        return unit == null ? new DecimalType(decimal) : new QuantityType(decimal, unit);
+    }
+
+    private int physical(int index) {
+        int position = head + index;
+        return position >= timestamps.length ? position - timestamps.length : position;
+    }
+
+    private void removeFirst() {
+        size--;
+        head = size == 0 ? 0 : physical(1);
+    }
+
+    private void insert(int index, long timestamp, double value) {
+        if (index < size / 2) {
+            // shifting the values before the insert position to the left is cheaper
+            head = head == 0 ? timestamps.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                int source = physical(i + 1);
+                int target = physical(i);
+                timestamps[target] = timestamps[source];
+                values[target] = values[source];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                int source = physical(i - 1);
+                int target = physical(i);
+                timestamps[target] = timestamps[source];
+                values[target] = values[source];
+            }
+        }
+        int target = physical(index);
+        timestamps[target] = timestamp;
+        values[target] = value;
+        size++;
+    }
+
+    private void grow() {
+        long capacity = Math.max(INITIAL_CAPACITY, 2L * timestamps.length);
+        if (maxSize > 0) {
+            capacity = Math.min(capacity, maxSize);
+        }
+        if (capacity > MAX_CAPACITY) {
+            if (timestamps.length == MAX_CAPACITY) {
+                throw new IllegalStateException("Maximum number of values in series reached");
+            }
+            capacity = MAX_CAPACITY;
+        }
+        resize((int) capacity);
+    }
+
+    private void resize(int capacity) {
+        long[] newTimestamps = new long[capacity];
+        double[] newValues = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            int source = physical(i);
+            newTimestamps[i] = timestamps[source];
+            newValues[i] = values[source];
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        head = 0;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+
+/**
+ * The {@link NumericTimeSeriesTest} contains tests for the {@link NumericTimeSeries}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NumericTimeSeriesTest {
+
+    private static NumericTimeSeries decimalSeries(long maxSize) {
+        return Objects.requireNonNull(NumericTimeSeries.forState(new DecimalType(0), maxSize));
+    }
+
+    @Test
+    public void acceptsOnlyMatchingTypeAndUnit() {
+        assertThat(NumericTimeSeries.forState(new StringType("1"), 0), is(nullValue()));
+
+        NumericTimeSeries series = Objects.requireNonNull(NumericTimeSeries.forState(new QuantityType<>("20.5 °C"), 0));
+        assertThat(series.accepts(new QuantityType<>(21, SIUnits.CELSIUS)), is(true));
+        assertThat(series.accepts(new QuantityType<>("70 °F")), is(false));
+        assertThat(series.accepts(new DecimalType(21)), is(false));
+
+        NumericTimeSeries decimal = decimalSeries(0);
+        assertThat(decimal.accepts(new DecimalType(1.25)), is(true));
+        assertThat(decimal.accepts(new DecimalType("0.12345678901234567890123")), is(false));
+    }
+
+    @Test
+    public void valuesAreSortedByTimestamp() {
+        NumericTimeSeries series = decimalSeries(0);
+        long[] timestamps = { 50, 10, 40, 20, 30, 60, 5 };
+        for (long timestamp : timestamps) {
+            series.add(timestamp, new DecimalType(timestamp));
+        }
+
+        assertThat(series.size(), is(timestamps.length));
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < series.size(); i++) {
+            assertThat(series.timestampAt(i), is(greaterThan(previous)));
+            assertThat(series.stateAt(i), is(new DecimalType(series.timestampAt(i))));
+            previous = series.timestampAt(i);
+        }
+    }
+
+    @Test
+    public void duplicateTimestampKeepsExistingValue() {
+        NumericTimeSeries series = decimalSeries(0);
+        assertThat(series.add(10, new DecimalType(1)), is(true));
+        assertThat(series.add(10, new DecimalType(2)), is(false));
+
+        assertThat(series.size(), is(1));
+        assertThat(series.stateAt(0), is(new DecimalType(1)));
+    }
+
+    @Test
+    public void oldestValueIsEvictedWhenFull() {
+        NumericTimeSeries series = decimalSeries(3);
+        for (int i = 1; i <= 10; i++) {
+            series.add(i * 10, new DecimalType(i));
+        }
+
+        assertThat(series.size(), is(3));
+        assertThat(series.timestampAt(0), is(80L));
+        assertThat(series.timestampAt(2), is(100L));
+
+        // a value older than all others is dropped, a value in between evicts the oldest
+        assertThat(series.add(5, new DecimalType(0)), is(false));
+        assertThat(series.add(85, new DecimalType(0)), is(true));
+        assertThat(series.timestampAt(0), is(85L));
+        assertThat(series.timestampAt(1), is(90L));
+
+        series.setMaxSize(1);
+        assertThat(series.size(), is(1));
+        assertThat(series.timestampAt(0), is(100L));
+    }
+
+    @Test
+    public void boundsUseBinarySearch() {
+        NumericTimeSeries series = decimalSeries(0);
+        for (int i = 0; i < 100; i++) {
+            series.add(i * 10, new DecimalType(i));
+        }
+
+        assertThat(series.lowerBound(-1), is(0));
+        assertThat(series.lowerBound(200), is(20));
+        assertThat(series.lowerBound(205), is(21));
+        assertThat(series.upperBound(200), is(21));
+        assertThat(series.upperBound(2000), is(100));
+    }
+
+    @Test
+    public void removeIfCompactsRange() {
+        NumericTimeSeries series = decimalSeries(4);
+        for (int i = 0; i < 6; i++) {
+            series.add(i, new DecimalType(i));
+        }
+        // buffer wrapped, contains 2..5
+        int removed = series.removeIf(1, 3, i -> true);
+
+        assertThat(removed, is(2));
+        assertThat(series.size(), is(2));
+        assertThat(series.timestampAt(0), is(2L));
+        assertThat(series.timestampAt(1), is(5L));
+    }
+
+    @Test
+    public void epochNanosConversion() {
+        Instant instant = Instant.parse("2024-03-01T12:34:56.123456789Z");
+        assertThat(NumericTimeSeries.toInstant(NumericTimeSeries.toEpochNanos(instant)), is(instant));
+        assertThat(NumericTimeSeries.toEpochNanos(Instant.MAX), is(Long.MAX_VALUE));
+        assertThat(NumericTimeSeries.toEpochNanos(Instant.MIN), is(Long.MIN_VALUE));
+    }
+}
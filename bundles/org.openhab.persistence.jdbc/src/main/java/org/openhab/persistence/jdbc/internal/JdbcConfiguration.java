@@ -63,6 +63,10 @@ public class JdbcConfiguration {
     private String tableNamePrefix = "item";
     private int tableIdDigitCount = 4;
     private boolean rebuildTableNames = false;
+    private int batchSize = 0;
+    private int batchInterval = 1000;
+    private int queryChunkSize = 10000;
+    private int aggregateMaxRows = 0;
 
     private int errReconnectThreshold = 0;
 
@@ -191,6 +195,35 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Integer.parseInt(bs);
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bi = (String) configuration.get("batchInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            int interval = Integer.parseInt(bi);
+            if (interval > 0) {
+                batchInterval = interval;
+                logger.debug("JDBC::updateConfig: batchInterval={}", batchInterval);
+            } else {
+                logger.warn("JDBC::updateConfig: batchInterval must be greater than 0, using {} ms", batchInterval);
+            }
+        }
+
+        String qc = (String) configuration.get("queryChunkSize");
+        if (qc != null && !qc.isBlank() && isNumericPattern.matcher(qc).matches()) {
+            queryChunkSize = Integer.parseInt(qc);
+            logger.debug("JDBC::updateConfig: queryChunkSize={}", queryChunkSize);
+        }
+
+        String am = (String) configuration.get("aggregateMaxRows");
+        if (am != null && !am.isBlank() && isNumericPattern.matcher(am).matches()) {
+            aggregateMaxRows = Integer.parseInt(am);
+            logger.debug("JDBC::updateConfig: aggregateMaxRows={}", aggregateMaxRows);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -379,6 +412,35 @@ public class JdbcConfiguration {
         return rebuildTableNames;
     }
 
+    /**
+     * Number of buffered states triggering a batched write, 0 if states are written one by one.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Maximum time in milliseconds states are kept in the write buffer.
+     */
+    public int getBatchInterval() {
+        return batchInterval;
+    }
+
+    /**
+     * Number of rows read per round trip by unpaged queries, 0 if the whole result is read at once.
+     */
+    public int getQueryChunkSize() {
+        return queryChunkSize;
+    }
+
+    /**
+     * Maximum number of rows returned by unpaged queries over a period, which are aggregated per time bucket to stay
+     * below it. 0 if queries always return the stored values.
+     */
+    public int getAggregateMaxRows() {
+        return aggregateMaxRows;
+    }
+
     public int getNumberDecimalcount() {
         return numberDecimalcount;
     }
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -38,6 +39,8 @@ import org.openhab.core.types.State;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcAggregation;
+import org.openhab.persistence.jdbc.internal.dto.JdbcBufferedState;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -229,6 +232,16 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    protected void storeItemValues(Item item, @Nullable String alias, List<JdbcBufferedState> states)
+            throws JdbcException {
+        logger.debug("JDBC::storeItemValues: item={} count={}", item, states.size());
+        String tableName = getTable(item, alias);
+        long timerStart = System.currentTimeMillis();
+        conf.getDBDAO().doStoreItemValues(item, states, tableName);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -246,6 +259,46 @@ public class JdbcMapper {
         return result;
     }
 
+    /**
+     * Queries the historic items matching the filter, reading unpaged results lazily in chunks.
+     *
+     * @param onCompletion called once the whole result has been read, or with the error if reading a following chunk
+     *            failed
+     */
+    protected Iterable<HistoricItem> getHistItemFilterQueryChunked(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item, Consumer<@Nullable JdbcSQLException> onCompletion) throws JdbcSQLException {
+        int chunkSize = conf.getQueryChunkSize();
+        if (chunkSize <= 0 || filter.getPageSize() != Integer.MAX_VALUE) {
+            List<HistoricItem> result = getHistItemFilterQuery(filter, numberDecimalcount, table, item);
+            onCompletion.accept(null);
+            return result;
+        }
+        logger.debug(
+                "JDBC::getHistItemFilterQueryChunked filter='{}' numberDecimalcount='{}' table='{}' item='{}' chunkSize='{}'",
+                filter, numberDecimalcount, table, item, chunkSize);
+        long timerStart = System.currentTimeMillis();
+        Iterable<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQueryChunked(item, filter,
+                numberDecimalcount, table, item.getName(), timeZoneProvider.getTimeZone(), chunkSize, error -> {
+                    logTime("getHistItemFilterQueryChunked", timerStart, System.currentTimeMillis());
+                    onCompletion.accept(error);
+                });
+        errCnt = 0;
+        return result;
+    }
+
+    protected List<HistoricItem> getHistItemAggregateQuery(FilterCriteria filter, String table, Item item,
+            long bucketSeconds, JdbcAggregation aggregation) throws JdbcSQLException {
+        logger.debug(
+                "JDBC::getHistItemAggregateQuery filter='{}' table='{}' item='{}' bucketSeconds='{}' aggregation='{}'",
+                filter, table, item, bucketSeconds, aggregation);
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetHistItemAggregateQuery(item, filter, table,
+                timeZoneProvider.getTimeZone(), bucketSeconds, aggregation);
+        logTime("getHistItemAggregateQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.knowm.yank.Yank;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes metrics of the JDBC persistence service to a Micrometer {@link MeterRegistry}: the state of the
+ * connection pool, the duration and errors of database operations and the lag of states waiting to be written.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcMetrics {
+
+    public static final String METRIC_PREFIX = "openhab.persistence.jdbc";
+
+    public static final String OPERATION_STORE = "store";
+    public static final String OPERATION_FLUSH = "flush";
+    public static final String OPERATION_QUERY = "query";
+    public static final String OPERATION_REMOVE = "remove";
+
+    private static final List<String> OPERATIONS = List.of(OPERATION_STORE, OPERATION_FLUSH, OPERATION_QUERY,
+            OPERATION_REMOVE);
+
+    private final MeterRegistry registry;
+    private final List<Meter> meters = new ArrayList<>();
+    private final Map<String, Timer> timers;
+    private final Map<String, Counter> errors;
+
+    /**
+     * Creates and registers the meters.
+     *
+     * @param registry the registry to register the meters at
+     * @param writeBuffer the write buffer of the service
+     * @param pendingStores supplies the number of single states waiting to be written
+     */
+    public JdbcMetrics(MeterRegistry registry, JdbcWriteBuffer writeBuffer, IntSupplier pendingStores) {
+        this.registry = registry;
+
+        Map<String, Timer> timers = new HashMap<>();
+        Map<String, Counter> errors = new HashMap<>();
+        for (String operation : OPERATIONS) {
+            Timer timer = Timer.builder(METRIC_PREFIX + ".operation.duration")
+                    .description("Duration of database operations").tag("operation", operation)
+                    .publishPercentileHistogram().register(registry);
+            timers.put(operation, timer);
+            meters.add(timer);
+            Counter counter = Counter.builder(METRIC_PREFIX + ".operation.errors")
+                    .description("Number of failed database operations").tag("operation", operation)
+                    .register(registry);
+            errors.put(operation, counter);
+            meters.add(counter);
+        }
+        this.timers = Map.copyOf(timers);
+        this.errors = Map.copyOf(errors);
+
+        addPoolGauge("active", HikariPoolMXBean::getActiveConnections);
+        addPoolGauge("idle", HikariPoolMXBean::getIdleConnections);
+        addPoolGauge("total", HikariPoolMXBean::getTotalConnections);
+        addPoolGauge("pending", HikariPoolMXBean::getThreadsAwaitingConnection);
+
+        meters.add(Gauge.builder(METRIC_PREFIX + ".buffer.states", writeBuffer, JdbcWriteBuffer::size)
+                .description("Number of states waiting in the write buffer").register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".buffer.lag", writeBuffer, JdbcWriteBuffer::getLag)
+                .description("Time the oldest state is waiting in the write buffer").baseUnit("milliseconds")
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".store.pending", pendingStores, IntSupplier::getAsInt)
+                .description("Number of single states waiting to be written").strongReference(true)
+                .register(registry));
+    }
+
+    private void addPoolGauge(String state, ToIntFunction<HikariPoolMXBean> getter) {
+        meters.add(Gauge.builder(METRIC_PREFIX + ".pool.connections", getter, JdbcMetrics::getPoolValue)
+                .description("Number of connections of the connection pool").tag("state", state)
+                .strongReference(true).register(registry));
+    }
+
+    private static double getPoolValue(ToIntFunction<HikariPoolMXBean> getter) {
+        // the pool is replaced on reconnect, so it is looked up on every read
+        try {
+            HikariDataSource dataSource = Yank.getDefaultConnectionPool();
+            HikariPoolMXBean pool = dataSource != null ? dataSource.getHikariPoolMXBean() : null;
+            return pool != null ? getter.applyAsInt(pool) : Double.NaN;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Records the duration of a successful operation.
+     *
+     * @param operation one of the OPERATION_ constants
+     * @param duration the duration in milliseconds
+     */
+    public void recordDuration(String operation, long duration) {
+        Timer timer = timers.get(operation);
+        if (timer != null) {
+            timer.record(duration, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Records a failed operation.
+     *
+     * @param operation one of the OPERATION_ constants
+     */
+    public void recordError(String operation) {
+        Counter counter = errors.get(operation);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Removes all meters from the registry.
+     */
+    public void unregister() {
+        meters.forEach(registry::remove);
+        meters.clear();
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,6 +24,10 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -30,10 +35,12 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -46,6 +53,8 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcAggregation;
+import org.openhab.persistence.jdbc.internal.dto.JdbcBufferedState;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -54,6 +63,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +81,11 @@ import org.slf4j.LoggerFactory;
 @ConfigurableService(category = "persistence", label = "JDBC Persistence Service", description_uri = JdbcPersistenceServiceConstants.CONFIG_URI)
 public class JdbcPersistenceService extends JdbcMapper implements ModifiablePersistenceService {
 
+    /**
+     * States which could not be written are kept in the write buffer, up to this number of batches.
+     */
+    private static final int MAX_BUFFERED_BATCHES = 10;
+
     private final Logger logger = LoggerFactory.getLogger(JdbcPersistenceService.class);
 
     private final ItemRegistry itemRegistry;
@@ -77,6 +93,14 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private final JdbcWriteBuffer writeBuffer = new JdbcWriteBuffer();
+    private @Nullable ScheduledFuture<?> flushJob;
+    // set while a flush triggered by a full buffer is waiting to be executed
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+
+    private final AtomicInteger pendingStores = new AtomicInteger();
+    private volatile @Nullable JdbcMetrics metrics;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -98,6 +122,11 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void activate(BundleContext bundleContext, Map<Object, Object> configuration) {
         logger.debug("JDBC::activate: persistence service activated");
         updateConfig(configuration);
+        int batchInterval = conf.getBatchInterval();
+        if (conf.getBatchSize() > 0) {
+            flushJob = scheduler.scheduleWithFixedDelay(this::flushWriteBuffer, batchInterval, batchInterval,
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -120,10 +149,47 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        flushWriteBuffer();
         // closeConnection();
         initialized = false;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        JdbcMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.unregister();
+        }
+        this.metrics = new JdbcMetrics(meterRegistryProvider.getOHMeterRegistry(), writeBuffer, pendingStores::get);
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        JdbcMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.unregister();
+            this.metrics = null;
+        }
+    }
+
+    private void recordDuration(String operation, long timerStart) {
+        JdbcMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordDuration(operation, System.currentTimeMillis() - timerStart);
+        }
+    }
+
+    private void recordError(String operation) {
+        JdbcMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordError(operation);
+        }
+    }
+
     @Override
     public String getId() {
         logger.debug("JDBC::getName: returning name 'jdbc' for queryable persistence service.");
@@ -137,49 +203,168 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
     }
 
-    private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
-            @Nullable String alias) {
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
         // Do not store undefined/uninitialized data
         if (state instanceof UnDefType) {
             logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
             return;
         }
+        int batchSize = conf.getBatchSize();
+        if (batchSize <= 0) {
+            pendingStores.incrementAndGet();
+            scheduler.execute(() -> {
+                pendingStores.decrementAndGet();
+                internalStore(item, date, state, alias);
+            });
+            return;
+        }
+        // The timestamp has to be taken now, as the state is written later
+        if (writeBuffer.add(item, alias, state, date != null ? date : ZonedDateTime.now()) >= batchSize
+                && flushPending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                flushPending.set(false);
+                flushWriteBuffer();
+            });
+        }
+    }
+
+    private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
+            @Nullable String alias) {
         if (!checkDBAccessability()) {
             logger.warn(
                     "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
                     state, item, errCnt, conf.getErrReconnectThreshold());
+            recordError(JdbcMetrics.OPERATION_STORE);
             return;
         }
         try {
             long timerStart = System.currentTimeMillis();
             storeItemValue(item, state, date, alias);
+            recordDuration(JdbcMetrics.OPERATION_STORE, timerStart);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
                         new Date(), System.currentTimeMillis() - timerStart);
             }
         } catch (JdbcException e) {
+            recordError(JdbcMetrics.OPERATION_STORE);
             logger.warn("JDBC::store: Unable to store item", e);
         }
     }
 
+    private synchronized void flushWriteBuffer() {
+        if (writeBuffer.size() == 0) {
+            return;
+        }
+        int maxBufferSize = conf.getBatchSize() * MAX_BUFFERED_BATCHES;
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::flushWriteBuffer: No connection to database. Keeping {} buffered states! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    writeBuffer.size(), errCnt, conf.getErrReconnectThreshold());
+            recordError(JdbcMetrics.OPERATION_FLUSH);
+            logDroppedStates(writeBuffer.trim(maxBufferSize));
+            return;
+        }
+        List<JdbcWriteBuffer.PendingStates> pendingStatesList = writeBuffer.drain();
+        List<JdbcWriteBuffer.PendingStates> failed = new ArrayList<>();
+        int count = 0;
+        long timerStart = System.currentTimeMillis();
+        for (JdbcWriteBuffer.PendingStates pendingStates : pendingStatesList) {
+            try {
+                storeItemValues(pendingStates.item(), pendingStates.alias(), pendingStates.states());
+                count += pendingStates.states().size();
+            } catch (JdbcException e) {
+                recordError(JdbcMetrics.OPERATION_FLUSH);
+                if (isDataError(e)) {
+                    // retrying the batch would fail forever, so find the rejected states by writing them one by one
+                    logger.debug("JDBC::flushWriteBuffer: Database rejected the states of item '{}': {}",
+                            pendingStates.item().getName(), e.getMessage());
+                    count += storeStatesSeparately(pendingStates, failed);
+                } else {
+                    logger.warn(
+                            "JDBC::flushWriteBuffer: Unable to store {} states for item '{}', keeping them buffered",
+                            pendingStates.states().size(), pendingStates.item().getName(), e);
+                    failed.add(pendingStates);
+                }
+            }
+        }
+        logDroppedStates(writeBuffer.requeue(failed, maxBufferSize));
+        long duration = System.currentTimeMillis() - timerStart;
+        writeBuffer.recordFlush(count, duration);
+        recordDuration(JdbcMetrics.OPERATION_FLUSH, timerStart);
+        logger.debug("JDBC: Stored {} buffered states of {} items in SQL database in {} ms.", count,
+                pendingStatesList.size() - failed.size(), duration);
+    }
+
+    /**
+     * Writes the states of a batch rejected by the database one by one and drops the states which are rejected again.
+     * If a state can not be written for another reason, it is added to <code>failed</code> with the states following
+     * it.
+     *
+     * @return the number of written states
+     */
+    private int storeStatesSeparately(JdbcWriteBuffer.PendingStates pendingStates,
+            List<JdbcWriteBuffer.PendingStates> failed) {
+        Item item = pendingStates.item();
+        List<JdbcBufferedState> states = pendingStates.states();
+        int count = 0;
+        for (int i = 0; i < states.size(); i++) {
+            JdbcBufferedState bufferedState = states.get(i);
+            try {
+                storeItemValues(item, pendingStates.alias(), List.of(bufferedState));
+                count++;
+            } catch (JdbcException e) {
+                if (isDataError(e)) {
+                    writeBuffer.recordRejected(1);
+                    logger.warn("JDBC::flushWriteBuffer: Database rejected state '{}' of item '{}', dropping it: {}",
+                            bufferedState.state(), item.getName(), e.getMessage());
+                } else {
+                    logger.warn(
+                            "JDBC::flushWriteBuffer: Unable to store {} states for item '{}', keeping them buffered",
+                            states.size() - i, item.getName(), e);
+                    failed.add(new JdbcWriteBuffer.PendingStates(item, pendingStates.alias(),
+                            new ArrayList<>(states.subList(i, states.size()))));
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean isDataError(JdbcException e) {
+        return e instanceof JdbcSQLException sqlException && sqlException.isDataError();
+    }
+
+    private void logDroppedStates(int dropped) {
+        if (dropped > 0) {
+            logger.warn("JDBC::flushWriteBuffer: Write buffer full, dropped the {} oldest buffered states", dropped);
+        }
+    }
+
+    /**
+     * Get the write buffer, which holds states waiting to be written in batches.
+     */
+    public JdbcWriteBuffer getWriteBuffer() {
+        return writeBuffer;
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -216,6 +401,34 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
      */
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        Duration bucket = getAggregationBucket(filter);
+        if (bucket != null) {
+            return queryAggregated(filter, alias, bucket, JdbcAggregation.AVG);
+        }
+        return queryStoredValues(filter, alias);
+    }
+
+    /**
+     * Get the length of the time buckets an unpaged query over a period is aggregated to, so it returns at most
+     * <code>aggregateMaxRows</code> rows.
+     *
+     * @return the length of a bucket, or <code>null</code> if the query returns the stored values
+     */
+    private @Nullable Duration getAggregationBucket(FilterCriteria filter) {
+        int maxRows = conf.getAggregateMaxRows();
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (maxRows <= 0 || beginDate == null || endDate == null || filter.getPageSize() != Integer.MAX_VALUE
+                || filter.getState() != null) {
+            return null;
+        }
+        long seconds = Duration.between(beginDate, endDate).toSeconds();
+        long bucketSeconds = (seconds + maxRows - 1) / maxRows;
+        // with buckets of one second the stored values are returned as they are
+        return bucketSeconds > 1 ? Duration.ofSeconds(bucketSeconds) : null;
+    }
+
+    private Iterable<HistoricItem> queryStoredValues(FilterCriteria filter, @Nullable String alias) {
         if (!checkDBAccessability()) {
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
@@ -252,6 +465,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
 
         String localAlias = alias != null ? alias : itemName;
+        if (writeBuffer.contains(localAlias)) {
+            flushWriteBuffer();
+        }
         String table = itemNameToTableNameMap.get(localAlias);
         if (table == null) {
             logger.debug("JDBC::query: unable to find table for item with name or alias: '{}', no data in database.",
@@ -261,20 +477,86 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         try {
             long timerStart = System.currentTimeMillis();
-            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
-            if (logger.isDebugEnabled()) {
-                logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
-                        System.currentTimeMillis() - timerStart);
-            }
+            // lazily read results are only complete once they have been iterated, so the metrics are recorded then
+            Iterable<HistoricItem> items = getHistItemFilterQueryChunked(filter, conf.getNumberDecimalcount(), table,
+                    item, error -> {
+                        if (error == null) {
+                            recordDuration(JdbcMetrics.OPERATION_QUERY, timerStart);
+                            logger.debug("JDBC: Query for item '{}' completed in {} ms", itemName,
+                                    System.currentTimeMillis() - timerStart);
+                        } else {
+                            recordError(JdbcMetrics.OPERATION_QUERY);
+                            logger.warn("JDBC::query: Unable to read the result for item '{}': {}", itemName,
+                                    error.getMessage());
+                        }
+                    });
             // Success
             errCnt = 0;
             return items;
         } catch (JdbcSQLException e) {
+            recordError(JdbcMetrics.OPERATION_QUERY);
             logger.warn("JDBC::query: Unable to query item", e);
             return List.of();
         }
     }
 
+    /**
+     * Queries the values of a numeric item aggregated by the database per time bucket, e.g. to draw a chart over a
+     * long period without reading every single value.
+     *
+     * Returns the stored values if the item is not a {@link NumberItem} or the database does not support time
+     * buckets. Used by {@link #query(FilterCriteria, String)} if <code>aggregateMaxRows</code> is configured.
+     *
+     * @param filter the filter to apply to the query, paging is not applied
+     * @param alias for the item
+     * @param bucket the length of a time bucket, at least one second
+     * @param aggregation the aggregation applied to the values of a bucket
+     * @return a time series with one item per non-empty bucket, stamped with the start of the bucket
+     */
+    public Iterable<HistoricItem> queryAggregated(FilterCriteria filter, @Nullable String alias, Duration bucket,
+            JdbcAggregation aggregation) {
+        String itemName = filter.getItemName();
+        Item item = itemName != null ? itemRegistry.get(itemName) : null;
+        if (item instanceof GroupItem groupItem) {
+            item = groupItem.getBaseItem();
+        }
+        long bucketSeconds = bucket.toSeconds();
+        if (itemName == null || !(item instanceof NumberItem numberItem) || bucketSeconds < 1 || !checkDBAccessability()
+                || !conf.getDBDAO().isAggregationSupported()) {
+            logger.debug("JDBC::queryAggregated: aggregation not available for item '{}', querying raw values",
+                    itemName);
+            return queryStoredValues(filter, alias);
+        }
+
+        String localAlias = alias != null ? alias : itemName;
+        if (writeBuffer.contains(localAlias)) {
+            flushWriteBuffer();
+        }
+        String table = itemNameToTableNameMap.get(localAlias);
+        if (table == null) {
+            logger.debug(
+                    "JDBC::queryAggregated: unable to find table for item with name or alias: '{}', no data in database.",
+                    localAlias);
+            return List.of();
+        }
+
+        try {
+            long timerStart = System.currentTimeMillis();
+            List<HistoricItem> items = getHistItemAggregateQuery(filter, table, numberItem, bucketSeconds,
+                    aggregation);
+            recordDuration(JdbcMetrics.OPERATION_QUERY, timerStart);
+            if (logger.isDebugEnabled()) {
+                logger.debug("JDBC: Aggregated query for item '{}' returned {} rows in {} ms", itemName, items.size(),
+                        System.currentTimeMillis() - timerStart);
+            }
+            return items;
+        } catch (JdbcSQLException e) {
+            recordError(JdbcMetrics.OPERATION_QUERY);
+            logger.warn("JDBC::queryAggregated: Unable to query item", e);
+            return List.of();
+        }
+    }
+
     private void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
@@ -315,6 +597,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         if (itemName == null) {
             throw new IllegalArgumentException("Item name must not be null");
         }
+        if (writeBuffer.contains(itemName)) {
+            flushWriteBuffer();
+        }
 
         String table = itemNameToTableNameMap.get(itemName);
         if (table == null) {
@@ -325,12 +610,14 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         try {
             long timerStart = System.currentTimeMillis();
             deleteItemValues(filter, table);
+            recordDuration(JdbcMetrics.OPERATION_REMOVE, timerStart);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Deleted values for item '{}' in SQL database at {} in {} ms.", itemName, new Date(),
                         System.currentTimeMillis() - timerStart);
             }
             return true;
         } catch (JdbcSQLException e) {
+            recordError(JdbcMetrics.OPERATION_REMOVE);
             logger.debug("JDBC::remove: Unable to remove values for item", e);
             return false;
         }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.JdbcBufferedState;
+
+/**
+ * The {@link JdbcWriteBuffer} collects states per item table until they are flushed to the database in batches.
+ * It also keeps track of the flush statistics, which can be inspected from the console.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBuffer {
+
+    /**
+     * States waiting to be written into the table of a single item (or alias).
+     */
+    public record PendingStates(Item item, @Nullable String alias, List<JdbcBufferedState> states) {
+    }
+
+    private Map<String, PendingStates> pending = new LinkedHashMap<>();
+    private int size;
+    private long oldestAddTime;
+    private long drainedOldestAddTime;
+    private long droppedStates;
+    private long rejectedStates;
+
+    private long flushCount;
+    private long flushedStates;
+    private long lastFlushDuration;
+    private long maxFlushDuration;
+    private long totalFlushDuration;
+
+    /**
+     * Adds a state to the buffer.
+     *
+     * @param item the item to store the state for
+     * @param alias optional alias of the item
+     * @param state the state to store
+     * @param date the date to store the state with
+     * @return the number of buffered states, including the added one
+     */
+    public synchronized int add(Item item, @Nullable String alias, State state, ZonedDateTime date) {
+        String name = alias != null ? alias : item.getName();
+        PendingStates pendingStates = pending.get(name);
+        if (pendingStates == null) {
+            pendingStates = new PendingStates(item, alias, new ArrayList<>());
+            pending.put(name, pendingStates);
+        }
+        pendingStates.states().add(new JdbcBufferedState(state, date));
+        if (size == 0) {
+            oldestAddTime = System.currentTimeMillis();
+        }
+        return ++size;
+    }
+
+    /**
+     * Removes all buffered states from the buffer. Several states of an item table with the same timestamp can not be
+     * written in one batch, so only the last one added is returned.
+     *
+     * @return the buffered states, grouped by item table
+     */
+    public synchronized List<PendingStates> drain() {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<PendingStates> drained = new ArrayList<>(pending.size());
+        for (PendingStates pendingStates : pending.values()) {
+            Map<Instant, JdbcBufferedState> states = new LinkedHashMap<>();
+            pendingStates.states().forEach(state -> states.put(state.date().toInstant(), state));
+            drained.add(states.size() == pendingStates.states().size() ? pendingStates
+                    : new PendingStates(pendingStates.item(), pendingStates.alias(), new ArrayList<>(states.values())));
+        }
+        pending = new LinkedHashMap<>();
+        size = 0;
+        drainedOldestAddTime = oldestAddTime;
+        return drained;
+    }
+
+    /**
+     * Puts states that could not be written back at the head of the buffer, ahead of the states added meanwhile.
+     * If the buffer then holds more than <code>maxSize</code> states, the oldest states are dropped.
+     *
+     * @param failed the states to put back, as returned by {@link #drain()}
+     * @param maxSize the maximum number of states kept in the buffer
+     * @return the number of dropped states
+     */
+    public synchronized int requeue(List<PendingStates> failed, int maxSize) {
+        if (failed.isEmpty()) {
+            return 0;
+        }
+        Map<String, PendingStates> requeued = new LinkedHashMap<>();
+        for (PendingStates pendingStates : failed) {
+            String alias = pendingStates.alias();
+            String name = alias != null ? alias : pendingStates.item().getName();
+            requeued.put(name, new PendingStates(pendingStates.item(), alias, new ArrayList<>(pendingStates.states())));
+            size += pendingStates.states().size();
+        }
+        for (Map.Entry<String, PendingStates> entry : pending.entrySet()) {
+            PendingStates pendingStates = requeued.get(entry.getKey());
+            if (pendingStates == null) {
+                requeued.put(entry.getKey(), entry.getValue());
+            } else {
+                pendingStates.states().addAll(entry.getValue().states());
+            }
+        }
+        pending = requeued;
+        oldestAddTime = drainedOldestAddTime;
+        return trim(maxSize);
+    }
+
+    /**
+     * Drops the oldest states if the buffer holds more than <code>maxSize</code> states.
+     *
+     * @param maxSize the maximum number of states kept in the buffer
+     * @return the number of dropped states
+     */
+    public synchronized int trim(int maxSize) {
+        int dropped = 0;
+        Iterator<PendingStates> iterator = pending.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            List<JdbcBufferedState> states = iterator.next().states();
+            int count = Math.min(states.size(), size - maxSize);
+            states.subList(0, count).clear();
+            if (states.isEmpty()) {
+                iterator.remove();
+            }
+            size -= count;
+            dropped += count;
+        }
+        droppedStates += dropped;
+        return dropped;
+    }
+
+    /**
+     * Checks if states are waiting to be written for the given item name or alias.
+     */
+    public synchronized boolean contains(String name) {
+        return pending.containsKey(name);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Time in milliseconds the oldest buffered state is waiting to be written, 0 if the buffer is empty.
+     */
+    public synchronized long getLag() {
+        return size == 0 ? 0 : System.currentTimeMillis() - oldestAddTime;
+    }
+
+    public synchronized void recordFlush(int states, long duration) {
+        flushCount++;
+        flushedStates += states;
+        lastFlushDuration = duration;
+        maxFlushDuration = Math.max(maxFlushDuration, duration);
+        totalFlushDuration += duration;
+    }
+
+    public synchronized void recordRejected(int states) {
+        rejectedStates += states;
+    }
+
+    public synchronized long getFlushCount() {
+        return flushCount;
+    }
+
+    public synchronized long getFlushedStates() {
+        return flushedStates;
+    }
+
+    public synchronized long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+
+    public synchronized long getMaxFlushDuration() {
+        return maxFlushDuration;
+    }
+
+    public synchronized long getAverageFlushDuration() {
+        return flushCount == 0 ? 0 : totalFlushDuration / flushCount;
+    }
+
+    /**
+     * Number of states dropped because they could not be written while the buffer was full.
+     */
+    public synchronized long getDroppedStates() {
+        return droppedStates;
+    }
+
+    /**
+     * Number of states dropped because the database rejected them, e.g. because of a constraint violation.
+     */
+    public synchronized long getRejectedStates() {
+        return rejectedStates;
+    }
+}
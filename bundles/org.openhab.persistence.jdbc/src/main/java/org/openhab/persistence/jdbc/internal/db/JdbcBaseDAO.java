@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -59,6 +60,8 @@ import org.openhab.core.types.TypeParser;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcAggregation;
+import org.openhab.persistence.jdbc.internal.dto.JdbcBufferedState;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
@@ -446,12 +449,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = storeItemValueWithDateSqlProvider(storedVO);
+        Object[] params = storeItemValueWithDateParamsProvider(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,6 +459,40 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several states of the same item with explicit timestamps using a single JDBC batch.
+     *
+     * All states share the same insert statement, so the driver can send them in one round trip (or rewrite them into
+     * a multi-row INSERT where supported).
+     *
+     * @param item the item the states belong to
+     * @param states the states to store, with the date they should be stored with
+     * @param tableName the item table
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(Item item, List<JdbcBufferedState> states, String tableName)
+            throws JdbcSQLException {
+        if (states.isEmpty()) {
+            return;
+        }
+        String sql = "";
+        Object[][] params = new Object[states.size()][];
+        for (int i = 0; i < states.size(); i++) {
+            JdbcBufferedState bufferedState = states.get(i);
+            ItemVO storedVO = storeItemValueProvider(item, bufferedState.state(), new ItemVO(tableName, null));
+            if (i == 0) {
+                sql = storeItemValueWithDateSqlProvider(storedVO);
+            }
+            params[i] = storeItemValueWithDateParamsProvider(storedVO, bufferedState.date());
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -481,6 +515,68 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Queries the historic items matching an unpaged filter in chunks of at most {@code chunkSize} rows. The first
+     * chunk is read immediately, following chunks are only read while the returned {@link Iterable} is iterated.
+     *
+     * @param onCompletion called once the last chunk has been read, or with the error if reading a following chunk
+     *            failed
+     */
+    public Iterable<HistoricItem> doGetHistItemFilterQueryChunked(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, String name, ZoneId timeZone, int chunkSize,
+            Consumer<@Nullable JdbcSQLException> onCompletion) throws JdbcSQLException {
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        JdbcHistoricItemIterable.ChunkLoader loader = lastTime -> {
+            String sql = histItemFilterChunkQueryProvider(filter, numberDecimalcount, table, name, timeZone,
+                    lastTime != null, chunkSize);
+            logger.debug("JDBC::doGetHistItemFilterQueryChunked sql={}", sql);
+            List<Object[]> m;
+            try {
+                m = Yank.queryObjectArrays(sql, lastTime == null ? null : new Object[] { lastTime });
+            } catch (YankSQLException e) {
+                throw new JdbcSQLException(e);
+            }
+            return m == null ? List.of() : m;
+        };
+        return new JdbcHistoricItemIterable(loader.load(null), chunkSize, loader,
+                o -> new JdbcHistoricItem(itemName, objectAsState(item, unit, o[1]), objectAsInstant(o[0])),
+                onCompletion);
+    }
+
+    /**
+     * Queries the values of an item aggregated per time bucket. Must only be called if
+     * {@link #isAggregationSupported()} returns <code>true</code>.
+     */
+    public List<HistoricItem> doGetHistItemAggregateQuery(Item item, FilterCriteria filter, String table,
+            ZoneId timeZone, long bucketSeconds, JdbcAggregation aggregation) throws JdbcSQLException {
+        String sql = histItemAggregateQueryProvider(filter, table, timeZone, bucketSeconds, aggregation);
+        logger.debug("JDBC::doGetHistItemAggregateQuery sql={}", sql);
+        List<Object[]> m;
+        try {
+            m = Yank.queryObjectArrays(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        if (m == null) {
+            logger.debug("JDBC::doGetHistItemAggregateQuery Query failed. Returning an empty list.");
+            return List.of();
+        }
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        return m.stream().filter(o -> o[1] != null)
+                .map(o -> new JdbcHistoricItem(itemName, objectAsState(item, unit, o[1]), objectAsInstant(o[0])))
+                .collect(Collectors.<HistoricItem> toList());
+    }
+
+    /**
+     * @return <code>true</code> if the database dialect supports aggregating values per time bucket
+     */
+    public boolean isAggregationSupported() {
+        return timeBucketProvider(1) != null;
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -520,17 +616,93 @@ public class JdbcBaseDAO {
             filterString += " LIMIT " + filter.getPageNumber() * filter.getPageSize() + "," + filter.getPageSize();
         }
         // SELECT time, ROUND(value,3) FROM number_item_0114 ORDER BY time DESC LIMIT 0,1
+        String queryString = histItemSelectProvider(numberDecimalcount, table, simpleName);
+        if (!filterString.isEmpty()) {
+            queryString += filterString;
+        }
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Provides the query reading one chunk of an unpaged filter query. The rows are read in time order, continuing
+     * after the time of the last row of the previous chunk, which is bound as parameter if {@code afterLastRow} is set.
+     */
+    protected String histItemFilterChunkQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
+            String simpleName, ZoneId timeZone, boolean afterLastRow, int chunkSize) {
+        String filterString = resolveTimeFilter(filter, timeZone);
+        if (afterLastRow) {
+            filterString += filterString.isEmpty() ? " WHERE" : " AND";
+            filterString += (filter.getOrdering() == Ordering.ASCENDING) ? " TIME>?" : " TIME<?";
+        }
+        filterString += (filter.getOrdering() == Ordering.ASCENDING) ? " ORDER BY time ASC" : " ORDER BY time DESC";
+        filterString += limitClauseProvider(chunkSize);
+        String queryString = histItemSelectProvider(numberDecimalcount, table, simpleName) + filterString;
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    protected String histItemSelectProvider(int numberDecimalcount, String table, String simpleName) {
         // rounding HALF UP
-        String queryString = "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1
+        return "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1
                 ? "SELECT time, ROUND(value," + numberDecimalcount + ") FROM " + formattedIdentifier(table)
                 : "SELECT time, value FROM " + formattedIdentifier(table);
-        if (!filterString.isEmpty()) {
-            queryString += filterString;
+    }
+
+    protected String limitClauseProvider(int limit) {
+        return " LIMIT " + limit;
+    }
+
+    /**
+     * Provides the query aggregating the values per time bucket. The buckets are returned in the order of the filter,
+     * paging is not applied.
+     */
+    protected String histItemAggregateQueryProvider(FilterCriteria filter, String table, ZoneId timeZone,
+            long bucketSeconds, JdbcAggregation aggregation) {
+        String bucket = Objects.requireNonNull(timeBucketProvider(bucketSeconds));
+        String filterString = resolveTimeFilter(filter, timeZone);
+        String order = (filter.getOrdering() == Ordering.ASCENDING) ? " ASC" : " DESC";
+        String sqlFunction = aggregation.getSqlFunction();
+        String queryString;
+        if (sqlFunction == null) {
+            // SELECT <bucket>, value FROM t WHERE time IN (SELECT MAX(time) FROM t GROUP BY <bucket>) ORDER BY 1
+            queryString = "SELECT " + bucket + ", value FROM " + formattedIdentifier(table)
+                    + " WHERE time IN (SELECT MAX(time) FROM " + formattedIdentifier(table) + filterString
+                    + " GROUP BY " + bucket + ") ORDER BY 1" + order;
+        } else {
+            queryString = "SELECT " + bucket + ", " + sqlFunction + "(value) FROM " + formattedIdentifier(table)
+                    + filterString + " GROUP BY " + bucket + " ORDER BY 1" + order;
         }
         logger.debug("JDBC::query queryString = {}", queryString);
         return queryString;
     }
 
+    /**
+     * Provides the expression returning the start of the time bucket of a row, with buckets of the given length.
+     *
+     * @return the expression, or <code>null</code> if the database dialect does not support time buckets
+     */
+    protected @Nullable String timeBucketProvider(long bucketSeconds) {
+        return null;
+    }
+
+    /**
+     * Provides the statement for storing a value with an explicit timestamp, the timestamp being bound as parameter.
+     */
+    protected String storeItemValueWithDateSqlProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
+    }
+
+    /**
+     * Provides the parameters for the statement returned by {@link #storeItemValueWithDateSqlProvider(ItemVO)}.
+     */
+    protected Object[] storeItemValueWithDateParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -161,26 +161,16 @@ public class JdbcDerbyDAO extends JdbcBaseDAO {
         }
     }
 
-    @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
-    }
-
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected Object[] storeItemValueWithDateParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue() };
+    }
+
     @Override
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
@@ -237,6 +227,24 @@ public class JdbcDerbyDAO extends JdbcBaseDAO {
         return queryString;
     }
 
+    @Override
+    protected String histItemSelectProvider(int numberDecimalcount, String table, String simpleName) {
+        String queryString = "SELECT time,";
+        if ("NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1) {
+            // rounding HALF UP
+            queryString += " CAST(value + 0." + "0".repeat(numberDecimalcount) + "5 AS DECIMAL(31,"
+                    + numberDecimalcount + "))";
+        } else {
+            queryString += " value";
+        }
+        return queryString + " FROM " + formattedIdentifier(table);
+    }
+
+    @Override
+    protected String limitClauseProvider(int limit) {
+        return " FETCH FIRST " + limit + " ROWS ONLY";
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
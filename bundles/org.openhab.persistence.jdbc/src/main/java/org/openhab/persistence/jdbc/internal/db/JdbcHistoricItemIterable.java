@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Lazily reads the result of a query in chunks, so that only a single chunk of rows is held in memory at any time
+ * and no connection is kept open between two chunks.
+ *
+ * The time of the last row of a chunk is passed to the {@link ChunkLoader} to read the rows following it. A chunk
+ * holding less rows than the chunk size is the last one.
+ *
+ * If a following chunk cannot be read, the iterator throws an {@link IllegalStateException} rather than ending the
+ * result early. The completion callback is called once, when the last chunk has been read or reading failed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class JdbcHistoricItemIterable implements Iterable<HistoricItem> {
+
+    /**
+     * Reads the chunk following the row with the given time, or the first chunk if it is <code>null</code>.
+     */
+    @FunctionalInterface
+    interface ChunkLoader {
+        List<Object[]> load(@Nullable Object lastTime) throws JdbcSQLException;
+    }
+
+    private final List<Object[]> firstChunk;
+    private final int chunkSize;
+    private final ChunkLoader loader;
+    private final Function<Object[], HistoricItem> mapper;
+    private final Consumer<@Nullable JdbcSQLException> onCompletion;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    JdbcHistoricItemIterable(List<Object[]> firstChunk, int chunkSize, ChunkLoader loader,
+            Function<Object[], HistoricItem> mapper, Consumer<@Nullable JdbcSQLException> onCompletion) {
+        this.firstChunk = firstChunk;
+        this.chunkSize = chunkSize;
+        this.loader = loader;
+        this.mapper = mapper;
+        this.onCompletion = onCompletion;
+        if (firstChunk.size() < chunkSize) {
+            complete(null);
+        }
+    }
+
+    private void complete(@Nullable JdbcSQLException error) {
+        if (completed.compareAndSet(false, true)) {
+            onCompletion.accept(error);
+        }
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new Iterator<>() {
+            private List<Object[]> chunk = firstChunk;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (index < chunk.size()) {
+                    return true;
+                }
+                if (chunk.size() < chunkSize) {
+                    return false;
+                }
+                Object lastTime = chunk.get(chunk.size() - 1)[0];
+                try {
+                    chunk = loader.load(lastTime);
+                } catch (JdbcSQLException e) {
+                    complete(e);
+                    throw new IllegalStateException("Unable to read next chunk of query result: " + e.getMessage(),
+                            e);
+                }
+                index = 0;
+                if (chunk.size() < chunkSize) {
+                    complete(null);
+                }
+                return !chunk.isEmpty();
+            }
+
+            @Override
+            public HistoricItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return mapper.apply(chunk.get(index++));
+            }
+        };
+    }
+}
@@ -225,25 +225,16 @@ public class JdbcOracleDAO extends JdbcBaseDAO {
         doStoreItemValue(item, itemState, vo, ZonedDateTime.now());
     }
 
-    @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue, new String[] { "#tableName#", "#dbType#" },
-                new String[] { storedVO.getTableName(), storedVO.getDbType() });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
-    }
-
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected Object[] storeItemValueWithDateParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue() };
+    }
+
     @Override
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
@@ -258,10 +249,7 @@ public class JdbcOracleDAO extends JdbcBaseDAO {
                     + filter.getPageSize() + " ROWS ONLY";
         }
         // SELECT time, ROUND(value,3) FROM number_item_0114 ORDER BY time DESC OFFSET 0 ROWS FETCH NEXT 1 ROWS ONLY
-        // rounding HALF UP
-        String queryString = "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1
-                ? "SELECT time, ROUND(value," + numberDecimalcount + ") FROM " + table
-                : "SELECT time, value FROM " + table;
+        String queryString = histItemSelectProvider(numberDecimalcount, table, simpleName);
         if (!filterString.isEmpty()) {
             queryString += filterString;
         }
@@ -269,6 +257,19 @@ public class JdbcOracleDAO extends JdbcBaseDAO {
         return queryString;
     }
 
+    @Override
+    protected String histItemSelectProvider(int numberDecimalcount, String table, String simpleName) {
+        // rounding HALF UP
+        return "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1
+                ? "SELECT time, ROUND(value," + numberDecimalcount + ") FROM " + table
+                : "SELECT time, value FROM " + table;
+    }
+
+    @Override
+    protected String limitClauseProvider(int limit) {
+        return " FETCH FIRST " + limit + " ROWS ONLY";
+    }
+
     @Override
     protected String resolveTimeFilter(FilterCriteria filter, ZoneId timeZone) {
         String filterString = "";
@@ -17,6 +17,7 @@ import java.time.ZonedDateTime;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
 import org.openhab.core.items.Item;
@@ -127,6 +128,8 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         // databaseProps.setProperty("dataSource.cachePrepStmts", "true");
         // databaseProps.setProperty("dataSource.prepStmtCacheSize", "250");
         // databaseProps.setProperty("dataSource.prepStmtCacheSqlLimit", "2048");
+        // Send batched inserts of the write buffer as multi-row INSERT statements
+        databaseProps.setProperty("dataSource.reWriteBatchedInserts", "true");
 
         // Properties for HikariCP
         databaseProps.setProperty("driverClassName", DRIVER_CLASS_NAME);
@@ -228,26 +231,16 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         }
     }
 
-    @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
-    }
-
     /****************************
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected Object[] storeItemValueWithDateParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue() };
+    }
+
     @Override
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
@@ -273,10 +266,7 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
             filterString += " OFFSET " + filter.getPageNumber() * filter.getPageSize() + " LIMIT "
                     + filter.getPageSize();
         }
-        String queryString = "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1
-                ? "SELECT time, ROUND(CAST (value AS numeric)," + numberDecimalcount + ") FROM "
-                        + formattedIdentifier(table)
-                : "SELECT time, value FROM " + formattedIdentifier(table);
+        String queryString = histItemSelectProvider(numberDecimalcount, table, simpleName);
         if (!filterString.isEmpty()) {
             queryString += filterString;
         }
@@ -284,6 +274,22 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         return queryString;
     }
 
+    @Override
+    protected String histItemSelectProvider(int numberDecimalcount, String table, String simpleName) {
+        return "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1
+                ? "SELECT time, ROUND(CAST (value AS numeric)," + numberDecimalcount + ") FROM "
+                        + formattedIdentifier(table)
+                : "SELECT time, value FROM " + formattedIdentifier(table);
+    }
+
+    @Override
+    protected @Nullable String timeBucketProvider(long bucketSeconds) {
+        // computed on the column itself, so the bucket has the type of the column and does not depend on the time zone
+        // of the session, neither for TIMESTAMPTZ nor for TIMESTAMP columns of older tables
+        return "time - INTERVAL '1 second' * CAST(mod(CAST(extract(epoch FROM time) AS numeric), " + bucketSeconds
+                + ") AS double precision)";
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Aggregation applied to the values of one time bucket by aggregated queries. Each bucket yields one value, stamped
+ * with the start of the bucket.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public enum JdbcAggregation {
+    AVG("AVG"),
+    MIN("MIN"),
+    MAX("MAX"),
+    SUM("SUM"),
+    /**
+     * The last value stored within the bucket.
+     */
+    LAST(null);
+
+    private final @Nullable String sqlFunction;
+
+    JdbcAggregation(@Nullable String sqlFunction) {
+        this.sqlFunction = sqlFunction;
+    }
+
+    /**
+     * @return the SQL aggregate function, or <code>null</code> if the aggregation is not a plain aggregate function
+     */
+    public @Nullable String getSqlFunction() {
+        return sqlFunction;
+    }
+}
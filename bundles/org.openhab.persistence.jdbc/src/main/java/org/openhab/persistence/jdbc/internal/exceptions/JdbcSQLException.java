@@ -12,6 +12,9 @@
  */
 package org.openhab.persistence.jdbc.internal.exceptions;
 
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,6 +31,27 @@ public class JdbcSQLException extends JdbcException {
     private static final long serialVersionUID = 4562191548585905000L;
 
     public JdbcSQLException(YankSQLException sqlException) {
-        super(Objects.requireNonNull(sqlException.getMessage()));
+        super(Objects.requireNonNull(sqlException.getMessage()), sqlException);
+    }
+
+    /**
+     * Checks if the database rejected the statement because of the data it contained, e.g. a constraint violation or
+     * a value not matching the column type. Executing the same statement again will fail again.
+     *
+     * @return true for SQLState classes 21 (cardinality violation), 22 (data exception) and 23 (integrity constraint
+     *         violation)
+     */
+    public boolean isDataError() {
+        for (Throwable cause = getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLDataException || cause instanceof SQLIntegrityConstraintViolationException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException) {
+                String sqlState = sqlException.getSQLState();
+                return sqlState != null
+                        && (sqlState.startsWith("21") || sqlState.startsWith("22") || sqlState.startsWith("23"));
+            }
+        }
+        return false;
     }
 }
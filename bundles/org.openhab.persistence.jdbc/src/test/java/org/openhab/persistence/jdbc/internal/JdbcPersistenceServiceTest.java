@@ -12,15 +12,33 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcAggregation;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 
 /**
  * Tests the {@link JdbcPersistenceService}.
@@ -30,22 +48,97 @@ import org.openhab.core.persistence.FilterCriteria;
 @NonNullByDefault
 public class JdbcPersistenceServiceTest {
 
-    private final JdbcPersistenceService jdbcPersistenceService = new JdbcPersistenceService(mock(ItemRegistry.class),
+    private static final String ITEM_NAME = "Power";
+
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class);
+    private final List<HistoricItem> rawItems = List
+            .of(new JdbcHistoricItem(ITEM_NAME, new DecimalType(1), ZonedDateTime.now().toInstant()));
+    private final List<HistoricItem> aggregatedItems = List
+            .of(new JdbcHistoricItem(ITEM_NAME, new DecimalType(2), ZonedDateTime.now().toInstant()));
+    private long bucketSeconds;
+    private @Nullable JdbcAggregation aggregation;
+    private final JdbcPersistenceService jdbcPersistenceService = new JdbcPersistenceService(itemRegistry,
             mock(TimeZoneProvider.class)) {
         @Override
         protected boolean checkDBAccessability() {
             return true;
         }
+
+        @Override
+        protected Iterable<HistoricItem> getHistItemFilterQueryChunked(FilterCriteria filter, int numberDecimalcount,
+                String table, Item item, Consumer<@Nullable JdbcSQLException> onCompletion) {
+            onCompletion.accept(null);
+            return rawItems;
+        }
+
+        @Override
+        protected List<HistoricItem> getHistItemAggregateQuery(FilterCriteria filter, String table, Item item,
+                long bucketSeconds, JdbcAggregation aggregation) {
+            JdbcPersistenceServiceTest.this.bucketSeconds = bucketSeconds;
+            JdbcPersistenceServiceTest.this.aggregation = aggregation;
+            return aggregatedItems;
+        }
     };
     private @NonNullByDefault({}) FilterCriteria filter;
 
     @BeforeEach
-    public void setup() {
+    public void setup() throws ItemNotFoundException {
         filter = new FilterCriteria();
+        NumberItem item = new NumberItem(ITEM_NAME);
+        when(itemRegistry.getItem(ITEM_NAME)).thenReturn(item);
+        when(itemRegistry.get(ITEM_NAME)).thenReturn(item);
+        jdbcPersistenceService.conf = new JdbcConfiguration(Map.of("url", "jdbc:mysql://localhost:3306/openhab"));
+        jdbcPersistenceService.itemNameToTableNameMap.put(ITEM_NAME, "power_0001");
     }
 
     @Test
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void queryOverLongPeriodReturnsRawValues() {
+        filter.setItemName(ITEM_NAME);
+        filter.setBeginDate(ZonedDateTime.now().minusYears(1));
+
+        assertThat(jdbcPersistenceService.query(filter), is(sameInstance(rawItems)));
+    }
+
+    @Test
+    void queryAggregatedReturnsAggregatedValues() {
+        filter.setItemName(ITEM_NAME);
+        filter.setBeginDate(ZonedDateTime.now().minusYears(1));
+
+        assertThat(jdbcPersistenceService.queryAggregated(filter, null, Duration.ofHours(1), JdbcAggregation.MAX),
+                is(sameInstance(aggregatedItems)));
+        assertThat(bucketSeconds, is(3600L));
+        assertThat(aggregation, is(JdbcAggregation.MAX));
+    }
+
+    @Test
+    void queryOverPeriodIsAveragedIfAggregateMaxRowsIsConfigured() {
+        jdbcPersistenceService.conf = new JdbcConfiguration(
+                Map.of("url", "jdbc:mysql://localhost:3306/openhab", "aggregateMaxRows", "1000"));
+        ZonedDateTime endDate = ZonedDateTime.now();
+        filter.setItemName(ITEM_NAME);
+        filter.setBeginDate(endDate.minusDays(10));
+        filter.setEndDate(endDate);
+
+        assertThat(jdbcPersistenceService.query(filter), is(sameInstance(aggregatedItems)));
+        assertThat(bucketSeconds, is(864L));
+        assertThat(aggregation, is(JdbcAggregation.AVG));
+    }
+
+    @Test
+    void pagedQueryReturnsRawValuesIfAggregateMaxRowsIsConfigured() {
+        jdbcPersistenceService.conf = new JdbcConfiguration(
+                Map.of("url", "jdbc:mysql://localhost:3306/openhab", "aggregateMaxRows", "1000"));
+        ZonedDateTime endDate = ZonedDateTime.now();
+        filter.setItemName(ITEM_NAME);
+        filter.setBeginDate(endDate.minusDays(10));
+        filter.setEndDate(endDate);
+        filter.setPageSize(1);
+
+        assertThat(jdbcPersistenceService.query(filter), is(sameInstance(rawItems)));
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * Tests the {@link JdbcWriteBuffer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBufferTest {
+
+    private final JdbcWriteBuffer writeBuffer = new JdbcWriteBuffer();
+
+    @Test
+    void addGroupsStatesPerItemAndAlias() {
+        NumberItem item = new NumberItem("Meter");
+        ZonedDateTime now = ZonedDateTime.now();
+
+        assertThat(writeBuffer.add(item, null, new DecimalType(1), now), is(1));
+        assertThat(writeBuffer.add(item, null, new DecimalType(2), now.plusSeconds(1)), is(2));
+        assertThat(writeBuffer.add(item, "MeterAlias", new DecimalType(3), now), is(3));
+
+        assertThat(writeBuffer.contains("Meter"), is(true));
+        assertThat(writeBuffer.contains("MeterAlias"), is(true));
+
+        List<JdbcWriteBuffer.PendingStates> pendingStates = writeBuffer.drain();
+        assertThat(pendingStates.size(), is(2));
+        assertThat(pendingStates.get(0).alias() == null, is(true));
+        assertThat(pendingStates.get(0).states().size(), is(2));
+        assertThat(pendingStates.get(0).states().get(1).state(), is(new DecimalType(2)));
+        assertThat(pendingStates.get(1).alias(), is("MeterAlias"));
+        assertThat(pendingStates.get(1).states().size(), is(1));
+    }
+
+    @Test
+    void drainEmptiesBuffer() {
+        writeBuffer.add(new NumberItem("Meter"), null, new DecimalType(1), ZonedDateTime.now());
+        writeBuffer.drain();
+
+        assertThat(writeBuffer.size(), is(0));
+        assertThat(writeBuffer.contains("Meter"), is(false));
+        assertThat(writeBuffer.drain().isEmpty(), is(true));
+    }
+
+    @Test
+    void drainKeepsLastStateOfSameTimestamp() {
+        NumberItem item = new NumberItem("Meter");
+        ZonedDateTime now = ZonedDateTime.now();
+        writeBuffer.add(item, null, new DecimalType(1), now);
+        writeBuffer.add(item, null, new DecimalType(2), now.plusSeconds(1));
+        writeBuffer.add(item, null, new DecimalType(3), now);
+        writeBuffer.add(item, "MeterAlias", new DecimalType(4), now);
+
+        List<JdbcWriteBuffer.PendingStates> pendingStates = writeBuffer.drain();
+        assertThat(pendingStates.get(0).states().size(), is(2));
+        assertThat(pendingStates.get(0).states().get(0).state(), is(new DecimalType(3)));
+        assertThat(pendingStates.get(0).states().get(1).state(), is(new DecimalType(2)));
+        assertThat(pendingStates.get(1).states().size(), is(1));
+    }
+
+    @Test
+    void requeuePutsFailedStatesAheadOfNewStates() {
+        NumberItem meter = new NumberItem("Meter");
+        NumberItem other = new NumberItem("Other");
+        ZonedDateTime now = ZonedDateTime.now();
+        writeBuffer.add(meter, null, new DecimalType(1), now);
+        List<JdbcWriteBuffer.PendingStates> failed = writeBuffer.drain();
+        writeBuffer.add(other, null, new DecimalType(2), now.plusSeconds(1));
+        writeBuffer.add(meter, null, new DecimalType(3), now.plusSeconds(2));
+
+        assertThat(writeBuffer.requeue(failed, 10), is(0));
+
+        assertThat(writeBuffer.size(), is(3));
+        List<JdbcWriteBuffer.PendingStates> pendingStates = writeBuffer.drain();
+        assertThat(pendingStates.size(), is(2));
+        assertThat(pendingStates.get(0).item().getName(), is("Meter"));
+        assertThat(pendingStates.get(0).states().size(), is(2));
+        assertThat(pendingStates.get(0).states().get(0).state(), is(new DecimalType(1)));
+        assertThat(pendingStates.get(0).states().get(1).state(), is(new DecimalType(3)));
+        assertThat(pendingStates.get(1).item().getName(), is("Other"));
+    }
+
+    @Test
+    void requeueDropsOldestStatesBeyondMaxSize() {
+        NumberItem meter = new NumberItem("Meter");
+        ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            writeBuffer.add(meter, null, new DecimalType(i), now.plusSeconds(i));
+        }
+        List<JdbcWriteBuffer.PendingStates> failed = writeBuffer.drain();
+        writeBuffer.add(meter, null, new DecimalType(4), now.plusSeconds(4));
+
+        assertThat(writeBuffer.requeue(failed, 3), is(2));
+
+        assertThat(writeBuffer.size(), is(3));
+        assertThat(writeBuffer.getDroppedStates(), is(2L));
+        List<JdbcWriteBuffer.PendingStates> pendingStates = writeBuffer.drain();
+        assertThat(pendingStates.get(0).states().get(0).state(), is(new DecimalType(2)));
+        assertThat(pendingStates.get(0).states().get(2).state(), is(new DecimalType(4)));
+    }
+
+    @Test
+    void trimKeepsBufferWithinMaxSize() {
+        ZonedDateTime now = ZonedDateTime.now();
+        writeBuffer.add(new NumberItem("Meter"), null, new DecimalType(1), now);
+        writeBuffer.add(new NumberItem("Other"), null, new DecimalType(2), now);
+
+        assertThat(writeBuffer.trim(2), is(0));
+        assertThat(writeBuffer.trim(1), is(1));
+
+        assertThat(writeBuffer.size(), is(1));
+        assertThat(writeBuffer.contains("Meter"), is(false));
+        assertThat(writeBuffer.contains("Other"), is(true));
+    }
+
+    @Test
+    void recordFlushUpdatesStatistics() {
+        writeBuffer.recordFlush(10, 20);
+        writeBuffer.recordFlush(30, 40);
+
+        assertThat(writeBuffer.getFlushCount(), is(2L));
+        assertThat(writeBuffer.getFlushedStates(), is(40L));
+        assertThat(writeBuffer.getLastFlushDuration(), is(40L));
+        assertThat(writeBuffer.getMaxFlushDuration(), is(40L));
+        assertThat(writeBuffer.getAverageFlushDuration(), is(30L));
+    }
+}
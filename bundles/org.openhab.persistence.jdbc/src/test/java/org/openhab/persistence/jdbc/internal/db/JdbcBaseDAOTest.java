@@ -66,6 +66,8 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcAggregation;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -192,6 +194,102 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    void testHistItemFilterChunkQueryProviderReturnsFirstChunkQueryWithLimit() {
+        String sql = jdbcBaseDAO.histItemFilterChunkQueryProvider(filter, 0, DB_TABLE_NAME, "TEST", UTC_ZONE_ID,
+                false, 100);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 100"));
+    }
+
+    @Test
+    void testHistItemFilterChunkQueryProviderReturnsNextChunkQueryAfterLastRow() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = jdbcBaseDAO.histItemFilterChunkQueryProvider(filter, 0, DB_TABLE_NAME, "TEST", UTC_ZONE_ID, true,
+                100);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
+                + " AND TIME>? ORDER BY time ASC LIMIT 100"));
+    }
+
+    @Test
+    void testAggregationIsNotSupportedByDefault() {
+        assertThat(jdbcBaseDAO.isAggregationSupported(), is(false));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsGroupedQuery() {
+        JdbcMysqlDAO mysqlDAO = new JdbcMysqlDAO();
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = mysqlDAO.histItemAggregateQueryProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID, 3600,
+                JdbcAggregation.AVG);
+        String bucket = "FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 3600) * 3600)";
+        assertThat(sql, is("SELECT " + bucket + ", AVG(value) FROM " + DB_TABLE_NAME + " GROUP BY " + bucket
+                + " ORDER BY 1 ASC"));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsLastValueQuery() {
+        JdbcMysqlDAO mysqlDAO = new JdbcMysqlDAO();
+
+        String sql = mysqlDAO.histItemAggregateQueryProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID, 60,
+                JdbcAggregation.LAST);
+        String bucket = "FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 60) * 60)";
+        assertThat(sql, is("SELECT " + bucket + ", value FROM " + DB_TABLE_NAME
+                + " WHERE time IN (SELECT MAX(time) FROM " + DB_TABLE_NAME + " GROUP BY " + bucket
+                + ") ORDER BY 1 DESC"));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsSumQuery() {
+        JdbcMysqlDAO mysqlDAO = new JdbcMysqlDAO();
+
+        String sql = mysqlDAO.histItemAggregateQueryProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID, 86400,
+                JdbcAggregation.SUM);
+        String bucket = "FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 86400) * 86400)";
+        assertThat(sql, is("SELECT " + bucket + ", SUM(value) FROM " + DB_TABLE_NAME + " GROUP BY " + bucket
+                + " ORDER BY 1 DESC"));
+    }
+
+    @Test
+    void testPostgresqlTimeBucketDoesNotDependOnSessionTimeZone() {
+        JdbcPostgresqlDAO postgresqlDAO = new JdbcPostgresqlDAO();
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = postgresqlDAO.histItemAggregateQueryProvider(filter, DB_TABLE_NAME, ZoneId.of("Europe/Berlin"),
+                3600, JdbcAggregation.AVG);
+        // the bucket is computed from the time column, without converting it to or from the session time zone
+        String bucket = "time - INTERVAL '1 second' * CAST(mod(CAST(extract(epoch FROM time) AS numeric), 3600)"
+                + " AS double precision)";
+        assertThat(sql, is("SELECT " + bucket + ", AVG(value) FROM \"" + DB_TABLE_NAME + "\" GROUP BY " + bucket
+                + " ORDER BY 1 ASC"));
+    }
+
+    @Test
+    void testStoreItemValueWithDateSqlProviderReturnsInsertQueryWithTimeParameter() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+        vo.setValueTypes("DOUBLE", Double.class);
+
+        String sql = jdbcBaseDAO.storeItemValueWithDateSqlProvider(vo);
+        assertThat(sql, is("INSERT INTO " + DB_TABLE_NAME
+                + " (time, value) VALUES( ?, ? ) ON DUPLICATE KEY UPDATE VALUE= ?"));
+    }
+
+    @Test
+    void testStoreItemValueWithDateParamsProviderReturnsTimestampAndValues() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+        vo.setValue(12.5);
+        ZonedDateTime date = parseDateTimeString("2022-01-10T15:01:44");
+
+        Object[] params = jdbcBaseDAO.storeItemValueWithDateParamsProvider(vo, date);
+        assertThat(params.length, is(3));
+        assertEquals(new java.sql.Timestamp(date.toInstant().toEpochMilli()), params[0]);
+        assertEquals(12.5, params[1]);
+        assertEquals(12.5, params[2]);
+    }
+
     @Test
     void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
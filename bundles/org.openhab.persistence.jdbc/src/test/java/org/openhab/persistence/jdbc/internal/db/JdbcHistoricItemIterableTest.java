@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the {@link JdbcHistoricItemIterable}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemIterableTest {
+
+    private final List<@Nullable JdbcSQLException> completions = new ArrayList<>();
+
+    private static Object[] row(int second) {
+        return new Object[] { Instant.ofEpochSecond(second), second };
+    }
+
+    private static HistoricItem map(Object[] row) {
+        return new JdbcHistoricItem("Item", new DecimalType((Integer) row[1]), (Instant) row[0]);
+    }
+
+    @Test
+    void iterationReadsFollowingChunksAndCompletesOnce() {
+        JdbcHistoricItemIterable items = new JdbcHistoricItemIterable(List.of(row(1), row(2)), 2,
+                lastTime -> List.of(row(3)), JdbcHistoricItemIterableTest::map, completions::add);
+
+        List<HistoricItem> result = new ArrayList<>();
+        items.forEach(result::add);
+        items.forEach(item -> {
+        });
+
+        assertThat(result.size(), is(3));
+        assertThat(completions.size(), is(1));
+        assertThat(completions.getFirst(), is(nullValue()));
+    }
+
+    @Test
+    void singleChunkCompletesImmediately() {
+        new JdbcHistoricItemIterable(List.of(row(1)), 2, lastTime -> List.of(), JdbcHistoricItemIterableTest::map,
+                completions::add);
+
+        assertThat(completions.size(), is(1));
+    }
+
+    @Test
+    void failedChunkIsNotSilentlyTruncated() {
+        JdbcSQLException error = mock(JdbcSQLException.class);
+        JdbcHistoricItemIterable items = new JdbcHistoricItemIterable(List.of(row(1), row(2)), 2, lastTime -> {
+            throw error;
+        }, JdbcHistoricItemIterableTest::map, completions::add);
+
+        Iterator<HistoricItem> iterator = items.iterator();
+        iterator.next();
+        iterator.next();
+
+        assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertThat(completions, contains(sameInstance(error)));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.exceptions;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTransientConnectionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.knowm.yank.exceptions.YankSQLException;
+
+/**
+ * Tests the {@link JdbcSQLException}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcSQLExceptionTest {
+
+    private static JdbcSQLException wrap(@Nullable SQLException cause) {
+        YankSQLException yankException = mock(YankSQLException.class);
+        when(yankException.getMessage()).thenReturn("failed");
+        when(yankException.getCause()).thenReturn(cause);
+        return new JdbcSQLException(yankException);
+    }
+
+    @Test
+    void constraintViolationIsDataError() {
+        assertThat(wrap(new SQLIntegrityConstraintViolationException("duplicate key")).isDataError(), is(true));
+    }
+
+    @Test
+    void dataExceptionSqlStateIsDataError() {
+        assertThat(wrap(new BatchUpdateException("value too long", "22001", new int[0])).isDataError(), is(true));
+        assertThat(wrap(new SQLException("not null", "23502")).isDataError(), is(true));
+        assertThat(wrap(new SQLException("cannot affect row a second time", "21000")).isDataError(), is(true));
+    }
+
+    @Test
+    void connectionFailureIsNoDataError() {
+        assertThat(wrap(new SQLTransientConnectionException("timeout", "08006")).isDataError(), is(false));
+        assertThat(wrap(new SQLException("unknown")).isDataError(), is(false));
+        assertThat(wrap(null).isDataError(), is(false));
+    }
+}
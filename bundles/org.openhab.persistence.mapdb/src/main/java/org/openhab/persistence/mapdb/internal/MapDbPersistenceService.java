@@ -12,6 +12,10 @@
  */
 package org.openhab.persistence.mapdb.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
@@ -27,6 +31,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,8 +43,11 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -66,8 +77,10 @@ import com.google.gson.GsonBuilder;
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private static final String SERVICE_ID = "mapdb";
@@ -76,10 +89,20 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
     private static final long DEACTIVATE_TIMEOUT_MS = 30000; // 30 seconds
+    private static final byte BINARY_FORMAT_VERSION = 1;
+
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String CONFIG_MEMORY_MAPPED = "memoryMapped";
+    private static final String CONFIG_BINARY_ENCODING = "binaryEncoding";
+    private static final String CONFIG_COMMIT_INTERVAL = "commitInterval";
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
     private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName() + "-commit");
+    private final AtomicBoolean uncommitted = new AtomicBoolean(false);
+    private @Nullable ScheduledFuture<?> commitJob;
     private final AtomicInteger pendingTasks = new AtomicInteger(0);
     private volatile boolean active;
 
@@ -89,13 +112,26 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private @NonNullByDefault({}) DB db;
     private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> binaryMap;
+
+    private boolean memoryMapped = false;
+    private boolean binaryEncoding = false;
+    private long commitInterval = 0;
 
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
-    @Activate
     public void activate() {
+        activate(Map.of());
+    }
+
+    @Activate
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        memoryMapped = ConfigParser.valueAsOrElse(config.get(CONFIG_MEMORY_MAPPED), Boolean.class, false);
+        binaryEncoding = ConfigParser.valueAsOrElse(config.get(CONFIG_BINARY_ENCODING), Boolean.class, false);
+        commitInterval = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(CONFIG_COMMIT_INTERVAL), Long.class, 0L).longValue());
         active = true;
 
         try {
@@ -108,8 +144,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
-            db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            openDatabase(dbFile);
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -140,16 +175,41 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                     return;
                 }
 
-                db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                openDatabase(dbFile);
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
             }
         }
+
+        if (commitInterval > 0 && db != null) {
+            commitJob = scheduler.scheduleWithFixedDelay(this::commitIfNeeded, commitInterval, commitInterval,
+                    TimeUnit.MILLISECONDS);
+        }
         logger.debug("MapDB persistence service is now activated");
     }
 
+    private void openDatabase(File dbFile) {
+        DBMaker<?> maker = DBMaker.newFileDB(dbFile).closeOnJvmShutdown();
+        if (memoryMapped) {
+            maker = maker.mmapFileEnableIfSupported();
+        }
+        db = maker.make();
+        map = db.createTreeMap("itemStore").makeOrGet();
+        binaryMap = db.createTreeMap("binaryItemStore").valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
+    }
+
+    private void commitIfNeeded() {
+        if (uncommitted.getAndSet(false)) {
+            try {
+                db.commit();
+                logger.trace("Committed pending changes to MapDB database");
+            } catch (RuntimeException e) {
+                logger.warn("Failed to commit changes to MapDB database: {}", e.getMessage());
+            }
+        }
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
@@ -167,7 +227,13 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         if (pendingTasks.get() > 0) {
             logger.warn("Timed out waiting for MapDB persistence tasks; {} tasks still pending.", pendingTasks.get());
         }
+        ScheduledFuture<?> commitJob = this.commitJob;
+        if (commitJob != null) {
+            commitJob.cancel(false);
+            this.commitJob = null;
+        }
         if (db != null) {
+            commitIfNeeded();
             db.close();
         }
     }
@@ -184,7 +250,10 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
+        return Stream
+                .concat(map.values().stream().map(this::deserialize),
+                        binaryMap.values().stream().map(this::decode))
+                .flatMap(MapDbPersistenceService::streamOptional)
                 .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
     }
 
@@ -220,10 +289,24 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         try {
             threadPool.submit(() -> {
                 try {
-                    String json = serialize(mItem);
-                    map.put(localAlias, json);
-                    db.commit();
-                    logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+                    if (binaryEncoding) {
+                        binaryMap.put(localAlias, encode(mItem));
+                        map.remove(localAlias);
+                        logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
+                    } else {
+                        String json = serialize(mItem);
+                        map.put(localAlias, json);
+                        binaryMap.remove(localAlias);
+                        logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state,
+                                json);
+                    }
+                    if (commitInterval > 0) {
+                        uncommitted.set(true);
+                    } else {
+                        db.commit();
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to encode state of item '{}': {}", localAlias, e.getMessage());
                 } finally {
                     pendingTasks.decrementAndGet();
                 }
@@ -237,28 +320,75 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = load(itemName);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
+        MapDbItem dbItem = load(alias != null ? alias : itemName).orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
         }
         return dbItem;
     }
 
+    private Optional<MapDbItem> load(String name) {
+        byte[] bytes = binaryMap.get(name);
+        if (bytes != null) {
+            return decode(bytes);
+        }
+        String json = map.get(name);
+        return json == null ? Optional.empty() : deserialize(json);
+    }
+
+    private byte[] encode(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(BINARY_FORMAT_VERSION);
+            StateCodec.writeString(out, item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            StateCodec.write(out, item.getState());
+            StateCodec.write(out, item.getLastState());
+            ZonedDateTime lastStateChange = item.getLastStateChange();
+            out.writeBoolean(lastStateChange != null);
+            if (lastStateChange != null) {
+                out.writeLong(lastStateChange.toInstant().toEpochMilli());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private Optional<MapDbItem> decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != BINARY_FORMAT_VERSION) {
+                logger.warn("Couldn't decode item: unknown format version {}", version);
+                return Optional.empty();
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(StateCodec.readString(in));
+            item.setTimestamp(new Date(in.readLong()));
+            State state = StateCodec.read(in);
+            if (state == null) {
+                logger.warn("Decoded invalid item '{}' without state", item.getName());
+                return Optional.empty();
+            }
+            item.setState(state);
+            item.setLastState(StateCodec.read(in));
+            item.setLastStateChange(in.readBoolean() ? new Date(in.readLong()) : null);
+            logger.trace("Decoded '{}' with state '{}'", item.getName(), item.getState());
+            return Optional.of(item);
+        } catch (IOException e) {
+            logger.warn("Couldn't decode item: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     private String serialize(MapDbItem item) {
         return mapper.toJson(item);
     }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+
+/**
+ * A compact binary encoding for openHAB State values. The most common types are written as a type tag followed by
+ * their raw value, all other types use the same class name and full string representation as the
+ * {@link StateTypeAdapter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StateCodec {
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_ON_OFF = 1;
+    private static final byte TAG_OPEN_CLOSED = 2;
+    private static final byte TAG_DECIMAL = 3;
+    private static final byte TAG_PERCENT = 4;
+    private static final byte TAG_STRING = 5;
+    private static final byte TAG_GENERIC = 127;
+
+    private StateCodec() {
+        // prevent instantiation
+    }
+
+    /**
+     * Write a state
+     *
+     * @param out the output to write to
+     * @param state the state, may be {@code null}
+     * @throws IOException if writing fails
+     */
+    public static void write(DataOutput out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TAG_NULL);
+        } else if (state instanceof OnOffType onOff) {
+            out.writeByte(TAG_ON_OFF);
+            out.writeBoolean(onOff == OnOffType.ON);
+        } else if (state instanceof OpenClosedType openClosed) {
+            out.writeByte(TAG_OPEN_CLOSED);
+            out.writeBoolean(openClosed == OpenClosedType.OPEN);
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TAG_DECIMAL);
+            writeBigDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TAG_PERCENT);
+            writeBigDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TAG_STRING);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TAG_GENERIC);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    /**
+     * Read a state
+     *
+     * @param in the input to read from
+     * @return the state or {@code null} if no state was written or the type could not be restored
+     * @throws IOException if reading fails
+     */
+    public static @Nullable State read(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_ON_OFF -> OnOffType.from(in.readBoolean());
+            case TAG_OPEN_CLOSED -> in.readBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case TAG_DECIMAL -> new DecimalType(readBigDecimal(in));
+            case TAG_PERCENT -> new PercentType(readBigDecimal(in));
+            case TAG_STRING -> new StringType(readString(in));
+            case TAG_GENERIC -> readGeneric(in);
+            default -> throw new IOException("Unknown state type tag " + tag);
+        };
+    }
+
+    private static @Nullable State readGeneric(DataInput in) throws IOException {
+        String typeName = readString(in);
+        String value = readString(in);
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends State> type = (Class<? extends State>) Class.forName(typeName);
+            return TypeParser.parseState(List.of(type), value);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Couldn't deserialize state '" + value + "' of type '" + typeName + "'", e);
+        }
+    }
+
+    private static void writeBigDecimal(DataOutput out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readBigDecimal(DataInput in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedShort()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        // DataOutput.writeUTF is limited to 64 kB, string states can be longer
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -293,6 +294,26 @@ class MapDbPersistenceServiceTest {
         logger.debug("Ending queryWithTimeRange with reloadAfterStore={}", reloadAfterStore);
     }
 
+    @Test
+    void storeAndRetrieveWithBinaryEncodingAndCommitInterval() throws Exception {
+        Map<String, Object> config = Map.of("binaryEncoding", true, "commitInterval", 60000, "memoryMapped", true);
+        service.deactivate();
+        service.activate(config);
+        configureNumberItem("_BINARY");
+
+        service.store(numberItem);
+        waitForStorage(numberItem.getName(), STORAGE_TIMEOUT_MS);
+
+        // pending changes are committed on deactivation
+        service.deactivate();
+        service.activate(config);
+
+        PersistedItem persistedItem = service.persistedItem(numberItem.getName(), null);
+        assertNotNull(persistedItem);
+        assertEquals(numberItem.getName(), persistedItem.getName());
+        assertEquals(new DecimalType(42.5), persistedItem.getState());
+    }
+
     @Test
     void serviceIdIsCorrect() throws Exception {
         assertEquals("mapdb", service.getId());
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Remembers where returned result pages ended, so the following page can be read with a range condition on the
+ * timestamp (keyset pagination) instead of skipping over all documents of the previous pages.
+ *
+ * A boundary is the timestamp and the id of the last document of a page. Results are sorted by timestamp and id, so
+ * the next page starts right after that document, even if several documents share its timestamp.
+ *
+ * Boundaries are only valid as long as the queried range does not change, so they must only be used for ranges
+ * ending in the past and be invalidated whenever documents are stored into or removed from such a range.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBPageBoundaries {
+
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * End of a returned page.
+     *
+     * @param timestamp timestamp of the last document of the page
+     * @param id id of the last document of the page
+     */
+    public record Boundary(Date timestamp, Object id) {
+    }
+
+    /**
+     * Documents read by a query.
+     *
+     * @param collectionName the queried collection
+     * @param itemName the queried item name or alias
+     * @param begin the begin of the queried time range, or null if it is open
+     * @param end the end of the queried time range
+     */
+    public record Range(String collectionName, @Nullable String itemName, @Nullable Date begin, Date end) {
+
+        boolean contains(String collectionName, String itemName, Date timestamp) {
+            return includes(collectionName, itemName) && !timestamp.after(end)
+                    && (begin == null || !timestamp.before(begin));
+        }
+
+        boolean includes(String collectionName, @Nullable String itemName) {
+            String queriedItemName = this.itemName;
+            return this.collectionName.equals(collectionName)
+                    && (itemName == null || queriedItemName == null || queriedItemName.equals(itemName));
+        }
+    }
+
+    private record PageStart(Range range, Boundary boundary) {
+    }
+
+    private final Map<String, PageStart> boundaries = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, PageStart> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Builds the key identifying a query, independent of the requested page.
+     */
+    public static String key(String collectionName, Document query, int sortDirection, int pageSize) {
+        return collectionName + '|' + query.toJson() + '|' + sortDirection + '|' + pageSize;
+    }
+
+    /**
+     * Returns the boundary where the given page starts, if the previous page has been read before.
+     */
+    public synchronized @Nullable Boundary get(String key, int pageNumber) {
+        PageStart pageStart = boundaries.get(key + '#' + pageNumber);
+        return pageStart != null ? pageStart.boundary() : null;
+    }
+
+    /**
+     * Records where the page following {@code pageNumber} starts.
+     *
+     * @param range the documents read by the query
+     * @param count the number of documents of the page
+     * @param last the last document of the page, or null if the page is empty
+     * @param pageSize the requested page size
+     */
+    public synchronized void pageRead(String key, Range range, int pageNumber, int count, @Nullable Boundary last,
+            int pageSize) {
+        if (last == null || count < pageSize) {
+            // last page, there is nothing to continue from
+            return;
+        }
+        boundaries.put(key + '#' + (pageNumber + 1), new PageStart(range, last));
+    }
+
+    /**
+     * Forgets the boundaries of the ranges a document stored with the given timestamp falls into.
+     */
+    public synchronized void invalidate(String collectionName, String itemName, Date timestamp) {
+        if (!boundaries.isEmpty()) {
+            boundaries.values().removeIf(pageStart -> pageStart.range().contains(collectionName, itemName, timestamp));
+        }
+    }
+
+    /**
+     * Forgets all boundaries of an item, or of the whole collection if no item is given, e.g. after documents have
+     * been removed.
+     */
+    public synchronized void invalidate(String collectionName, @Nullable String itemName) {
+        if (!boundaries.isEmpty()) {
+            boundaries.values().removeIf(pageStart -> pageStart.range().includes(collectionName, itemName));
+        }
+    }
+}
@@ -19,11 +19,16 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -48,15 +53,22 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.TimeSeriesOptions;
 import com.mongodb.client.result.DeleteResult;
 
 /**
  * This is the implementation of the MongoDB {@link PersistenceService}.
  *
+ * With {@code bufferSize > 0}, {@link #store} only queues the document in a {@link MongoDBWriteBuffer}, which writes
+ * the pending documents periodically (or as soon as a batch is full) with unordered {@code insertMany} calls.
+ *
  * @author Thorsten Hoeger - Initial contribution
  * @author Stephan Brunner - Query fixes, Cleanup
  * @author René Ulbricht - Fixes type handling, driver update and cleanup
@@ -67,12 +79,24 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final String THREAD_POOL_NAME = "mongodb";
+    // documents kept while the database is unavailable, in multiples of bufferSize
+    private static final int MAX_PENDING_BATCHES = 20;
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private boolean timeSeries;
+
+    // collections which have been created and indexed since connecting
+    private final Set<String> preparedCollections = ConcurrentHashMap.newKeySet();
+    private final MongoDBPageBoundaries pageBoundaries = new MongoDBPageBoundaries();
+
+    private @Nullable MongoDBWriteBuffer writeBuffer;
+    private @Nullable ScheduledFuture<?> flushJob;
 
     private boolean initialized = false;
 
@@ -111,16 +135,57 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        timeSeries = Boolean.parseBoolean(String.valueOf(config.getOrDefault("timeSeries", "false")).trim());
+        int bufferSize = parseIntConfig(config, "bufferSize", 0);
+        int bufferInterval = parseIntConfig(config, "bufferInterval", 1000);
+        logger.debug("MongoDB timeSeries={}, bufferSize={}, bufferInterval={}", timeSeries, bufferSize,
+                bufferInterval);
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
 
+        if (bufferSize > 0) {
+            MongoDBWriteBuffer buffer = new MongoDBWriteBuffer(this::getConnectedCollection, bufferSize,
+                    bufferSize * MAX_PENDING_BATCHES);
+            writeBuffer = buffer;
+            long interval = Math.max(bufferInterval, 10);
+            flushJob = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).scheduleWithFixedDelay(buffer::flush,
+                    interval, interval, TimeUnit.MILLISECONDS);
+        }
+
         initialized = true;
     }
 
+    private int parseIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for mongodb:{}, using {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        ScheduledFuture<?> localFlushJob = flushJob;
+        if (localFlushJob != null) {
+            localFlushJob.cancel(false);
+            flushJob = null;
+        }
+        MongoDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.flush();
+            if (buffer.getPendingDocuments() > 0) {
+                logger.warn("MongoDB persistence stopped with {} unwritten values", buffer.getPendingDocuments());
+            }
+            writeBuffer = null;
+        }
         disconnectFromDatabase();
     }
 
@@ -213,11 +278,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
                 return null;
             }
 
-            MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
+            MongoDatabase database = db.getDatabase(this.db);
+            MongoCollection<Document> mongoCollection = database.getCollection(collectionName);
 
-            Document idx = new Document();
-            idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
-            mongoCollection.createIndex(idx);
+            if (!preparedCollections.contains(collectionName)) {
+                synchronized (preparedCollections) {
+                    if (!preparedCollections.contains(collectionName)) {
+                        initializeCollection(database, mongoCollection, collectionName);
+                        preparedCollections.add(collectionName);
+                    }
+                }
+            }
 
             return mongoCollection;
         } catch (Exception e) {
@@ -226,6 +297,42 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
     }
 
+    /**
+     * Creates the collection as time series collection if configured and ensures the item/timestamp index.
+     * Only done once per collection and connection, as these are server round trips.
+     */
+    private void initializeCollection(MongoDatabase database, MongoCollection<Document> mongoCollection,
+            String collectionName) {
+        if (timeSeries && database.listCollectionNames().filter(new Document("name", collectionName))
+                .first() == null) {
+            database.createCollection(collectionName,
+                    new CreateCollectionOptions().timeSeriesOptions(new TimeSeriesOptions(MongoDBFields.FIELD_TIMESTAMP)
+                            .metaField(MongoDBFields.FIELD_ITEM)));
+            logger.debug("Created time series collection {}", collectionName);
+        }
+
+        Document idx = new Document();
+        idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
+        if (!timeSeries) {
+            // queries sort documents with the same timestamp by their id
+            idx.append(MongoDBFields.FIELD_ID, 1);
+        }
+        mongoCollection.createIndex(idx);
+    }
+
+    /**
+     * Connects to the collection for writing buffered documents.
+     *
+     * @return The collection object, or null if the database is not available
+     */
+    private @Nullable MongoCollection<Document> getConnectedCollection(String collectionName) {
+        if (!tryConnectToDatabase()) {
+            logger.debug("No connection to database, keeping buffered values for {}", collectionName);
+            return null;
+        }
+        return connectToCollection(collectionName);
+    }
+
     /**
      * Disconnects from the database
      */
@@ -236,6 +343,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
 
         cl = null;
+        preparedCollections.clear();
+    }
+
+    /**
+     * Writes buffered documents before reading or deleting, so they are visible to the operation.
+     */
+    private void flushWriteBuffer() {
+        MongoDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.flush();
+        }
     }
 
     @Override
@@ -249,6 +367,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         if (alias != null) {
             filter.setItemName(alias);
         }
+        flushWriteBuffer();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -275,18 +394,39 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
         logger.debug("Query: {}", query);
 
-        Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
+        int sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
+        int pageNumber = filter.getPageNumber();
+        int pageSize = filter.getPageSize();
+        String collectionName = collection.getNamespace().getCollectionName();
+        String pageKey = MongoDBPageBoundaries.key(collectionName, query, sortDir, pageSize);
+        // only a range ending in the past has stable pages, newer documents would shift the pages of an open range
+        ZonedDateTime endDate = filter.getEndDate();
+        boolean keyset = endDate != null && endDate.isBefore(ZonedDateTime.now());
+        // continue from the end of the previous page if it is known, instead of skipping all previous pages
+        MongoDBPageBoundaries.Boundary start = keyset && pageNumber > 0 ? pageBoundaries.get(pageKey, pageNumber)
+                : null;
+        MongoDBPageBoundaries.Boundary last = null;
+
         MongoCursor<Document> cursor = null;
         try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
-                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
+            FindIterable<Document> find;
+            if (start != null) {
+                find = collection.find(startingAfter(query, start, sortDir));
+            } else {
+                find = collection.find(query).skip(pageNumber * pageSize);
+            }
+            // the id makes the order of documents with the same timestamp stable
+            cursor = find.sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir).append(MongoDBFields.FIELD_ID,
+                    sortDir)).limit(pageSize).iterator();
 
             while (cursor.hasNext()) {
                 Document obj = cursor.next();
 
                 final State state = MongoDBTypeConversions.getStateFromDocument(item, obj);
+                Date timestamp = obj.getDate(MongoDBFields.FIELD_TIMESTAMP);
+                last = new MongoDBPageBoundaries.Boundary(timestamp, obj.get(MongoDBFields.FIELD_ID));
 
-                items.add(new MongoDBItem(realItemName, state, obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant()));
+                items.add(new MongoDBItem(realItemName, state, timestamp.toInstant()));
             }
         } finally {
             if (cursor != null) {
@@ -294,9 +434,38 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             }
         }
 
+        if (keyset) {
+            ZonedDateTime beginDate = filter.getBeginDate();
+            MongoDBPageBoundaries.Range range = new MongoDBPageBoundaries.Range(collectionName,
+                    filter.getItemName(), beginDate != null ? Date.from(beginDate.toInstant()) : null,
+                    Date.from(endDate.toInstant()));
+            pageBoundaries.pageRead(pageKey, range, pageNumber, items.size(), last, pageSize);
+        }
         return items;
     }
 
+    /**
+     * Restricts the query to the documents following the given page boundary in sort direction, i.e. documents with
+     * a later timestamp, or with the same timestamp and a greater id.
+     * The boundary lies within the original time range, so it replaces the respective range limit.
+     */
+    private static Document startingAfter(Document query, MongoDBPageBoundaries.Boundary start, int sortDir) {
+        Document dateQueries = new Document();
+        if (query.get(MongoDBFields.FIELD_TIMESTAMP) instanceof Document range) {
+            dateQueries.putAll(range);
+        }
+        dateQueries.put(sortDir > 0 ? "$gte" : "$lte", start.timestamp());
+
+        Document rangeQuery = new Document(query);
+        rangeQuery.put(MongoDBFields.FIELD_TIMESTAMP, dateQueries);
+
+        String after = sortDir > 0 ? "$gt" : "$lt";
+        Document laterTimestamp = new Document(MongoDBFields.FIELD_TIMESTAMP, new Document(after, start.timestamp()));
+        Document sameTimestamp = new Document(MongoDBFields.FIELD_TIMESTAMP, start.timestamp())
+                .append(MongoDBFields.FIELD_ID, new Document(after, start.id()));
+        return new Document("$and", List.of(rangeQuery, new Document("$or", List.of(laterTimestamp, sameTimestamp))));
+    }
+
     private @Nullable Item getItem(String itemName) {
         try {
             return itemRegistry.getItem(itemName);
@@ -344,6 +513,20 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+
+        MongoDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            if (buffer.add(collectionName, createDocument(item, name, date, state))) {
+                ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).execute(buffer::flush);
+            }
+            // queries write the buffer first, so the value is already part of the pages read from now on
+            pageBoundaries.invalidate(collectionName, name, date);
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -353,10 +536,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -365,24 +544,29 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        Object value = MongoDBTypeConversions.convertValue(state);
+        Document obj = createDocument(item, name, date, state);
+        try {
+            collection.insertOne(obj);
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            throw e;
+        }
+        // a value stored with a past timestamp may fall into a range whose pages are known
+        pageBoundaries.invalidate(collectionName, name, date);
+        logger.debug("MongoDB save {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+    }
 
+    private Document createDocument(Item item, String name, Date date, State state) {
         Document obj = new Document();
         obj.put(MongoDBFields.FIELD_ID, new ObjectId());
         obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_REALNAME, item.getName());
         obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
+        obj.put(MongoDBFields.FIELD_VALUE, MongoDBTypeConversions.convertValue(state));
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
-        try {
-            collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
-            throw e;
-        }
-        logger.debug("MongoDB save {}={}", name, value);
+        return obj;
     }
 
     @Nullable
@@ -416,6 +600,14 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         return collection;
     }
 
+    /**
+     * Returns the write buffer, if buffered writes are enabled.
+     */
+    @Nullable
+    MongoDBWriteBuffer getWriteBuffer() {
+        return writeBuffer;
+    }
+
     @Nullable
     private Document createQuery(FilterCriteria filter) {
         String realItemName = filter.getItemName();
@@ -465,6 +657,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public boolean remove(FilterCriteria filter) {
+        flushWriteBuffer();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -480,6 +673,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         logger.debug("Query: {}", query);
 
         DeleteResult result = collection.deleteMany(query);
+        pageBoundaries.invalidate(collection.getNamespace().getCollectionName(), filter.getItemName());
 
         logger.debug("Deleted {} documents", result.getDeletedCount());
         return true;
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.bson.BsonMaximumSizeExceededException;
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * Collects documents per collection and writes them with unordered {@code insertMany} calls.
+ *
+ * An unordered insert lets the server apply all documents of a batch even if single documents fail. Documents
+ * carry their {@code _id} from the time they were queued, so a batch that is retried after a connection failure
+ * only produces duplicate key errors for the documents that already made it, which are counted as written.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBWriteBuffer {
+
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBWriteBuffer.class);
+
+    private final Function<String, @Nullable MongoCollection<Document>> collectionProvider;
+    private final int batchSize;
+    private final int maxPendingDocuments;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+
+    private Map<String, List<Document>> pending = new LinkedHashMap<>();
+    private int pendingDocuments;
+    private long writtenDocuments;
+    private long droppedDocuments;
+
+    /**
+     * @param collectionProvider resolves a collection name to a connected collection, or null if the database is
+     *            not available
+     * @param batchSize number of pending documents that triggers a flush
+     * @param maxPendingDocuments documents kept while the database is unavailable, further documents are dropped
+     */
+    public MongoDBWriteBuffer(Function<String, @Nullable MongoCollection<Document>> collectionProvider,
+            int batchSize, int maxPendingDocuments) {
+        this.collectionProvider = collectionProvider;
+        this.batchSize = batchSize;
+        this.maxPendingDocuments = maxPendingDocuments;
+    }
+
+    /**
+     * Queues a document for the given collection.
+     *
+     * @return true if a full batch is pending and a flush should be scheduled, which is only returned once until
+     *         the flush runs
+     */
+    public synchronized boolean add(String collectionName, Document document) {
+        if (pendingDocuments >= maxPendingDocuments) {
+            droppedDocuments++;
+            logger.warn("MongoDB write buffer is full ({} documents), dropping value for {}", pendingDocuments,
+                    document.get(MongoDBFields.FIELD_ITEM));
+            return flushPending.compareAndSet(false, true);
+        }
+        pending.computeIfAbsent(collectionName, k -> new ArrayList<>()).add(document);
+        pendingDocuments++;
+        return pendingDocuments >= batchSize && flushPending.compareAndSet(false, true);
+    }
+
+    /**
+     * Writes all pending documents. Documents of collections that cannot be reached are kept for the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushPending.set(false);
+            Map<String, List<Document>> batch;
+            synchronized (this) {
+                if (pendingDocuments == 0) {
+                    return;
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                pendingDocuments = 0;
+            }
+
+            Map<String, List<Document>> failed = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Document>> entry : batch.entrySet()) {
+                String collectionName = entry.getKey();
+                List<Document> documents = entry.getValue();
+                if (!failed.isEmpty()) {
+                    // the database went away while flushing, don't try the remaining collections
+                    failed.put(collectionName, documents);
+                    continue;
+                }
+                MongoCollection<Document> collection = collectionProvider.apply(collectionName);
+                if (collection == null || !insert(collection, collectionName, documents)) {
+                    failed.put(collectionName, documents);
+                }
+            }
+
+            if (!failed.isEmpty()) {
+                requeue(failed);
+            }
+        }
+    }
+
+    private boolean insert(MongoCollection<Document> collection, String collectionName, List<Document> documents) {
+        try {
+            collection.insertMany(documents, UNORDERED);
+            countWritten(documents.size(), 0);
+            logger.debug("MongoDB wrote {} documents to {}", documents.size(), collectionName);
+            return true;
+        } catch (MongoBulkWriteException e) {
+            int rejected = 0;
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    rejected++;
+                    logger.debug("MongoDB rejected document in {}: {}", collectionName, error.getMessage());
+                }
+            }
+            countWritten(documents.size() - rejected, rejected);
+            if (rejected > 0) {
+                logger.warn("MongoDB rejected {} of {} documents written to {}", rejected, documents.size(),
+                        collectionName);
+            }
+            return true;
+        } catch (BsonMaximumSizeExceededException e) {
+            // the batch was rejected before it was sent, write the documents one by one to skip the oversized ones
+            return insertSingle(collection, collectionName, documents);
+        } catch (MongoException e) {
+            logger.warn("Failed to write {} documents to {}, keeping them for the next attempt: {}",
+                    documents.size(), collectionName, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean insertSingle(MongoCollection<Document> collection, String collectionName,
+            List<Document> documents) {
+        int written = 0;
+        int rejected = 0;
+        try {
+            for (Document document : documents) {
+                try {
+                    collection.insertOne(document);
+                    written++;
+                } catch (BsonMaximumSizeExceededException e) {
+                    rejected++;
+                    logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.",
+                            document.get(MongoDBFields.FIELD_ITEM));
+                } catch (MongoWriteException e) {
+                    if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                        rejected++;
+                        logger.debug("MongoDB rejected document in {}: {}", collectionName, e.getMessage());
+                    } else {
+                        written++;
+                    }
+                }
+            }
+            return true;
+        } catch (MongoException e) {
+            logger.warn("Failed to write {} documents to {}, keeping them for the next attempt: {}",
+                    documents.size() - written - rejected, collectionName, e.getMessage());
+            // only keep the documents that have not been attempted yet
+            documents.subList(0, written + rejected).clear();
+            return false;
+        } finally {
+            countWritten(written, rejected);
+        }
+    }
+
+    private synchronized void countWritten(long written, long dropped) {
+        writtenDocuments += written;
+        droppedDocuments += dropped;
+    }
+
+    private synchronized void requeue(Map<String, List<Document>> failed) {
+        // failed documents are older than anything queued meanwhile, so they go first
+        Map<String, List<Document>> merged = new LinkedHashMap<>();
+        int count = 0;
+        for (Map<String, List<Document>> source : List.of(failed, pending)) {
+            for (Map.Entry<String, List<Document>> entry : source.entrySet()) {
+                List<Document> target = merged.computeIfAbsent(entry.getKey(), k -> new ArrayList<>());
+                for (Document document : entry.getValue()) {
+                    if (count < maxPendingDocuments) {
+                        target.add(document);
+                        count++;
+                    } else {
+                        droppedDocuments++;
+                    }
+                }
+            }
+        }
+        pending = merged;
+        pendingDocuments = count;
+    }
+
+    public synchronized int getPendingDocuments() {
+        return pendingDocuments;
+    }
+
+    public synchronized long getWrittenDocuments() {
+        return writtenDocuments;
+    }
+
+    public synchronized long getDroppedDocuments() {
+        return droppedDocuments;
+    }
+}
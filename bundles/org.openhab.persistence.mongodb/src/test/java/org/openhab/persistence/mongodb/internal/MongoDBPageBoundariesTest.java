@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+
+import org.bson.types.ObjectId;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the invalidation of remembered page boundaries
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBPageBoundariesTest {
+
+    private static final String KEY = "key";
+    private static final Date BEGIN = new Date(1_000_000);
+    private static final Date END = new Date(2_000_000);
+
+    private MongoDBPageBoundaries readFirstPage() {
+        MongoDBPageBoundaries pageBoundaries = new MongoDBPageBoundaries();
+        MongoDBPageBoundaries.Range range = new MongoDBPageBoundaries.Range("collection", "item", BEGIN, END);
+        pageBoundaries.pageRead(KEY, range, 0, 10, new MongoDBPageBoundaries.Boundary(BEGIN, new ObjectId()), 10);
+        assertNotNull(pageBoundaries.get(KEY, 1));
+        return pageBoundaries;
+    }
+
+    @Test
+    public void testLastPageIsNotRemembered() {
+        MongoDBPageBoundaries pageBoundaries = new MongoDBPageBoundaries();
+        MongoDBPageBoundaries.Range range = new MongoDBPageBoundaries.Range("collection", "item", BEGIN, END);
+        pageBoundaries.pageRead(KEY, range, 0, 9, new MongoDBPageBoundaries.Boundary(BEGIN, new ObjectId()), 10);
+        assertNull(pageBoundaries.get(KEY, 1));
+    }
+
+    @Test
+    public void testStoreIntoRangeInvalidates() {
+        MongoDBPageBoundaries pageBoundaries = readFirstPage();
+        pageBoundaries.invalidate("collection", "item", new Date(1_500_000));
+        assertNull(pageBoundaries.get(KEY, 1));
+    }
+
+    @Test
+    public void testStoreOutsideRangeKeepsBoundaries() {
+        MongoDBPageBoundaries pageBoundaries = readFirstPage();
+        pageBoundaries.invalidate("collection", "item", new Date(2_500_000));
+        pageBoundaries.invalidate("collection", "item", new Date(500_000));
+        pageBoundaries.invalidate("collection", "other", new Date(1_500_000));
+        pageBoundaries.invalidate("other", "item", new Date(1_500_000));
+        assertNotNull(pageBoundaries.get(KEY, 1));
+    }
+
+    @Test
+    public void testRemoveInvalidates() {
+        MongoDBPageBoundaries pageBoundaries = readFirstPage();
+        pageBoundaries.invalidate("collection", "other");
+        assertNotNull(pageBoundaries.get(KEY, 1));
+        pageBoundaries.invalidate("collection", "item");
+        assertNull(pageBoundaries.get(KEY, 1));
+    }
+}
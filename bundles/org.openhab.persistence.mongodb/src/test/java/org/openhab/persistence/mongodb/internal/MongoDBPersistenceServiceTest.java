@@ -1033,4 +1033,157 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /*
+     * Test that buffered values are written with bulk inserts and are visible to queries
+     */
+    @Test
+    public void testBufferedStore() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            setupResult.config.put("bufferSize", "100");
+            setupResult.config.put("bufferInterval", "600000");
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem"))
+                        .thenReturn(DataCreationHelper.createNumberItem("TestItem", 0));
+            } catch (ItemNotFoundException e) {
+            }
+
+            // Execution
+            for (int i = 0; i < 10; i++) {
+                service.store(DataCreationHelper.createNumberItem("TestItem", i));
+            }
+
+            // Verification
+            MongoDBWriteBuffer buffer = service.getWriteBuffer();
+            assertNotNull(buffer);
+            assertEquals(10, buffer.getPendingDocuments());
+            MongoCollection<Document> collection = database.getCollection("testcollection");
+            assertEquals(0, collection.countDocuments());
+
+            Iterable<HistoricItem> result = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+
+            VerificationHelper.verifyQueryResult(result, 0, 1, 10);
+            assertEquals(10, collection.countDocuments());
+            assertEquals(0, buffer.getPendingDocuments());
+            assertEquals(10, buffer.getWrittenDocuments());
+            assertEquals(0, buffer.getDroppedDocuments());
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /*
+     * Test that reading consecutive pages returns every value exactly once, also if values with the same timestamp
+     * span a page boundary
+     */
+    @Test
+    public void testQueryConsecutivePages() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem"))
+                        .thenReturn(DataCreationHelper.createNumberItem("TestItem", 0));
+            } catch (ItemNotFoundException e) {
+            }
+
+            ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(1);
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 0);
+            int value = 0;
+            for (int i = 0; i < 8; i++) {
+                service.store(item, start.plusMinutes(i), new DecimalType(value++));
+            }
+            // twelve values with the same timestamp, spanning the first page boundaries
+            for (int i = 0; i < 12; i++) {
+                service.store(item, start.plusMinutes(8), new DecimalType(value++));
+            }
+            for (int i = 9; i < 14; i++) {
+                service.store(item, start.plusMinutes(i), new DecimalType(value++));
+            }
+
+            for (FilterCriteria.Ordering ordering : FilterCriteria.Ordering.values()) {
+                // Execution
+                List<HistoricItem> pages = new ArrayList<>();
+                for (int page = 0; page < 5; page++) {
+                    // a range ending in the past, so the following pages continue from the known page ends
+                    FilterCriteria filter = DataCreationHelper.createFilterCriteria("TestItem", null,
+                            start.plusHours(1));
+                    filter.setPageSize(6);
+                    filter.setPageNumber(page);
+                    filter.setOrdering(ordering);
+                    service.query(filter).forEach(pages::add);
+                }
+
+                // Verification
+                assertEquals(value, pages.size());
+                Set<Integer> values = pages.stream()
+                        .map(historicItem -> ((DecimalType) historicItem.getState()).intValue())
+                        .collect(Collectors.toSet());
+                assertEquals(value, values.size());
+                for (int i = 1; i < pages.size(); i++) {
+                    Instant previous = pages.get(i - 1).getInstant();
+                    Instant current = pages.get(i).getInstant();
+                    assertTrue(ordering == FilterCriteria.Ordering.ASCENDING ? !current.isBefore(previous)
+                            : !current.isAfter(previous));
+                }
+            }
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /*
+     * Test that a value stored into a range after a page has been read is part of the following pages
+     */
+    @Test
+    public void testQueryPagesAfterStoringIntoRange() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem"))
+                        .thenReturn(DataCreationHelper.createNumberItem("TestItem", 0));
+            } catch (ItemNotFoundException e) {
+            }
+
+            ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(1);
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 0);
+            for (int i = 0; i < 10; i++) {
+                service.store(item, start.plusMinutes(i), new DecimalType(i));
+            }
+
+            // Execution
+            FilterCriteria filter = DataCreationHelper.createFilterCriteria("TestItem", null, start.plusHours(1));
+            filter.setPageSize(5);
+            List<HistoricItem> firstPage = new ArrayList<>();
+            service.query(filter).forEach(firstPage::add);
+            // shifts the fifth value to the second page
+            service.store(item, start.minusMinutes(1), new DecimalType(-1));
+            filter.setPageNumber(1);
+            List<HistoricItem> secondPage = new ArrayList<>();
+            service.query(filter).forEach(secondPage::add);
+
+            // Verification
+            assertEquals(5, firstPage.size());
+            assertEquals(5, secondPage.size());
+            assertEquals(4, ((DecimalType) secondPage.get(0).getState()).intValue());
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
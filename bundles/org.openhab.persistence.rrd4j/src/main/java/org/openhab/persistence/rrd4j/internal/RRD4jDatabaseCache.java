@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the most recently used RRD databases open.
+ *
+ * The cache holds one reference of each cached database obtained from the {@link org.rrd4j.core.RrdDbPool}, so the
+ * pool does not close the file when the last user releases it. Users still request and close their own references,
+ * which is a lookup in the pool as long as the database is cached. The least recently used database is released
+ * when more than the maximum number of databases are cached.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDatabaseCache {
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jDatabaseCache.class);
+
+    private final LinkedHashMap<String, RrdDb> databases = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxSize;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public RRD4jDatabaseCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Checks if the database is cached and counts the hit or miss.
+     *
+     * @param name the name of the database
+     * @return <code>true</code> if the database is cached
+     */
+    public synchronized boolean lookup(String name) {
+        if (maxSize <= 0) {
+            return false;
+        }
+        if (databases.get(name) != null) {
+            hits++;
+            return true;
+        }
+        misses++;
+        return false;
+    }
+
+    /**
+     * Adds a database reference to the cache. The reference is closed if the cache is disabled or the database is
+     * already cached.
+     *
+     * @param name the name of the database
+     * @param db a reference of the database owned by the cache from now on
+     */
+    public void put(String name, RrdDb db) {
+        List<RrdDb> released = new ArrayList<>();
+        synchronized (this) {
+            if (maxSize > 0 && !databases.containsKey(name)) {
+                databases.put(name, db);
+                released.addAll(evict());
+            } else {
+                released.add(db);
+            }
+        }
+        released.forEach(this::close);
+    }
+
+    /**
+     * Removes a database from the cache and releases its reference.
+     *
+     * @param name the name of the database
+     */
+    public void remove(String name) {
+        RrdDb db;
+        synchronized (this) {
+            db = databases.remove(name);
+        }
+        if (db != null) {
+            close(db);
+        }
+    }
+
+    /**
+     * Changes the maximum number of cached databases, releasing the least recently used ones if needed.
+     *
+     * @param maxSize the maximum number of cached databases, 0 disables the cache
+     */
+    public void setMaxSize(int maxSize) {
+        List<RrdDb> released;
+        synchronized (this) {
+            this.maxSize = maxSize;
+            released = evict();
+        }
+        released.forEach(this::close);
+    }
+
+    /**
+     * Releases all cached databases.
+     */
+    public void clear() {
+        List<RrdDb> released;
+        synchronized (this) {
+            released = new ArrayList<>(databases.values());
+            databases.clear();
+        }
+        released.forEach(this::close);
+    }
+
+    private List<RrdDb> evict() {
+        List<RrdDb> released = new ArrayList<>();
+        Iterator<Map.Entry<String, RrdDb>> iterator = databases.entrySet().iterator();
+        while (databases.size() > Math.max(0, maxSize) && iterator.hasNext()) {
+            released.add(iterator.next().getValue());
+            iterator.remove();
+            evictions++;
+        }
+        return released;
+    }
+
+    private void close(RrdDb db) {
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        }
+    }
+
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized int size() {
+        return databases.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+}
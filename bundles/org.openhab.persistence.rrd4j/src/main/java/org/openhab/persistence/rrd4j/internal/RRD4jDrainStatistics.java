@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Statistics about draining the queue of values waiting to be written to the RRD files.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDrainStatistics {
+
+    private long drainCount;
+    private long drainedPoints;
+    private long lastDrainTime;
+    private long maxDrainTime;
+    private long totalDrainTime;
+
+    /**
+     * Records a drain of the queue.
+     *
+     * @param points the number of values written
+     * @param duration the time in milliseconds needed to write the values
+     */
+    public synchronized void record(int points, long duration) {
+        drainCount++;
+        drainedPoints += points;
+        lastDrainTime = duration;
+        maxDrainTime = Math.max(maxDrainTime, duration);
+        totalDrainTime += duration;
+    }
+
+    public synchronized long getDrainCount() {
+        return drainCount;
+    }
+
+    public synchronized long getDrainedPoints() {
+        return drainedPoints;
+    }
+
+    public synchronized long getLastDrainTime() {
+        return lastDrainTime;
+    }
+
+    public synchronized long getMaxDrainTime() {
+        return maxDrainTime;
+    }
+
+    public synchronized long getAverageDrainTime() {
+        return drainCount == 0 ? 0 : totalDrainTime / drainCount;
+    }
+}
@@ -22,6 +22,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -29,10 +30,14 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
@@ -83,6 +88,7 @@ import org.rrd4j.DsType;
 import org.rrd4j.core.Archive;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
@@ -107,7 +113,7 @@ import org.slf4j.LoggerFactory;
                 + "=org.openhab.rrd4j")
 public class RRD4jPersistenceService implements QueryablePersistenceService {
 
-    private record Key(long timestamp, String name) implements Comparable<Key> {
+    record Key(long timestamp, String name) implements Comparable<Key> {
         @Override
         public int compareTo(Key other) {
             int c = Long.compare(timestamp, other.timestamp);
@@ -122,12 +128,33 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
 
+    private static final String CONFIG_WRITE_THREADS = "writeThreads";
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String CONFIG_OPEN_FILES = "openFiles";
+    private static final Set<String> SERVICE_SETTINGS = Set.of(CONFIG_WRITE_THREADS, CONFIG_BACKEND,
+            CONFIG_OPEN_FILES);
+    private static final Set<String> SUPPORTED_BACKENDS = Set.of("NIO", "FILE", "SAFE");
+    private static final int DEFAULT_WRITE_THREADS = 1;
+    private static final int DEFAULT_OPEN_FILES = 0;
+    // databases requested by users in addition to the cached ones, the pool blocks requests above its capacity
+    private static final int POOL_CAPACITY_MARGIN = 50;
+
     private static final Set<String> SUPPORTED_TYPES = Set.of(CoreItemFactory.SWITCH, CoreItemFactory.CONTACT,
             CoreItemFactory.DIMMER, CoreItemFactory.NUMBER, CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.COLOR);
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    // writes to different RRD files are distributed to these threads, each drain writes a file from a single task
+    private final ThreadPoolExecutor writeExecutor = new ThreadPoolExecutor(DEFAULT_WRITE_THREADS,
+            DEFAULT_WRITE_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new NamedThreadFactory("RRD4j-writer"));
+    private volatile int writeThreads = DEFAULT_WRITE_THREADS;
+    private final RRD4jDrainStatistics drainStatistics = new RRD4jDrainStatistics();
+
+    private final RRD4jDatabaseCache databaseCache = new RRD4jDatabaseCache(DEFAULT_OPEN_FILES);
+    private volatile @Nullable RrdBackendFactory backendFactory;
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
@@ -155,6 +182,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
+        writeExecutor.allowCoreThreadTimeOut(true);
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
@@ -162,6 +190,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Modified
     protected void modified(final Map<String, Object> config) {
+        setWriteThreads(config.get(CONFIG_WRITE_THREADS));
+        setBackend(config.get(CONFIG_BACKEND));
+        setOpenFiles(config.get(CONFIG_OPEN_FILES));
+
         // clean existing definitions
         rrdDefs.clear();
 
@@ -213,8 +245,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         while (keys.hasNext()) {
             String key = keys.next();
 
-            if ("service.pid".equals(key) || "component.name".equals(key)) {
-                // ignore service.pid and name
+            if ("service.pid".equals(key) || "component.name".equals(key) || SERVICE_SETTINGS.contains(key)) {
+                // ignore service.pid and name, service settings have already been processed
                 continue;
             }
 
@@ -268,6 +300,62 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private void setWriteThreads(@Nullable Object value) {
+        int threads = DEFAULT_WRITE_THREADS;
+        if (value != null) {
+            try {
+                threads = Integer.parseInt(value.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring illegal configuration: {} = {}", CONFIG_WRITE_THREADS, value);
+            }
+        }
+        threads = Math.max(1, threads);
+        // the maximum pool size must never be less than the core pool size
+        if (threads > writeExecutor.getMaximumPoolSize()) {
+            writeExecutor.setMaximumPoolSize(threads);
+            writeExecutor.setCorePoolSize(threads);
+        } else {
+            writeExecutor.setCorePoolSize(threads);
+            writeExecutor.setMaximumPoolSize(threads);
+        }
+        writeThreads = threads;
+        logger.debug("Using {} thread(s) to write rrd4j databases", threads);
+    }
+
+    private void setBackend(@Nullable Object value) {
+        RrdBackendFactory factory = null;
+        if (value != null && !value.toString().isBlank()) {
+            String name = value.toString().trim().toUpperCase();
+            if (SUPPORTED_BACKENDS.contains(name)) {
+                factory = RrdBackendFactory.getFactory(name);
+            } else {
+                logger.warn("Ignoring illegal configuration: {} = {}", CONFIG_BACKEND, value);
+            }
+        }
+        if (factory != backendFactory) {
+            // cached databases have been opened with the previous backend
+            databaseCache.clear();
+            backendFactory = factory;
+        }
+        logger.debug("Using {} backend for rrd4j databases", factory != null ? factory.getName() : "default");
+    }
+
+    private void setOpenFiles(@Nullable Object value) {
+        int openFiles = DEFAULT_OPEN_FILES;
+        if (value != null) {
+            try {
+                openFiles = Math.max(0, Integer.parseInt(value.toString().trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring illegal configuration: {} = {}", CONFIG_OPEN_FILES, value);
+            }
+        }
+        if (DATABASE_POOL.getCapacity() < openFiles + POOL_CAPACITY_MARGIN) {
+            DATABASE_POOL.setCapacity(openFiles + POOL_CAPACITY_MARGIN);
+        }
+        databaseCache.setMaxSize(openFiles);
+        logger.debug("Keeping up to {} rrd4j databases open", openFiles);
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
@@ -275,6 +363,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        writeExecutor.shutdown();
+        databaseCache.clear();
     }
 
     @Override
@@ -331,31 +421,86 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return;
         }
 
-        long now = System.currentTimeMillis() / 1000;
-        Double oldValue = storageMap.put(new Key(now, name), value);
+        queueValue(name, value, System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * Queue a value to be written to the RRD file of the given item name by the next drain.
+     */
+    void queueValue(String name, double value, long timestamp) {
+        Double oldValue = storageMap.put(new Key(timestamp, name), value);
         if (oldValue != null && !oldValue.equals(value)) {
             logger.debug(
                     "Discarding value {} for item {} with timestamp {} because a new value ({}) arrived with the same timestamp.",
-                    oldValue, item.getName(), now, value);
+                    oldValue, name, timestamp, value);
         }
     }
 
-    private void doStore(boolean force) {
-        long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
+    /**
+     * Write the queued values to the RRD files. Drains never overlap, so values of the same file are always written
+     * in the order of their timestamps.
+     *
+     * @param force write all queued values, including those of the current second
+     */
+    synchronized void doStore(boolean force) {
+        long drainStart = System.currentTimeMillis();
+        long now = drainStart / 1000;
+        // group the values per database, keeping them in the order of their timestamps
+        Map<String, List<Map.Entry<Key, Double>>> points = new LinkedHashMap<>();
+        int count = 0;
+        while (true) {
+            Map.Entry<Key, Double> first = storageMap.firstEntry();
+            if (first == null || !(now > first.getKey().timestamp || force)) {
+                // no new elements can be added for a timestamp if we are already past that time or the service
                 // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
-                return;
+                break;
+            }
+            Map.Entry<Key, Double> entry = storageMap.pollFirstEntry();
+            if (entry == null) {
+                break;
             }
+            points.computeIfAbsent(entry.getKey().name, name -> new ArrayList<>()).add(entry);
+            count++;
+        }
+        if (points.isEmpty()) {
+            return;
         }
+
+        if (writeThreads <= 1 || points.size() == 1) {
+            points.forEach(this::writePoints);
+        } else {
+            List<Future<?>> futures = new ArrayList<>(points.size());
+            try {
+                points.forEach((name, namePoints) -> futures
+                        .add(writeExecutor.submit(() -> writePoints(name, namePoints))));
+            } catch (RejectedExecutionException e) {
+                // this happens if the system is shut down
+                logger.debug("Could not write rrd4j databases: {}", e.getMessage());
+            }
+            // wait for all writes, so values of the same database are never written out of order
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    logger.warn("Could not write rrd4j database: {}", e.getMessage());
+                }
+            }
+        }
+        long drainTime = System.currentTimeMillis() - drainStart;
+        drainStatistics.record(count, drainTime);
+        logger.trace("Stored {} values in {} rrd4j databases in {} ms", count, points.size(), drainTime);
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    /**
+     * Write values to the RRD file of the given item name. Drains never overlap and group the values per file, so
+     * a file is never written by two threads at the same time.
+     *
+     * @param points the values to write, ordered by their timestamps
+     */
+    void writePoints(String name, List<Map.Entry<Key, Double>> points) {
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -365,7 +510,17 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         if (db == null) {
             return;
         }
+        for (Map.Entry<Key, Double> point : points) {
+            writePointToDatabase(db, name, point.getValue(), point.getKey().timestamp);
+        }
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        }
+    }
 
+    private void writePointToDatabase(RrdDb db, String name, double value, long timestamp) {
         ConsolFun function = getConsolidationFunction(db);
         if (function != ConsolFun.AVERAGE) {
             try {
@@ -400,11 +555,27 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
+    }
+
+    /**
+     * Get the statistics about writing the queued values to the RRD files.
+     */
+    public RRD4jDrainStatistics getDrainStatistics() {
+        return drainStatistics;
+    }
+
+    /**
+     * Get the number of values waiting to be written to the RRD files.
+     */
+    public int getQueueSize() {
+        return storageMap.size();
+    }
+
+    /**
+     * Get the number of threads writing to different RRD files in parallel.
+     */
+    public int getWriteThreads() {
+        return writeThreads;
     }
 
     @Override
@@ -694,17 +865,15 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         };
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
-            Builder builder = RrdDb.getBuilder();
-            builder.setPool(DATABASE_POOL);
-
-            if (Files.exists(path)) {
+            // a cached database is known to exist and is still open in the pool
+            boolean cached = databaseCache.lookup(alias);
+            if (cached || Files.exists(path)) {
                 // recreate the RrdDb instance from the file
-                builder.setPath(path.toString());
-                db = builder.build();
+                db = openDB(path);
             } else if (createFileIfAbsent) {
                 if (!Files.exists(DB_FOLDER)) {
                     Files.createDirectories(DB_FOLDER);
@@ -712,6 +881,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 RrdDef rrdDef = getRrdDef(alias, path);
                 if (rrdDef != null) {
                     // create a new database file
+                    Builder builder = createBuilder();
                     builder.setRrdDef(rrdDef);
                     db = builder.build();
                 } else {
@@ -720,6 +890,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                             alias);
                 }
             }
+            if (db != null && !cached && databaseCache.getMaxSize() > 0) {
+                // the cache holds its own reference, the caller closes the returned one
+                databaseCache.put(alias, openDB(path));
+            }
         } catch (IOException e) {
             logger.error("Could not create rrd4j database file '{}': {}", path, e.getMessage());
         } catch (RejectedExecutionException e) {
@@ -729,6 +903,38 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return db;
     }
 
+    private Builder createBuilder() {
+        Builder builder = RrdDb.getBuilder();
+        builder.setPool(DATABASE_POOL);
+        RrdBackendFactory factory = backendFactory;
+        if (factory != null) {
+            builder.setBackendFactory(factory);
+        }
+        return builder;
+    }
+
+    private RrdDb openDB(Path path) throws IOException {
+        Builder builder = createBuilder();
+        builder.setPath(path.toString());
+        return builder.build();
+    }
+
+    /**
+     * Closes the database of an item, if it is kept open by the cache, e.g. before deleting its file.
+     *
+     * @param alias the name of the database
+     */
+    public void closeDB(String alias) {
+        databaseCache.remove(alias);
+    }
+
+    /**
+     * Get the cache of open databases.
+     */
+    public RRD4jDatabaseCache getDatabaseCache() {
+        return databaseCache;
+    }
+
     private @Nullable RrdDefConfig getRrdDefConfig(String itemName) {
         RrdDefConfig useRdc = null;
         for (Map.Entry<String, RrdDefConfig> e : rrdDefs.entrySet()) {
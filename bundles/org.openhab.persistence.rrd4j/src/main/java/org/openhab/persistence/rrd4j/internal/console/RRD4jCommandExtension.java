@@ -35,6 +35,8 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
+import org.openhab.persistence.rrd4j.internal.RRD4jDatabaseCache;
+import org.openhab.persistence.rrd4j.internal.RRD4jDrainStatistics;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -52,8 +54,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_STATS), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,6 +92,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            printStatistics(persistenceService, console);
+            return;
         }
         printUsage(console);
     }
@@ -140,7 +146,7 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
                 if (checkOnly) {
                     console.println("  - " + filename + ": no item found");
                     nb++;
-                } else if (path.toFile().delete()) {
+                } else if (closeAndDelete(persistenceService, name, path)) {
                     console.println("  - " + filename + ": file deleted");
                     nb++;
                 } else {
@@ -151,11 +157,33 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         console.println(nb + " files " + (checkOnly ? "to delete." : "deleted."));
     }
 
+    private boolean closeAndDelete(RRD4jPersistenceService persistenceService, String name, Path path) {
+        persistenceService.closeDB(name);
+        return path.toFile().delete();
+    }
+
+    private void printStatistics(RRD4jPersistenceService persistenceService, Console console) {
+        RRD4jDrainStatistics statistics = persistenceService.getDrainStatistics();
+        console.println("Write threads:          " + persistenceService.getWriteThreads());
+        console.println("Queued values:          " + persistenceService.getQueueSize());
+        console.println("Drains:                 " + statistics.getDrainCount());
+        console.println("Written values:         " + statistics.getDrainedPoints());
+        console.println("Last drain time:        " + statistics.getLastDrainTime() + " ms");
+        console.println("Average drain time:     " + statistics.getAverageDrainTime() + " ms");
+        console.println("Max drain time:         " + statistics.getMaxDrainTime() + " ms");
+        RRD4jDatabaseCache databaseCache = persistenceService.getDatabaseCache();
+        console.println("Open files:             " + databaseCache.size() + " of " + databaseCache.getMaxSize());
+        console.println("Open file cache hits:   " + databaseCache.getHits());
+        console.println("Open file cache misses: " + databaseCache.getMisses());
+        console.println("Closed LRU files:       " + databaseCache.getEvictions());
+    }
+
     @Override
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_STATS, "show statistics about writing the RRD files"));
     }
 
     @Override
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.rrd4j.core.RrdDb;
+
+/**
+ * Tests for {@link RRD4jDatabaseCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RRD4jDatabaseCacheTest {
+
+    @Test
+    void disabledCacheClosesDatabase() throws Exception {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(0);
+        RrdDb db = mock(RrdDb.class);
+
+        assertFalse(cache.lookup("item"));
+        cache.put("item", db);
+
+        verify(db).close();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    void leastRecentlyUsedDatabaseIsClosed() throws Exception {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(2);
+        RrdDb db1 = mock(RrdDb.class);
+        RrdDb db2 = mock(RrdDb.class);
+        RrdDb db3 = mock(RrdDb.class);
+
+        cache.put("item1", db1);
+        cache.put("item2", db2);
+        assertTrue(cache.lookup("item1"));
+        cache.put("item3", db3);
+
+        verify(db2).close();
+        verify(db1, never()).close();
+        assertFalse(cache.lookup("item2"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+
+        cache.clear();
+        verify(db1).close();
+        verify(db3).close();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RRD4jDrainStatistics}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RRD4jDrainStatisticsTest {
+
+    @Test
+    void emptyStatistics() {
+        RRD4jDrainStatistics statistics = new RRD4jDrainStatistics();
+
+        assertEquals(0, statistics.getDrainCount());
+        assertEquals(0, statistics.getAverageDrainTime());
+    }
+
+    @Test
+    void recordedDrains() {
+        RRD4jDrainStatistics statistics = new RRD4jDrainStatistics();
+        statistics.record(10, 30);
+        statistics.record(5, 10);
+
+        assertEquals(2, statistics.getDrainCount());
+        assertEquals(15, statistics.getDrainedPoints());
+        assertEquals(10, statistics.getLastDrainTime());
+        assertEquals(30, statistics.getMaxDrainTime());
+        assertEquals(20, statistics.getAverageDrainTime());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService.Key;
+
+/**
+ * Tests for the parallel drain of the {@link RRD4jPersistenceService}: values of one RRD file are written in order,
+ * different files are written in parallel.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RRD4jParallelDrainTest {
+
+    // far enough in the future to be left alone by the periodic drain of the service
+    private static final long TIMESTAMP = System.currentTimeMillis() / 1000 + 3600;
+
+    private @Nullable RRD4jPersistenceService service;
+
+    private RRD4jPersistenceService createService(BiConsumer<String, List<Map.Entry<Key, Double>>> writer) {
+        RRD4jPersistenceService newService = new RRD4jPersistenceService(mock(ItemRegistry.class),
+                Map.of("writeThreads", "4")) {
+            @Override
+            void writePoints(String name, List<Map.Entry<Key, Double>> points) {
+                writer.accept(name, points);
+            }
+        };
+        service = newService;
+        return newService;
+    }
+
+    @AfterEach
+    void tearDown() {
+        RRD4jPersistenceService service = this.service;
+        if (service != null) {
+            service.deactivate();
+        }
+    }
+
+    @Test
+    void valuesOfOneDatabaseAreWrittenInOrder() {
+        List<String> writes = new CopyOnWriteArrayList<>();
+        RRD4jPersistenceService service = createService((name, points) -> writes
+                .add(name + ":" + points.stream().map(p -> p.getKey().timestamp() + "=" + p.getValue()).toList()));
+
+        service.queueValue("ItemA", 3, TIMESTAMP + 2);
+        service.queueValue("ItemB", 1, TIMESTAMP);
+        service.queueValue("ItemA", 1, TIMESTAMP);
+        service.queueValue("ItemA", 2, TIMESTAMP + 1);
+        service.doStore(true);
+
+        assertEquals(2, writes.size());
+        assertTrue(writes.contains("ItemA:[" + TIMESTAMP + "=1.0, " + (TIMESTAMP + 1) + "=2.0, " + (TIMESTAMP + 2)
+                + "=3.0]"), writes.toString());
+        assertTrue(writes.contains("ItemB:[" + TIMESTAMP + "=1.0]"), writes.toString());
+        assertEquals(0, service.getQueueSize());
+    }
+
+    @Test
+    void differentDatabasesAreWrittenInParallel() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger failures = new AtomicInteger();
+        RRD4jPersistenceService service = createService((name, points) -> {
+            threads.add(Thread.currentThread());
+            try {
+                // only passes if the other database is written at the same time
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                failures.incrementAndGet();
+            }
+        });
+
+        service.queueValue("ItemA", 1, TIMESTAMP);
+        service.queueValue("ItemB", 2, TIMESTAMP);
+        service.doStore(true);
+
+        assertEquals(0, failures.get());
+        assertEquals(2, threads.size());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+
+/**
+ * Continuous aggregate views (avg/min/max per item_id and bucket) maintained by TimescaleDB.
+ *
+ * <p>
+ * The view names and bucket widths are constants; they are formatted into DDL and query strings and never come
+ * from user input.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public enum ContinuousAggregate {
+    HOURLY("items_hourly", "1 hour", ChronoUnit.HOURS, "3 days", "1 hour", "1 hour"),
+    DAILY("items_daily", "1 day", ChronoUnit.DAYS, "7 days", "1 day", "1 day");
+
+    /** Spans up to this length are answered from {@link #HOURLY}, longer ones from {@link #DAILY}. */
+    static final Duration MAX_HOURLY_SPAN = Duration.ofDays(90);
+
+    private final String viewName;
+    private final String bucketWidth;
+    private final ChronoUnit bucketUnit;
+    private final String refreshStartOffset;
+    private final String refreshEndOffset;
+    private final String refreshSchedule;
+
+    ContinuousAggregate(String viewName, String bucketWidth, ChronoUnit bucketUnit, String refreshStartOffset,
+            String refreshEndOffset, String refreshSchedule) {
+        this.viewName = viewName;
+        this.bucketWidth = bucketWidth;
+        this.bucketUnit = bucketUnit;
+        this.refreshStartOffset = refreshStartOffset;
+        this.refreshEndOffset = refreshEndOffset;
+        this.refreshSchedule = refreshSchedule;
+    }
+
+    public String getViewName() {
+        return viewName;
+    }
+
+    public String getBucketWidth() {
+        return bucketWidth;
+    }
+
+    public String getRefreshStartOffset() {
+        return refreshStartOffset;
+    }
+
+    public String getRefreshEndOffset() {
+        return refreshEndOffset;
+    }
+
+    public String getRefreshSchedule() {
+        return refreshSchedule;
+    }
+
+    /**
+     * Returns the start of the bucket containing the given instant. TimescaleDB aligns hourly and daily buckets
+     * to UTC, as does {@link Instant#truncatedTo}.
+     */
+    public Instant bucketStart(Instant instant) {
+        return instant.truncatedTo(bucketUnit);
+    }
+
+    /**
+     * Selects the aggregate that best fits a query.
+     *
+     * <p>
+     * Only plain time-range queries are routed: a begin date must be set, no state filter may be present, and the
+     * span must exceed {@code threshold}.
+     *
+     * @param filter The filter criteria.
+     * @param threshold Spans up to this length are answered from raw rows.
+     * @param now The current time, used if the filter has no end date.
+     * @return The aggregate to query, or {@code null} to query raw rows.
+     */
+    public static @Nullable ContinuousAggregate forFilter(FilterCriteria filter, Duration threshold,
+            ZonedDateTime now) {
+        ZonedDateTime begin = filter.getBeginDate();
+        if (begin == null || filter.getState() != null) {
+            return null;
+        }
+        ZonedDateTime end = filter.getEndDate();
+        Duration span = Duration.between(begin, end != null ? end : now);
+        if (span.compareTo(threshold) <= 0) {
+            return null;
+        }
+        return span.compareTo(MAX_HOURLY_SPAN) <= 0 ? HOURLY : DAILY;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import java.sql.Connection;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers state rows and writes them in batches.
+ *
+ * <p>
+ * {@link #add} only queues the row, so a burst of updates does not hold one pooled connection per state.
+ * {@link #flush} borrows a single connection, resolves the item_ids of all pending rows through the
+ * {@link ItemIdResolver} (normally backed by the in-memory name → item_id cache) and writes them with
+ * {@link TimescaleDBQuery#insertBatch}.
+ *
+ * <p>
+ * If the database is unavailable, the failed batch is put back at the head of the queue. Rows that do not fit
+ * into {@code maxPendingRows} are dropped and counted. If the database rejects the batch because of its data
+ * (SQLState class 22 or 23, e.g. a NUL byte in a string or a constraint violation), retrying it would fail forever,
+ * so the rows are written one by one and only the rejected rows are dropped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TimescaleDBBatchWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimescaleDBBatchWriter.class);
+
+    /**
+     * A state update waiting to be written, together with the item_meta attributes needed to register the item.
+     */
+    public record PendingRow(String name, @Nullable String label, @Nullable String value,
+            @Nullable String metadataJson, ZonedDateTime timestamp, TimescaleDBMapper.Row row) {
+    }
+
+    /**
+     * Resolves (and if necessary registers) the item_id of a pending row.
+     */
+    @FunctionalInterface
+    public interface ItemIdResolver {
+        int resolve(Connection connection, PendingRow row) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final ItemIdResolver itemIdResolver;
+    private final int batchSize;
+    private final int maxPendingRows;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private final Deque<PendingRow> pending = new ArrayDeque<>();
+    private long writtenRows;
+    private long droppedRows;
+    private long rejectedRows;
+
+    /**
+     * @param dataSource The connection pool.
+     * @param itemIdResolver Resolves the item_id of a row on the flush connection.
+     * @param batchSize The number of pending rows after which {@link #add} asks for a flush.
+     * @param maxPendingRows The maximum number of rows kept while the database is unavailable.
+     */
+    public TimescaleDBBatchWriter(DataSource dataSource, ItemIdResolver itemIdResolver, int batchSize,
+            int maxPendingRows) {
+        this.dataSource = dataSource;
+        this.itemIdResolver = itemIdResolver;
+        this.batchSize = batchSize;
+        this.maxPendingRows = Math.max(batchSize, maxPendingRows);
+    }
+
+    /**
+     * Queues a row.
+     *
+     * @param row The row to queue.
+     * @return {@code true} if a full batch is pending and the caller should trigger a {@link #flush}. Only returned
+     *         once until the flush runs, so at most one flush is scheduled at a time.
+     */
+    public boolean add(PendingRow row) {
+        synchronized (pending) {
+            if (pending.size() >= maxPendingRows) {
+                droppedRows++;
+                if (droppedRows % 1000 == 1) {
+                    LOGGER.warn("TimescaleDB write buffer is full ({} rows) — dropped {} row(s) so far",
+                            maxPendingRows, droppedRows);
+                }
+                return flushPending.compareAndSet(false, true);
+            }
+            pending.addLast(row);
+            return pending.size() >= batchSize && flushPending.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Writes all pending rows. Concurrent calls are serialized.
+     *
+     * @return The number of rows taken from the queue and written (including discarded duplicates, excluding rows
+     *         rejected by the database).
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            flushPending.set(false);
+            List<PendingRow> batch = drain();
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try (Connection conn = dataSource.getConnection()) {
+                List<TimescaleDBQuery.BatchRow> rows = new ArrayList<>(batch.size());
+                for (PendingRow row : batch) {
+                    rows.add(new TimescaleDBQuery.BatchRow(itemIdResolver.resolve(conn, row), row.timestamp(),
+                            row.row()));
+                }
+                TimescaleDBQuery.insertBatch(conn, rows);
+                synchronized (pending) {
+                    writtenRows += batch.size();
+                }
+                return batch.size();
+            } catch (SQLException e) {
+                if (isDataError(e)) {
+                    LOGGER.debug("Database rejected a batch of {} row(s), writing them one by one: {}", batch.size(),
+                            e.getMessage());
+                    return writeRowByRow(batch);
+                }
+                LOGGER.warn("Failed to write {} buffered row(s), keeping them for the next attempt: {}", batch.size(),
+                        e.getMessage());
+                requeue(batch);
+                return 0;
+            }
+        }
+    }
+
+    private int writeRowByRow(List<PendingRow> batch) {
+        int index = 0;
+        int written = 0;
+        try (Connection conn = dataSource.getConnection()) {
+            for (; index < batch.size(); index++) {
+                PendingRow row = batch.get(index);
+                try {
+                    TimescaleDBQuery.insertBatch(conn, List.of(new TimescaleDBQuery.BatchRow(
+                            itemIdResolver.resolve(conn, row), row.timestamp(), row.row())));
+                    written++;
+                } catch (SQLException e) {
+                    if (!isDataError(e)) {
+                        throw e;
+                    }
+                    synchronized (pending) {
+                        rejectedRows++;
+                    }
+                    LOGGER.warn("Database rejected the state of item '{}' at {}, dropping it: {}", row.name(),
+                            row.timestamp(), e.getMessage());
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to write {} buffered row(s), keeping them for the next attempt: {}",
+                    batch.size() - index, e.getMessage());
+            requeue(batch.subList(index, batch.size()));
+        }
+        synchronized (pending) {
+            writtenRows += written;
+        }
+        return written;
+    }
+
+    /**
+     * Checks if the database rejected a statement because of the data it contained. Executing the same statement
+     * again will fail again.
+     */
+    static boolean isDataError(SQLException e) {
+        if (e instanceof SQLDataException || e instanceof SQLIntegrityConstraintViolationException) {
+            return true;
+        }
+        String sqlState = e.getSQLState();
+        return sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"));
+    }
+
+    private List<PendingRow> drain() {
+        synchronized (pending) {
+            List<PendingRow> batch = new ArrayList<>(pending);
+            pending.clear();
+            return batch;
+        }
+    }
+
+    private void requeue(List<PendingRow> batch) {
+        synchronized (pending) {
+            // failed rows are older than anything queued meanwhile, so they go to the head
+            int room = maxPendingRows - pending.size();
+            int keep = Math.min(room, batch.size());
+            for (int i = keep - 1; i >= 0; i--) {
+                pending.addFirst(batch.get(i));
+            }
+            droppedRows += batch.size() - keep;
+        }
+    }
+
+    public int getPendingRows() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    public long getWrittenRows() {
+        synchronized (pending) {
+            return writtenRows;
+        }
+    }
+
+    public long getDroppedRows() {
+        synchronized (pending) {
+            return droppedRows;
+        }
+    }
+
+    public long getRejectedRows() {
+        synchronized (pending) {
+            return rejectedRows;
+        }
+    }
+}
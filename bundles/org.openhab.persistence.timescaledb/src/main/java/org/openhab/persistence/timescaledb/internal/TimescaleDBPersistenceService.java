@@ -14,13 +14,16 @@ package org.openhab.persistence.timescaledb.internal;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -29,11 +32,13 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -65,6 +70,14 @@ import com.zaxxer.hikari.HikariDataSource;
  * Item names are cached in-memory ({@code name → item_id}) to avoid a SELECT on every
  * {@link #store} call. The cache is populated lazily on first store per item.
  *
+ * <p>
+ * With {@code batchSize > 0}, {@link #store} only queues the row in a {@link TimescaleDBBatchWriter}, which
+ * writes the pending rows periodically (or as soon as a batch is full) with one multi-row INSERT.
+ *
+ * <p>
+ * With {@code continuousAggregates} enabled, queries on numeric items spanning more than
+ * {@code aggregateThresholdDays} are answered from the hourly or daily {@link ContinuousAggregate}.
+ *
  * @author René Ulbricht - Initial contribution
  */
 @NonNullByDefault
@@ -83,6 +96,9 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     private static final String SERVICE_ID = "timescaledb";
     private static final String SERVICE_LABEL = "TimescaleDB";
 
+    // rows kept while the database is unavailable, in multiples of batchSize
+    private static final int MAX_PENDING_BATCHES = 20;
+
     // item name → item_id, populated lazily
     private final Map<String, Integer> itemIdCache = new ConcurrentHashMap<>();
 
@@ -93,6 +109,13 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     private @Nullable HikariDataSource dataSource;
     private @Nullable ScheduledFuture<?> downsampleJob;
     private @Nullable TimescaleDBDownsampleJob downsampleJobInstance;
+    private @Nullable TimescaleDBBatchWriter batchWriter;
+    private @Nullable ScheduledFuture<?> batchFlushJob;
+    // queries spanning more than this are routed to a continuous aggregate, null = disabled
+    private @Nullable Duration aggregateThreshold;
+    // continuous aggregates holding the full history; only these are used to answer queries
+    private final Set<ContinuousAggregate> backfilledAggregates = ConcurrentHashMap.newKeySet();
+    private @Nullable Future<?> backfillJob;
 
     @Activate
     public TimescaleDBPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -128,11 +151,17 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         String chunkInterval = (String) config.getOrDefault("chunkInterval", "7 days");
         int retentionDays = parseIntConfig(config, "retentionDays", 0);
         int compressionAfterDays = parseIntConfig(config, "compressionAfterDays", 0);
+        int batchSize = parseIntConfig(config, "batchSize", 0);
+        int batchInterval = parseIntConfig(config, "batchInterval", 1000);
+        boolean continuousAggregates = parseBooleanConfig(config, "continuousAggregates", false);
+        int aggregateThresholdDays = parseIntConfig(config, "aggregateThresholdDays", 7);
 
         LOGGER.debug(
                 "Activating TimescaleDB persistence: url={}, user={}, maxConnections={}, "
-                        + "chunkInterval={}, retentionDays={}, compressionAfterDays={}",
-                url, user, maxConnections, chunkInterval, retentionDays, compressionAfterDays);
+                        + "chunkInterval={}, retentionDays={}, compressionAfterDays={}, batchSize={}, "
+                        + "batchInterval={}, continuousAggregates={}, aggregateThresholdDays={}",
+                url, user, maxConnections, chunkInterval, retentionDays, compressionAfterDays, batchSize,
+                batchInterval, continuousAggregates, aggregateThresholdDays);
 
         HikariDataSource ds;
         try {
@@ -144,7 +173,8 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         dataSource = ds;
 
         try (Connection conn = ds.getConnection()) {
-            TimescaleDBSchema.initialize(conn, chunkInterval, compressionAfterDays, retentionDays);
+            TimescaleDBSchema.initialize(conn, chunkInterval, compressionAfterDays, retentionDays,
+                    continuousAggregates);
         } catch (SQLException e) {
             LOGGER.error("Failed to initialize TimescaleDB schema: {}", e.getMessage(), e);
             ds.close();
@@ -152,6 +182,11 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             return;
         }
 
+        aggregateThreshold = continuousAggregates ? Duration.ofDays(Math.max(aggregateThresholdDays, 1)) : null;
+        if (continuousAggregates) {
+            backfillJob = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).submit(() -> backfillAggregates(ds));
+        }
+
         if (compressionAfterDays > 0) {
             LOGGER.warn("TimescaleDB: compressionAfterDays={} is set. Ensure all per-item retainRawDays "
                     + "are less than compressionAfterDays, otherwise downsampling will attempt to write into "
@@ -166,6 +201,17 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
                 TimeUnit.DAYS.toSeconds(1), TimeUnit.SECONDS);
         LOGGER.info("Downsampling job scheduled: first run in {}s, then every 24h", initialDelay);
 
+        if (batchSize > 0) {
+            TimescaleDBBatchWriter writer = new TimescaleDBBatchWriter(ds,
+                    (conn, row) -> getOrCreateItemId(conn, row.name(), row.label(), row.value(), row.metadataJson()),
+                    batchSize, batchSize * MAX_PENDING_BATCHES);
+            batchWriter = writer;
+            long interval = Math.max(batchInterval, 10);
+            batchFlushJob = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).scheduleWithFixedDelay(writer::flush,
+                    interval, interval, TimeUnit.MILLISECONDS);
+            LOGGER.debug("Buffered ingest enabled: batchSize={}, flush every {}ms", batchSize, interval);
+        }
+
         metadataRegistry.addRegistryChangeListener(this);
         LOGGER.info("TimescaleDB persistence service activated");
     }
@@ -189,8 +235,26 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     public void deactivate() {
         LOGGER.debug("Deactivating TimescaleDB persistence service");
         metadataRegistry.removeRegistryChangeListener(this);
+
+        ScheduledFuture<?> flushJob = batchFlushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            batchFlushJob = null;
+        }
+        TimescaleDBBatchWriter writer = batchWriter;
+        if (writer != null) {
+            writer.flush();
+            batchWriter = null;
+        }
         itemIdCache.clear();
 
+        Future<?> backfill = backfillJob;
+        if (backfill != null) {
+            backfill.cancel(true);
+            backfillJob = null;
+        }
+        backfilledAggregates.clear();
+
         ScheduledFuture<?> job = downsampleJob;
         if (job != null) {
             job.cancel(false);
@@ -265,6 +329,14 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         @Nullable
         String metadataJson = metadataService.getMetadataConfigJson(name);
 
+        TimescaleDBBatchWriter writer = batchWriter;
+        if (writer != null) {
+            if (writer.add(new TimescaleDBBatchWriter.PendingRow(name, label, valueStr, metadataJson, date, row))) {
+                ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).execute(writer::flush);
+            }
+            return;
+        }
+
         HikariDataSource ds = dataSource;
         if (ds == null) {
             LOGGER.warn("TimescaleDB data source not available — cannot store item '{}'", name);
@@ -293,6 +365,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         }
 
         String queryName = alias != null ? alias : itemName;
+        flushPendingRows();
 
         @Nullable
         Integer itemId = itemIdCache.get(queryName);
@@ -332,7 +405,11 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             return Collections.emptyList();
         }
 
+        ContinuousAggregate aggregate = selectAggregate(item, filter);
         try (Connection conn = ds.getConnection()) {
+            if (aggregate != null) {
+                return TimescaleDBQuery.queryAggregate(conn, item, itemId, filter, aggregate);
+            }
             return TimescaleDBQuery.query(conn, item, itemId, filter);
         } catch (SQLException e) {
             LOGGER.error("Query failed for item '{}': {}", queryName, e.getMessage(), e);
@@ -347,6 +424,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             LOGGER.warn("FilterCriteria has no item name — cannot remove data");
             return false;
         }
+        flushPendingRows();
 
         @Nullable
         Integer itemId = itemIdCache.get(itemName);
@@ -419,6 +497,66 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     // Internal helpers
     // -------------------------------------------------------------------------
 
+    /**
+     * Materializes existing history into the continuous aggregates that have not been backfilled yet. Until an
+     * aggregate is backfilled, queries that would be routed to it read raw rows instead.
+     */
+    void backfillAggregates(HikariDataSource ds) {
+        for (ContinuousAggregate aggregate : ContinuousAggregate.values()) {
+            try (Connection conn = ds.getConnection()) {
+                if (!TimescaleDBSchema.isBackfilled(conn, aggregate)) {
+                    LOGGER.info("Backfilling continuous aggregate {}, this may take a while",
+                            aggregate.getViewName());
+                    TimescaleDBSchema.backfill(conn, aggregate);
+                }
+                backfilledAggregates.add(aggregate);
+            } catch (SQLException e) {
+                LOGGER.warn("Failed to backfill continuous aggregate {}, queries keep reading raw rows: {}",
+                        aggregate.getViewName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the continuous aggregate that should answer the query, or {@code null} to read raw rows.
+     * Only numeric items are routed, as the aggregates hold statistics of the numeric value column.
+     */
+    private @Nullable ContinuousAggregate selectAggregate(Item item, FilterCriteria filter) {
+        Duration threshold = aggregateThreshold;
+        if (threshold == null) {
+            return null;
+        }
+        Item realItem = item;
+        if (item instanceof GroupItem groupItem) {
+            Item baseItem = groupItem.getBaseItem();
+            if (baseItem != null) {
+                realItem = baseItem;
+            }
+        }
+        if (!(realItem instanceof NumberItem)) {
+            return null;
+        }
+        ContinuousAggregate aggregate = ContinuousAggregate.forFilter(filter, threshold, ZonedDateTime.now());
+        if (aggregate != null && !backfilledAggregates.contains(aggregate)) {
+            LOGGER.trace("Continuous aggregate {} is not backfilled yet, reading raw rows", aggregate.getViewName());
+            return null;
+        }
+        if (aggregate != null) {
+            LOGGER.trace("Routing query for '{}' to continuous aggregate {}", item.getName(), aggregate.getViewName());
+        }
+        return aggregate;
+    }
+
+    /**
+     * Writes buffered rows before reading or deleting, so callers always see their own stores.
+     */
+    private void flushPendingRows() {
+        TimescaleDBBatchWriter writer = batchWriter;
+        if (writer != null && writer.getPendingRows() > 0) {
+            writer.flush();
+        }
+    }
+
     private int getOrCreateItemId(Connection conn, String name, @Nullable String label, @Nullable String value,
             @Nullable String metadataJson) throws SQLException {
         Integer cached = itemIdCache.get(name);
@@ -468,9 +606,17 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         }
     }
 
+    static boolean parseBooleanConfig(Map<String, Object> config, String key, boolean defaultValue) {
+        Object val = config.get(key);
+        if (val == null) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(val.toString());
+    }
+
     static long secondsUntilMidnight() {
         ZonedDateTime now = ZonedDateTime.now();
         ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
-        return java.time.Duration.between(now, midnight).getSeconds();
+        return Duration.between(now, midnight).getSeconds();
     }
 }
@@ -56,6 +56,15 @@ public class TimescaleDBQuery {
     // timestamp can coexist and only true duplicates are dropped.
     private static final String SQL_INSERT = "INSERT INTO items (time, item_id, value, string, unit) VALUES (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
 
+    // Multi-row variant of SQL_INSERT for buffered ingest. COPY cannot be used because it has no
+    // ON CONFLICT clause, so a single duplicate would abort the whole batch.
+    private static final String SQL_INSERT_MULTI_PREFIX = "INSERT INTO items (time, item_id, value, string, unit) VALUES ";
+    private static final String SQL_INSERT_MULTI_ROW = "(?, ?, ?, ?, ?)";
+    private static final String SQL_INSERT_MULTI_SUFFIX = " ON CONFLICT DO NOTHING";
+
+    // PostgreSQL limits a statement to 65535 bind parameters (5 per row)
+    static final int MAX_ROWS_PER_INSERT = 1000;
+
     // --- item_meta lookup / insert ---
     private static final String SQL_SELECT_ITEM_ID = "SELECT id FROM item_meta WHERE name = ?";
 
@@ -66,6 +75,9 @@ public class TimescaleDBQuery {
     // --- SELECT base ---
     private static final String SQL_SELECT_BASE = "SELECT time, value, string, unit FROM items WHERE item_id = ?";
 
+    // --- SELECT from a continuous aggregate; the view name comes from the ContinuousAggregate enum ---
+    private static final String SQL_SELECT_AGGREGATE_BASE = "SELECT bucket, avg_value, unit FROM %s WHERE item_id = ?";
+
     // --- DELETE ---
     private static final String SQL_DELETE_BASE = "DELETE FROM items WHERE item_id = ?";
 
@@ -73,6 +85,16 @@ public class TimescaleDBQuery {
         // utility class
     }
 
+    /**
+     * A row waiting to be written by {@link #insertBatch}.
+     *
+     * @param itemId The item_id from {@code item_meta}.
+     * @param timestamp The measurement timestamp.
+     * @param row The mapped state row.
+     */
+    public record BatchRow(int itemId, ZonedDateTime timestamp, TimescaleDBMapper.Row row) {
+    }
+
     /**
      * Inserts a single item state row.
      *
@@ -101,6 +123,53 @@ public class TimescaleDBQuery {
                 row.unit());
     }
 
+    /**
+     * Inserts many item state rows using multi-row INSERT statements of up to {@link #MAX_ROWS_PER_INSERT} rows
+     * each, so a whole batch is written in as few round trips as possible.
+     *
+     * @param connection The JDBC connection.
+     * @param rows The rows to insert.
+     * @return The number of inserted rows (duplicates are silently discarded and not counted).
+     * @throws SQLException on any database error.
+     */
+    public static int insertBatch(Connection connection, List<BatchRow> rows) throws SQLException {
+        int inserted = 0;
+        for (int start = 0; start < rows.size(); start += MAX_ROWS_PER_INSERT) {
+            List<BatchRow> chunk = rows.subList(start, Math.min(rows.size(), start + MAX_ROWS_PER_INSERT));
+            try (PreparedStatement ps = connection.prepareStatement(buildMultiInsertSql(chunk.size()))) {
+                int index = 1;
+                for (BatchRow batchRow : chunk) {
+                    TimescaleDBMapper.Row row = batchRow.row();
+                    ps.setTimestamp(index++, Timestamp.from(batchRow.timestamp().toInstant()));
+                    ps.setInt(index++, batchRow.itemId());
+                    Double value = row.value();
+                    if (value != null) {
+                        ps.setDouble(index++, value);
+                    } else {
+                        ps.setNull(index++, Types.DOUBLE);
+                    }
+                    ps.setString(index++, row.string());
+                    ps.setString(index++, row.unit());
+                }
+                inserted += ps.executeUpdate();
+            }
+        }
+        LOGGER.debug("Stored {} of {} buffered rows", inserted, rows.size());
+        return inserted;
+    }
+
+    static String buildMultiInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(SQL_INSERT_MULTI_PREFIX.length() + rowCount * 17 + 24);
+        sql.append(SQL_INSERT_MULTI_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(SQL_INSERT_MULTI_ROW);
+        }
+        return sql.append(SQL_INSERT_MULTI_SUFFIX).toString();
+    }
+
     /**
      * Returns the item_id for the given name, inserting or updating the {@code item_meta} row as needed.
      *
@@ -222,6 +291,70 @@ public class TimescaleDBQuery {
         return results;
     }
 
+    /**
+     * Queries historic items from a continuous aggregate. Each bucket is returned as one {@link HistoricItem} holding
+     * the average value, timestamped at the start of the bucket. The bucket containing the begin date is included.
+     *
+     * @param connection The JDBC connection.
+     * @param item The openHAB item (used for state reconstruction).
+     * @param itemId The item_id from {@code item_meta}.
+     * @param filter The filter criteria (the state filter is not evaluated).
+     * @param aggregate The continuous aggregate to read.
+     * @return An ordered list of matching {@link HistoricItem}s.
+     * @throws SQLException on any database error.
+     */
+    public static List<HistoricItem> queryAggregate(Connection connection, Item item, int itemId,
+            FilterCriteria filter, ContinuousAggregate aggregate) throws SQLException {
+        StringBuilder sql = new StringBuilder(SQL_SELECT_AGGREGATE_BASE.formatted(aggregate.getViewName()));
+        List<Object> params = new ArrayList<>();
+        params.add(itemId);
+
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null) {
+            sql.append(" AND bucket >= ?");
+            params.add(Timestamp.from(aggregate.bucketStart(beginDate.toInstant())));
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate != null) {
+            sql.append(" AND bucket <= ?");
+            params.add(Timestamp.from(endDate.toInstant()));
+        }
+
+        String direction = filter.getOrdering() == Ordering.ASCENDING ? "ASC" : "DESC";
+        sql.append(" ORDER BY bucket ").append(direction);
+
+        if (filter.getPageSize() > 0) {
+            sql.append(" LIMIT ?");
+            params.add(filter.getPageSize());
+            if (filter.getPageNumber() > 0) {
+                sql.append(" OFFSET ?");
+                params.add((long) filter.getPageNumber() * filter.getPageSize());
+            }
+        }
+
+        LOGGER.debug("Aggregate query SQL: {} params={}", sql, params);
+
+        List<HistoricItem> results = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Timestamp bucket = rs.getTimestamp(1);
+                    Double value = (Double) rs.getObject(2);
+                    String unit = rs.getString(3);
+
+                    State state = TimescaleDBMapper.toState(item, value, null, unit);
+                    results.add(new TimescaleDBHistoricItem(item.getName(), state, bucket.toInstant()));
+                }
+            }
+        }
+        LOGGER.debug("Aggregate query on {} returned {} items for item_id={}", aggregate.getViewName(), results.size(),
+                itemId);
+        return results;
+    }
+
     /**
      * Deletes rows matching the filter criteria.
      *
@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
  * <li>{@code item_meta} — name-to-ID lookup table for items, stores user-defined value string and full config
  * JSONB</li>
  * <li>{@code items} — single hypertable for all item states</li>
+ * <li>{@code items_hourly}, {@code items_daily} — optional continuous aggregates of the numeric values</li>
  * </ul>
  *
  * @author René Ulbricht - Initial contribution
@@ -122,6 +123,41 @@ public class TimescaleDBSchema {
 
     private static final String SQL_ADD_RETENTION_POLICY = "SELECT add_retention_policy('items', INTERVAL '%d days', if_not_exists => TRUE)";
 
+    /**
+     * Continuous aggregate of numeric values per item and bucket. Placeholders: view name, bucket width.
+     * {@code materialized_only = false} enables real-time aggregation, so buckets that the refresh policy has not
+     * materialized yet are computed from raw rows at query time.
+     */
+    private static final String SQL_CREATE_CONTINUOUS_AGGREGATE = """
+            CREATE MATERIALIZED VIEW IF NOT EXISTS %s
+            WITH (timescaledb.continuous, timescaledb.materialized_only = false) AS
+            SELECT
+                time_bucket('%s', time) AS bucket,
+                item_id,
+                AVG(value)              AS avg_value,
+                MIN(value)              AS min_value,
+                MAX(value)              AS max_value,
+                MAX(unit)               AS unit
+            FROM items
+            WHERE value IS NOT NULL
+            GROUP BY time_bucket('%s', time), item_id
+            WITH NO DATA
+            """;
+
+    private static final String SQL_ADD_CONTINUOUS_AGGREGATE_POLICY = "SELECT add_continuous_aggregate_policy('%s', start_offset => INTERVAL '%s', end_offset => INTERVAL '%s', schedule_interval => INTERVAL '%s', if_not_exists => TRUE)";
+
+    /**
+     * The refresh policies only cover recent buckets, so existing history is materialized once by a backfill. The
+     * view comment records that the backfill completed, so it is neither repeated nor skipped after a restart.
+     */
+    static final String BACKFILLED_MARKER = "openhab:backfilled";
+
+    private static final String SQL_GET_AGGREGATE_COMMENT = "SELECT obj_description('%s'::regclass, 'pg_class')";
+
+    private static final String SQL_BACKFILL_CONTINUOUS_AGGREGATE = "CALL refresh_continuous_aggregate('%s', NULL, now() - INTERVAL '%s')";
+
+    private static final String SQL_MARK_BACKFILLED = "COMMENT ON MATERIALIZED VIEW %s IS '" + BACKFILLED_MARKER + "'";
+
     private TimescaleDBSchema() {
         // utility class
     }
@@ -138,6 +174,22 @@ public class TimescaleDBSchema {
      */
     public static void initialize(Connection connection, String chunkInterval, int compressionAfterDays,
             int retentionDays) throws SQLException {
+        initialize(connection, chunkInterval, compressionAfterDays, retentionDays, false);
+    }
+
+    /**
+     * Initializes the full schema, optionally including the continuous aggregates listed in
+     * {@link ContinuousAggregate}.
+     *
+     * @param connection An open JDBC connection.
+     * @param chunkInterval Chunk interval for the hypertable, e.g. {@code "7 days"}.
+     * @param compressionAfterDays Compress chunks older than N days. 0 = disabled.
+     * @param retentionDays Drop data older than N days via retention policy. 0 = disabled.
+     * @param continuousAggregates Create the hourly and daily continuous aggregates and their refresh policies.
+     * @throws SQLException on any database error, including missing TimescaleDB extension.
+     */
+    public static void initialize(Connection connection, String chunkInterval, int compressionAfterDays,
+            int retentionDays, boolean continuousAggregates) throws SQLException {
         checkTimescaleDBExtension(connection);
         createTables(connection, chunkInterval);
         if (compressionAfterDays > 0) {
@@ -146,6 +198,9 @@ public class TimescaleDBSchema {
         if (retentionDays > 0) {
             setupRetentionPolicy(connection, retentionDays);
         }
+        if (continuousAggregates) {
+            setupContinuousAggregates(connection);
+        }
         LOGGER.info("TimescaleDB schema initialized (chunkInterval={}, compression={}d, retention={}d)", chunkInterval,
                 compressionAfterDays, retentionDays);
     }
@@ -220,4 +275,52 @@ public class TimescaleDBSchema {
             LOGGER.info("Retention policy set: drop data older than {} days", retentionDays);
         }
     }
+
+    private static void setupContinuousAggregates(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            for (ContinuousAggregate aggregate : ContinuousAggregate.values()) {
+                stmt.execute(SQL_CREATE_CONTINUOUS_AGGREGATE.formatted(aggregate.getViewName(),
+                        aggregate.getBucketWidth(), aggregate.getBucketWidth()));
+                stmt.execute(SQL_ADD_CONTINUOUS_AGGREGATE_POLICY.formatted(aggregate.getViewName(),
+                        aggregate.getRefreshStartOffset(), aggregate.getRefreshEndOffset(),
+                        aggregate.getRefreshSchedule()));
+                LOGGER.debug("Continuous aggregate {} ready (bucket {})", aggregate.getViewName(),
+                        aggregate.getBucketWidth());
+            }
+        }
+        LOGGER.info("Continuous aggregates ready");
+    }
+
+    /**
+     * Returns whether the existing history has been materialized into the given continuous aggregate.
+     *
+     * @param connection An open JDBC connection.
+     * @param aggregate The continuous aggregate.
+     * @throws SQLException on any database error, including a missing view.
+     */
+    public static boolean isBackfilled(Connection connection, ContinuousAggregate aggregate) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+                ResultSet rs = stmt.executeQuery(SQL_GET_AGGREGATE_COMMENT.formatted(aggregate.getViewName()))) {
+            return rs.next() && BACKFILLED_MARKER.equals(rs.getString(1));
+        }
+    }
+
+    /**
+     * Materializes all history up to the refresh policy's end offset into the given continuous aggregate and marks
+     * it as backfilled. {@code refresh_continuous_aggregate} cannot run inside a transaction, so the connection is
+     * switched to auto-commit. This may take a while on large tables.
+     *
+     * @param connection An open JDBC connection.
+     * @param aggregate The continuous aggregate.
+     * @throws SQLException on any database error.
+     */
+    public static void backfill(Connection connection, ContinuousAggregate aggregate) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(SQL_BACKFILL_CONTINUOUS_AGGREGATE.formatted(aggregate.getViewName(),
+                    aggregate.getRefreshEndOffset()));
+            stmt.execute(SQL_MARK_BACKFILLED.formatted(aggregate.getViewName()));
+        }
+        LOGGER.info("Continuous aggregate {} backfilled", aggregate.getViewName());
+    }
 }
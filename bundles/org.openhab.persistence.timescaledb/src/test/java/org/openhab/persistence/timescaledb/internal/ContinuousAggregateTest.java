@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+
+/**
+ * Unit tests for {@link ContinuousAggregate} query routing.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ContinuousAggregateTest {
+
+    private static final Duration THRESHOLD = Duration.ofDays(7);
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2026-06-01T12:00:00Z");
+
+    private static FilterCriteria filter(int days) {
+        var filter = new FilterCriteria();
+        filter.setItemName("Sensor");
+        filter.setBeginDate(NOW.minusDays(days));
+        return filter;
+    }
+
+    @Test
+    void shortrangeUsesrawrows() {
+        assertNull(ContinuousAggregate.forFilter(filter(7), THRESHOLD, NOW));
+    }
+
+    @Test
+    void mediumrangeUseshourlyaggregate() {
+        assertEquals(ContinuousAggregate.HOURLY, ContinuousAggregate.forFilter(filter(31), THRESHOLD, NOW));
+    }
+
+    @Test
+    void longrangeUsesdailyaggregate() {
+        assertEquals(ContinuousAggregate.DAILY, ContinuousAggregate.forFilter(filter(365), THRESHOLD, NOW));
+    }
+
+    @Test
+    void explicitenddateDefinesspan() {
+        FilterCriteria filter = filter(365);
+        filter.setEndDate(NOW.minusDays(360));
+
+        assertNull(ContinuousAggregate.forFilter(filter, THRESHOLD, NOW));
+    }
+
+    @Test
+    void nobegindateOrstatefilterUsesrawrows() {
+        var noBegin = new FilterCriteria();
+        noBegin.setEndDate(NOW);
+        assertNull(ContinuousAggregate.forFilter(noBegin, THRESHOLD, NOW));
+
+        FilterCriteria withState = filter(365);
+        withState.setState(new DecimalType(5));
+        assertNull(ContinuousAggregate.forFilter(withState, THRESHOLD, NOW));
+    }
+
+    @Test
+    void bucketstartTruncatestoutcbucket() {
+        Instant instant = Instant.parse("2026-03-04T05:06:07Z");
+
+        assertEquals(Instant.parse("2026-03-04T05:00:00Z"), ContinuousAggregate.HOURLY.bucketStart(instant));
+        assertEquals(Instant.parse("2026-03-04T00:00:00Z"), ContinuousAggregate.DAILY.bucketStart(instant));
+    }
+}
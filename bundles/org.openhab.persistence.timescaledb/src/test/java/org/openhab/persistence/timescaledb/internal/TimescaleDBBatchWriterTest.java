@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimescaleDBBatchWriter} using a mocked DataSource.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault({ DefaultLocation.RETURN_TYPE, DefaultLocation.PARAMETER })
+@SuppressWarnings("null")
+class TimescaleDBBatchWriterTest {
+
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement preparedStatement;
+    private List<String> resolvedNames;
+    private TimescaleDBBatchWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        preparedStatement = mock(PreparedStatement.class);
+        resolvedNames = new ArrayList<>();
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+
+        writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> {
+            resolvedNames.add(row.name());
+            return row.name().length();
+        }, 3, 4);
+    }
+
+    private static TimescaleDBBatchWriter.PendingRow row(String name, double value) {
+        return new TimescaleDBBatchWriter.PendingRow(name, null, null, null, ZonedDateTime.now(),
+                new TimescaleDBMapper.Row(value, null, null));
+    }
+
+    @Test
+    void addRequestsflushWhenbatchisfull() {
+        assertFalse(writer.add(row("A", 1)));
+        assertFalse(writer.add(row("B", 2)));
+        assertTrue(writer.add(row("C", 3)));
+        assertEquals(3, writer.getPendingRows());
+    }
+
+    @Test
+    void addRequestsflushOnlyonceUntilflushruns() {
+        writer.add(row("A", 1));
+        writer.add(row("B", 2));
+        assertTrue(writer.add(row("C", 3)));
+        assertFalse(writer.add(row("D", 4)));
+        assertFalse(writer.add(row("E", 5)));
+
+        writer.flush();
+
+        writer.add(row("F", 6));
+        writer.add(row("G", 7));
+        assertTrue(writer.add(row("H", 8)));
+    }
+
+    @Test
+    void flushWritesallpendingrowsOnOneconnection() throws Exception {
+        writer.add(row("A", 1));
+        writer.add(row("BB", 2));
+
+        assertEquals(2, writer.flush());
+
+        verify(dataSource, times(1)).getConnection();
+        verify(connection, times(1)).prepareStatement(anyString());
+        verify(preparedStatement).setInt(2, 1);
+        verify(preparedStatement).setInt(7, 2);
+        assertEquals(List.of("A", "BB"), resolvedNames);
+        assertEquals(0, writer.getPendingRows());
+        assertEquals(2, writer.getWrittenRows());
+    }
+
+    @Test
+    void flushWithoutpendingrowsDoesnottouchdatabase() throws Exception {
+        assertEquals(0, writer.flush());
+
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    void failedflushKeepsrowsAndDropsoverflow() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("down")).thenReturn(connection);
+        writer.add(row("A", 1));
+        writer.add(row("B", 2));
+        writer.add(row("C", 3));
+
+        assertEquals(0, writer.flush());
+        assertEquals(3, writer.getPendingRows());
+
+        writer.add(row("D", 4));
+        writer.add(row("E", 5));
+        assertEquals(4, writer.getPendingRows());
+        assertEquals(1, writer.getDroppedRows());
+
+        assertEquals(4, writer.flush());
+        assertEquals(List.of("A", "B", "C", "D"), resolvedNames);
+    }
+
+    @Test
+    void rejectedRowIsDroppedAndOthersAreWritten() throws Exception {
+        SQLException poison = new SQLException("invalid byte sequence for encoding \"UTF8\": 0x00", "22021");
+        // the batch fails, then the rows are written one by one and only the second row is rejected again
+        when(preparedStatement.executeUpdate()).thenThrow(poison).thenReturn(1).thenThrow(poison).thenReturn(1);
+        writer.add(row("A", 1));
+        writer.add(row("B", 2));
+        writer.add(row("C", 3));
+
+        assertEquals(2, writer.flush());
+
+        verify(preparedStatement, times(4)).executeUpdate();
+        assertEquals(0, writer.getPendingRows());
+        assertEquals(2, writer.getWrittenRows());
+        assertEquals(1, writer.getRejectedRows());
+        assertEquals(0, writer.getDroppedRows());
+    }
+
+    @Test
+    void connectionFailureIsNoDataError() {
+        assertTrue(TimescaleDBBatchWriter.isDataError(new SQLException("duplicate key", "23505")));
+        assertFalse(TimescaleDBBatchWriter.isDataError(new SQLException("connection refused", "08001")));
+    }
+}
@@ -20,10 +20,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.jdt.annotation.DefaultLocation;
@@ -787,6 +791,62 @@ class TimescaleDBContainerTest {
         assertTrue(job.isCancelled(), "Job must be cancelled after deactivate()");
     }
 
+    @Test
+    @Order(73)
+    void serviceQueryOlderThanRefreshWindowReadsBackfilledAggregate() throws Exception {
+        MetadataRegistry mr = mock(MetadataRegistry.class);
+        when(mr.getAll()).thenReturn(Collections.emptyList());
+        ItemRegistry ir = mock(ItemRegistry.class);
+        NumberItem item = new NumberItem("HistorySensor");
+        when(ir.getItem("HistorySensor")).thenReturn(item);
+        Map<String, Object> config = Map.of("url", DB.getJdbcUrl(), "user", DB.getUsername(), "password",
+                DB.getPassword());
+        ZonedDateTime hour = ZonedDateTime.now().minusDays(30).truncatedTo(ChronoUnit.HOURS);
+
+        // history written before continuous aggregates were enabled, far outside the refresh policies' window
+        TimescaleDBPersistenceService plain = new TimescaleDBPersistenceService(ir, mr,
+                new TimescaleDBMetadataService(mr));
+        plain.activate(config);
+        try {
+            plain.store(item, hour.plusMinutes(10), new DecimalType(10), null);
+            plain.store(item, hour.plusMinutes(20), new DecimalType(30), null);
+            plain.store(item, hour.plusMinutes(30), new DecimalType(20), null);
+        } finally {
+            plain.deactivate();
+        }
+
+        TimescaleDBPersistenceService service = new TimescaleDBPersistenceService(ir, mr,
+                new TimescaleDBMetadataService(mr));
+        Map<String, Object> aggregateConfig = new HashMap<>(config);
+        aggregateConfig.put("continuousAggregates", "true");
+        service.activate(aggregateConfig);
+        try {
+            var backfillField = TimescaleDBPersistenceService.class.getDeclaredField("backfillJob");
+            backfillField.setAccessible(true);
+            ((Future<?>) backfillField.get(service)).get(60, TimeUnit.SECONDS);
+
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName("HistorySensor");
+            filter.setBeginDate(ZonedDateTime.now().minusDays(60));
+            filter.setEndDate(ZonedDateTime.now());
+            filter.setOrdering(Ordering.ASCENDING);
+            List<HistoricItem> results = StreamSupport.stream(service.query(filter).spliterator(), false).toList();
+
+            // average of the backfilled hourly bucket
+            assertEquals(1, results.size(), "Old history must be materialized into the aggregate");
+            assertEquals(hour.toInstant(), results.get(0).getTimestamp().toInstant());
+            assertEquals(20.0, ((DecimalType) results.get(0).getState()).doubleValue(), 1e-6);
+
+            try (Connection conn = dataSource.getConnection()) {
+                for (ContinuousAggregate aggregate : ContinuousAggregate.values()) {
+                    assertTrue(TimescaleDBSchema.isBackfilled(conn, aggregate));
+                }
+            }
+        } finally {
+            service.deactivate();
+        }
+    }
+
     // ------------------------------------------------------------------
     // Helpers
     // ------------------------------------------------------------------
@@ -107,6 +107,51 @@ class TimescaleDBQueryTest {
         verify(preparedStatement).setNull(eq(3), anyInt());
     }
 
+    // ------------------------------------------------------------------
+    // insertBatch
+    // ------------------------------------------------------------------
+
+    @Test
+    void insertBatchWritesallrowsinonestatement() throws Exception {
+        var capturedSql = new java.util.ArrayList<String>();
+        when(connection.prepareStatement(anyString())).thenAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return preparedStatement;
+        });
+        when(preparedStatement.executeUpdate()).thenReturn(2);
+        ZonedDateTime now = ZonedDateTime.now();
+
+        int inserted = TimescaleDBQuery.insertBatch(connection,
+                List.of(new TimescaleDBQuery.BatchRow(1, now, new TimescaleDBMapper.Row(1.5, null, "W")),
+                        new TimescaleDBQuery.BatchRow(2, now, new TimescaleDBMapper.Row(null, "text", null))));
+
+        assertEquals(2, inserted);
+        assertEquals(1, capturedSql.size());
+        assertTrue(capturedSql.get(0).contains("(?, ?, ?, ?, ?), (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING"));
+        verify(preparedStatement).setInt(2, 1);
+        verify(preparedStatement).setDouble(3, 1.5);
+        verify(preparedStatement).setString(5, "W");
+        verify(preparedStatement).setInt(7, 2);
+        verify(preparedStatement).setNull(eq(8), anyInt());
+        verify(preparedStatement).setString(9, "text");
+        verify(preparedStatement).executeUpdate();
+    }
+
+    @Test
+    void insertBatchSplitslargebatches() throws Exception {
+        ZonedDateTime now = ZonedDateTime.now();
+        var rows = new java.util.ArrayList<TimescaleDBQuery.BatchRow>();
+        for (int i = 0; i < TimescaleDBQuery.MAX_ROWS_PER_INSERT + 1; i++) {
+            rows.add(new TimescaleDBQuery.BatchRow(1, now.plusSeconds(i), new TimescaleDBMapper.Row(1.0, null, null)));
+        }
+
+        TimescaleDBQuery.insertBatch(connection, rows);
+
+        verify(connection).prepareStatement(TimescaleDBQuery.buildMultiInsertSql(TimescaleDBQuery.MAX_ROWS_PER_INSERT));
+        verify(connection).prepareStatement(TimescaleDBQuery.buildMultiInsertSql(1));
+        verify(preparedStatement, times(2)).executeUpdate();
+    }
+
     // ------------------------------------------------------------------
     // getOrCreateItemId — UPSERT behaviour
     // ------------------------------------------------------------------
@@ -225,6 +270,79 @@ class TimescaleDBQueryTest {
         assertEquals(OnOffType.ON, result.get(0).getState());
     }
 
+    // ------------------------------------------------------------------
+    // queryAggregate
+    // ------------------------------------------------------------------
+
+    @Test
+    void queryAggregateReadsviewAndAlignsbegintobucket() throws Exception {
+        var capturedSql = new java.util.ArrayList<String>();
+        when(connection.prepareStatement(anyString())).thenAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return preparedStatement;
+        });
+        Instant bucket = Instant.parse("2026-01-01T10:00:00Z");
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getTimestamp(1)).thenReturn(Timestamp.from(bucket));
+        when(resultSet.getObject(2)).thenReturn(21.25);
+        when(resultSet.getString(3)).thenReturn("°C");
+
+        var filter = new FilterCriteria();
+        filter.setItemName("TempSensor");
+        filter.setBeginDate(ZonedDateTime.parse("2026-01-01T10:35:00Z"));
+        filter.setEndDate(ZonedDateTime.parse("2026-02-01T00:00:00Z"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        List<HistoricItem> result = TimescaleDBQuery.queryAggregate(connection, new NumberItem("TempSensor"), 4,
+                filter, ContinuousAggregate.HOURLY);
+
+        String sql = capturedSql.get(0);
+        assertTrue(sql.contains("FROM items_hourly"));
+        assertTrue(sql.contains("ORDER BY bucket ASC"));
+        verify(preparedStatement).setObject(1, 4);
+        verify(preparedStatement).setObject(2, Timestamp.from(bucket));
+        assertEquals(1, result.size());
+        assertEquals("21.25 °C", result.get(0).getState().toString());
+        assertEquals(bucket, result.get(0).getTimestamp().toInstant());
+    }
+
+    @Test
+    void queryAggregateReturnsOneAveragePerBucketAndPagesInSql() throws Exception {
+        var capturedSql = new java.util.ArrayList<String>();
+        when(connection.prepareStatement(anyString())).thenAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return preparedStatement;
+        });
+        Instant first = Instant.parse("2026-01-02T00:00:00Z");
+        Instant second = Instant.parse("2026-01-01T00:00:00Z");
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getTimestamp(1)).thenReturn(Timestamp.from(first), Timestamp.from(second));
+        when(resultSet.getObject(2)).thenReturn(20.0, 15.0);
+        when(resultSet.getString(3)).thenReturn(null, (String) null);
+
+        var filter = new FilterCriteria();
+        filter.setItemName("Power");
+        filter.setBeginDate(ZonedDateTime.parse("2025-06-01T00:00:00Z"));
+        filter.setEndDate(ZonedDateTime.parse("2026-01-03T00:00:00Z"));
+        filter.setOrdering(Ordering.DESCENDING);
+        filter.setPageSize(2);
+        filter.setPageNumber(3);
+
+        List<HistoricItem> result = TimescaleDBQuery.queryAggregate(connection, new NumberItem("Power"), 4, filter,
+                ContinuousAggregate.DAILY);
+
+        String sql = capturedSql.get(0);
+        assertTrue(sql.contains("SELECT bucket, avg_value, unit FROM items_daily"));
+        assertTrue(sql.endsWith("ORDER BY bucket DESC LIMIT ? OFFSET ?"));
+        verify(preparedStatement).setObject(4, 2);
+        verify(preparedStatement).setObject(5, 6L);
+        assertEquals(2, result.size());
+        assertEquals(new DecimalType(20.0), result.get(0).getState());
+        assertEquals(first, result.get(0).getTimestamp().toInstant());
+        assertEquals(new DecimalType(15.0), result.get(1).getState());
+        assertEquals(second, result.get(1).getTimestamp().toInstant());
+    }
+
     // ------------------------------------------------------------------
     // query — SQL construction
     // ------------------------------------------------------------------
@@ -150,6 +150,64 @@ class TimescaleDBSchemaTest {
         assertFalse(hasCompress, "Should not add compression policy when compressionAfterDays=0");
     }
 
+    @Test
+    void initializeWithcontinuousaggregatesCreatesviewsandpolicies() throws SQLException {
+        var capturedSql = new java.util.ArrayList<String>();
+        doAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return false;
+        }).when(statement).execute(anyString());
+
+        TimescaleDBSchema.initialize(connection, "7 days", 0, 0, true);
+
+        for (ContinuousAggregate aggregate : ContinuousAggregate.values()) {
+            assertTrue(capturedSql.stream()
+                    .anyMatch(s -> s.contains("CREATE MATERIALIZED VIEW IF NOT EXISTS " + aggregate.getViewName())
+                            && s.contains("timescaledb.continuous")
+                            && s.contains("time_bucket('" + aggregate.getBucketWidth() + "', time)")),
+                    "Should create continuous aggregate " + aggregate.getViewName());
+            assertTrue(capturedSql.stream().anyMatch(s -> s.contains("add_continuous_aggregate_policy('"
+                    + aggregate.getViewName() + "'") && s.contains("if_not_exists => TRUE")),
+                    "Should add refresh policy for " + aggregate.getViewName());
+        }
+    }
+
+    @Test
+    void backfillRefreshesWholeHistoryAndMarksView() throws SQLException {
+        TimescaleDBSchema.backfill(connection, ContinuousAggregate.HOURLY);
+
+        verify(connection).setAutoCommit(true);
+        verify(statement).execute("CALL refresh_continuous_aggregate('items_hourly', NULL, now() - INTERVAL '"
+                + ContinuousAggregate.HOURLY.getRefreshEndOffset() + "')");
+        verify(statement).execute(
+                "COMMENT ON MATERIALIZED VIEW items_hourly IS '" + TimescaleDBSchema.BACKFILLED_MARKER + "'");
+    }
+
+    @Test
+    void isBackfilledReadsViewComment() throws SQLException {
+        ResultSet commentResultSet = mock(ResultSet.class);
+        when(statement.executeQuery(contains("obj_description('items_daily'"))).thenReturn(commentResultSet);
+        when(commentResultSet.next()).thenReturn(true);
+        when(commentResultSet.getString(1)).thenReturn(null, TimescaleDBSchema.BACKFILLED_MARKER);
+
+        assertFalse(TimescaleDBSchema.isBackfilled(connection, ContinuousAggregate.DAILY));
+        assertTrue(TimescaleDBSchema.isBackfilled(connection, ContinuousAggregate.DAILY));
+    }
+
+    @Test
+    void initializeWithoutcontinuousaggregatesNoviewddl() throws SQLException {
+        var capturedSql = new java.util.ArrayList<String>();
+        doAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return false;
+        }).when(statement).execute(anyString());
+
+        TimescaleDBSchema.initialize(connection, "7 days", 0, 0);
+
+        assertFalse(capturedSql.stream().anyMatch(s -> s.contains("MATERIALIZED VIEW")),
+                "Should not create continuous aggregates unless enabled");
+    }
+
     @Test
     void initializeWithretentionpolicySendsretentionddl() throws SQLException {
         var capturedSql = new java.util.ArrayList<String>();
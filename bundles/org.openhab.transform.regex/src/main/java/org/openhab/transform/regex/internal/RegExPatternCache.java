@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link RegExPatternCache} is a bounded, thread-safe cache of compiled regular expressions. When it is full,
+ * the least recently used entry is removed. Expressions are compiled outside the lock, so a slow compilation does not
+ * block lookups of other expressions.
+ *
+ * @param <V> the type of the compiled expression
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RegExPatternCache<V> {
+
+    private final int maxSize;
+    private final Map<String, V> cache;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public RegExPatternCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, V> eldest) {
+                if (size() > RegExPatternCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the compiled form of an expression, compiling it if it is not cached yet
+     *
+     * @param expression the expression
+     * @param compiler the function compiling the expression, exceptions are passed to the caller
+     * @return the compiled expression
+     */
+    public V get(String expression, Function<String, V> compiler) {
+        synchronized (cache) {
+            V compiled = cache.get(expression);
+            if (compiled != null) {
+                hits++;
+                return compiled;
+            }
+            misses++;
+        }
+        V compiled = compiler.apply(expression);
+        synchronized (cache) {
+            cache.putIfAbsent(expression, compiled);
+        }
+        return compiled;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHits() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    public long getEvictions() {
+        synchronized (cache) {
+            return evictions;
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (cache) {
+            return "RegExPatternCache [size=" + cache.size() + ", maxSize=" + maxSize + ", hits=" + hits + ", misses="
+                    + misses + ", evictions=" + evictions + "]";
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +40,9 @@ public class RegExTransformationService implements TransformationService {
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int PATTERN_CACHE_SIZE = 256;
+
+    private final RegExPatternCache<CompiledRegEx> patternCache = new RegExPatternCache<>(PATTERN_CACHE_SIZE);
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -50,23 +54,19 @@ public class RegExTransformationService implements TransformationService {
 
         String result = "";
 
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        CompiledRegEx compiled = patternCache.get(regExpression, this::compile);
+        if (compiled instanceof SubstitutionRegEx substitution) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+            Matcher substMatcher = substitution.pattern().matcher(source.trim());
+            if (substitution.global()) {
+                result = substMatcher.replaceAll(substitution.replacement());
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
+                result = substMatcher.replaceFirst(substitution.replacement());
             }
+            return result;
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = compiled.pattern().matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
@@ -94,4 +94,37 @@ public class RegExTransformationService implements TransformationService {
 
         return result;
     }
+
+    @Deactivate
+    public void deactivate() {
+        logger.debug("Pattern cache statistics: {} cached, {} hits, {} misses, {} evictions", patternCache.size(),
+                patternCache.getHits(), patternCache.getMisses(), patternCache.getEvictions());
+        patternCache.clear();
+    }
+
+    RegExPatternCache<CompiledRegEx> getPatternCache() {
+        return patternCache;
+    }
+
+    private CompiledRegEx compile(String regExpression) {
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            return new SubstitutionRegEx(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        }
+        return new MatchRegEx(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL));
+    }
+
+    /**
+     * The compiled form of a regular expression, either a match with a capture group or a substitution
+     */
+    sealed interface CompiledRegEx permits MatchRegEx, SubstitutionRegEx {
+        Pattern pattern();
+    }
+
+    private record MatchRegEx(Pattern pattern) implements CompiledRegEx {
+    }
+
+    private record SubstitutionRegEx(Pattern pattern, String replacement, boolean global) implements CompiledRegEx {
+    }
 }
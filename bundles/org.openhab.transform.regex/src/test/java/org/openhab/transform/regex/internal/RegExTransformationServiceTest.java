@@ -75,4 +75,33 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_patternsAreCached() throws TransformationException {
+        assertEquals("SetMode(42)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:42"));
+        assertEquals("Reset()", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:Reset,ARG:"));
+        assertEquals("8", processor.transform(".*?<temp_c data=\"(.*?)\".*", source));
+        assertEquals("8", processor.transform(".*?<temp_c data=\"(.*?)\".*", source));
+
+        RegExPatternCache<?> cache = processor.getPatternCache();
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void testPatternCache_evictsLeastRecentlyUsed() {
+        RegExPatternCache<String> cache = new RegExPatternCache<>(2);
+        cache.get("a", String::toUpperCase);
+        cache.get("b", String::toUpperCase);
+        cache.get("a", String::toUpperCase);
+        cache.get("c", String::toUpperCase);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        // "b" was evicted and has to be compiled again
+        cache.get("b", String::toUpperCase);
+        assertEquals(4, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
 }
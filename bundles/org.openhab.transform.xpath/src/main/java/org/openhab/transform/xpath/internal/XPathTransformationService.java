@@ -13,12 +13,17 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.xpath.XPath;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,56 +40,114 @@ import org.xml.sax.InputSource;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * <p>
+ * Compiled expressions are cached and document builders are reused. Neither is thread-safe, so an expression is only
+ * evaluated by one thread at a time and each builder is used by one thread until it is returned to the pool.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
-    private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
+    private static final int EXPRESSION_CACHE_SIZE = 256;
+    private static final int MAX_IDLE_BUILDERS = 8;
 
-    @Override
-    public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
-        if (xpathExpression == null || source == null) {
-            throw new TransformationException("the given parameters 'xpath' and 'source' must not be null");
-        }
+    private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
-        logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
+    private final DocumentBuilderFactory domFactory;
+    private final XPathFactory xpathFactory = XPathFactory.newInstance();
+    private final Queue<DocumentBuilder> idleBuilders = new ConcurrentLinkedQueue<>();
+    private final Map<String, XPathExpression> expressionCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
 
-        StringReader stringReader = null;
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, XPathExpression> eldest) {
+            return size() > EXPRESSION_CACHE_SIZE;
+        }
+    };
 
+    public XPathTransformationService() {
+        domFactory = DocumentBuilderFactory.newInstance();
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
             // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
             domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
             domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
             domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            domFactory.setXIncludeAware(false);
-            domFactory.setExpandEntityReferences(false);
-            domFactory.setNamespaceAware(true);
-            domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("XML parser does not support disabling external entities", e);
+        }
+        domFactory.setXIncludeAware(false);
+        domFactory.setExpandEntityReferences(false);
+        domFactory.setNamespaceAware(true);
+        domFactory.setValidating(false);
+    }
+
+    @Override
+    public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
+        if (xpathExpression == null || source == null) {
+            throw new TransformationException("the given parameters 'xpath' and 'source' must not be null");
+        }
 
-            stringReader = new StringReader(source);
+        logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
+
+        try (StringReader stringReader = new StringReader(source)) {
             InputSource inputSource = new InputSource(stringReader);
             inputSource.setEncoding("UTF-8");
 
-            Document doc = builder.parse(inputSource);
-
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
+            Document doc = parse(inputSource);
 
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            XPathExpression expr = getExpression(xpathExpression);
+            String transformationResult;
+            synchronized (expr) {
+                transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            }
 
             logger.debug("transformation resulted in '{}'", transformationResult);
 
             return transformationResult;
         } catch (Exception e) {
             throw new TransformationException("transformation throws exceptions", e);
+        }
+    }
+
+    private Document parse(InputSource inputSource) throws Exception {
+        DocumentBuilder builder = idleBuilders.poll();
+        if (builder == null) {
+            synchronized (domFactory) {
+                builder = domFactory.newDocumentBuilder();
+            }
+        }
+        try {
+            return builder.parse(inputSource);
         } finally {
-            if (stringReader != null) {
-                stringReader.close();
+            builder.reset();
+            if (idleBuilders.size() < MAX_IDLE_BUILDERS) {
+                idleBuilders.offer(builder);
             }
         }
     }
+
+    private XPathExpression getExpression(String xpathExpression) throws XPathExpressionException {
+        synchronized (expressionCache) {
+            XPathExpression expr = expressionCache.get(xpathExpression);
+            if (expr != null) {
+                return expr;
+            }
+        }
+        XPathExpression expr;
+        synchronized (xpathFactory) {
+            expr = xpathFactory.newXPath().compile(xpathExpression);
+        }
+        synchronized (expressionCache) {
+            XPathExpression cached = expressionCache.putIfAbsent(xpathExpression, expr);
+            return cached != null ? cached : expr;
+        }
+    }
+
+    int getCachedExpressionCount() {
+        synchronized (expressionCache) {
+            return expressionCache.size();
+        }
+    }
 }
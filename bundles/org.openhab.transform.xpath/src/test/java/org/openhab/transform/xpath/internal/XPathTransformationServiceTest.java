@@ -38,4 +38,20 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testCompiledExpressionsAreReused() throws TransformationException {
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+
+        assertEquals(2, processor.getCachedExpressionCount());
+    }
+
+    @Test
+    public void testInvalidSourceDoesNotBreakLaterTransformations() {
+        assertThrows(TransformationException.class,
+                () -> processor.transform("//current_conditions/temp_c/@data", "<no xml"));
+        assertDoesNotThrow(() -> assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source)));
+    }
 }
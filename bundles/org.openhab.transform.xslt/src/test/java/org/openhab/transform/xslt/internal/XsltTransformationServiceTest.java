@@ -19,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +55,22 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testChangedStylesheetIsRecompiled() throws TransformationException, IOException {
+        Path stylesheet = transformHttpPath.resolve("google_weather_changed.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), stylesheet,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals("8", processor.transform("http/google_weather_changed.xsl", source));
+        assertEquals("8", processor.transform("http/google_weather_changed.xsl", source));
+        assertEquals(1, processor.getCachedTemplatesCount());
+
+        Files.writeString(stylesheet, Files.readString(stylesheet).replace("temp_c", "temp_f"));
+        Files.setLastModifiedTime(stylesheet,
+                FileTime.fromMillis(Files.getLastModifiedTime(stylesheet).toMillis() + 10000));
+
+        assertEquals("46", processor.transform("http/google_weather_changed.xsl", source));
+        assertEquals(1, processor.getCachedTemplatesCount());
+    }
 }